@@ -0,0 +1,37 @@
+package com.logging.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada dos benchmarks. Executa os benchmarks selecionados pela
+ * linha de comando (mesma sintaxe do JMH) sempre com o {@link GCProfiler},
+ * reportando a taxa de alocação junto ao throughput.
+ * <p>
+ * Uso: {@code mvn install} na raiz, {@code mvn package} em
+ * {@code benchmarks} e {@code java -jar target/benchmarks.jar [regex]}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class BenchmarkRunner {
+
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private BenchmarkRunner() {}
+	
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		
+		new Runner(new OptionsBuilder()
+				.parent(commandLineOptions)
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,98 @@
+package com.logging.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.logging.appender.CompressedBlockAppender;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.context.LoggingContext;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Mede o custo de CPU da compressão de um bloco de payloads JSON pelo
+ * {@link CompressedBlockAppender} em cada nível de deflate. A taxa de
+ * compressão de cada nível é impressa no setup; o custo por MB é obtido
+ * dividindo o tempo médio pelo tamanho do bloco.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BlockCompressionBenchmark {
+	
+	private static final int BLOCK_SIZE = 256 * 1024;
+	
+	@Param({ "1", "6", "9" })
+	private int compressionLevel;
+	
+	private byte[] block;
+	
+	private byte[] compressed;
+	
+	private Deflater deflater;
+	
+	@Setup
+	public void setup() throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream(BLOCK_SIZE);
+		
+		for (int i = 0; output.size() < BLOCK_SIZE; i++) {
+			PayloadLogModel payloadLogModel = new LoggingContext("benchmark").getPayloadLogModel();
+			payloadLogModel.addRequestHeader("X-Request-Id", "req-" + i);
+			payloadLogModel.addRequestBody(BenchmarkSupport.body(i % 10));
+			payloadLogModel.addRequestUri("/api/v1/orders/" + i);
+			payloadLogModel.addResponseStatus(i % 7 == 0 ? 404 : 200);
+			BenchmarkSupport.addSteps(payloadLogModel, i % 4);
+			payloadLogModel.finish();
+			
+			LoggingObjectWriters.compactWriter().writeValue(output, payloadLogModel);
+			output.write('\n');
+		}
+		
+		block = output.toByteArray();
+		compressed = new byte[block.length * 2];
+		deflater = new Deflater(compressionLevel);
+		
+		System.out.printf("%ndeflate %d: %d -> %d bytes (%.1fx)%n", compressionLevel, block.length, compress(), (double) block.length / compress());
+	}
+	
+	@TearDown
+	public void tearDown() {
+		deflater.end();
+	}
+	
+	@Benchmark
+	public int compress() {
+		deflater.reset();
+		deflater.setInput(block);
+		deflater.finish();
+		
+		int length = 0;
+		
+		while (!deflater.finished()) {
+			length += deflater.deflate(compressed, length, compressed.length - length);
+		}
+		
+		return length;
+	}
+}
@@ -0,0 +1,153 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.logging.component.LoggingComponent;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.context.LoggingContextPool;
+import com.logging.filter.LoggingFilter;
+
+/**
+ * Compara a captura automática de bodies pelo {@link LoggingFilter} (streams
+ * com cópia limitada) com o encapsulamento pelos wrappers de cache do Spring,
+ * que armazenam os bodies completos e são convertidos para objetos antes do
+ * log. Sem campos sensíveis ({@code masking=false}) os bytes capturados são
+ * embutidos diretamente; com campos sensíveis, copiados token a token. A taxa de alocação por operação é obtida executando com
+ * {@code -prof gc}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BodyCaptureBenchmark {
+	
+	/**
+	 * Estratégia de captura dos bodies.
+	 */
+	public enum Capture {
+		NONE,
+		CONTENT_CACHING,
+		TEE
+	}
+	
+	@Param({ "NONE", "CONTENT_CACHING", "TEE" })
+	private Capture capture;
+	
+	@Param({ "10", "200" })
+	private int bodySize;
+	
+	@Param({ "false", "true" })
+	private boolean pool;
+	
+	@Param({ "false", "true" })
+	private boolean masking;
+	
+	private AnnotationConfigApplicationContext context;
+	
+	private LoggingFilter loggingFilter;
+	
+	private MockHttpServletRequest request;
+	
+	private byte[] content;
+	
+	private FilterChain chain;
+	
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("app.logging.body.captura.habilitado", String.valueOf(capture == Capture.TEE));
+		properties.put("app.logging.body.captura.limite-bytes", "65536");
+		properties.put("app.logging.body.campos-sensiveis", masking ? "document,cardNumber" : "");
+		properties.put("app.logging.pool.habilitado", String.valueOf(pool));
+		
+		context = BenchmarkSupport.createContext(properties);
+		BenchmarkSupport.discardPayloadLogs();
+		
+		loggingFilter = context.getBean(LoggingFilter.class);
+		content = LoggingObjectWriters.compactWriter().writeValueAsBytes(BenchmarkSupport.body(bodySize));
+		
+		request = BenchmarkSupport.request(10);
+		request.setContentType("application/json");
+		
+		LoggingComponent loggingComponent = context.getBean(LoggingComponent.class);
+		FilterChain application = (req, res) -> {
+			byte[] buffer = new byte[4096];
+			ServletInputStream inputStream = req.getInputStream();
+			
+			while(inputStream.read(buffer, 0, buffer.length) >= 0) {
+				// consome o body
+			}
+			
+			HttpServletResponse httpServletResponse = (HttpServletResponse) res;
+			httpServletResponse.setStatus(200);
+			httpServletResponse.setContentType("application/json");
+			httpServletResponse.getOutputStream().write(content);
+		};
+		
+		if(capture != Capture.CONTENT_CACHING) {
+			chain = application;
+			return;
+		}
+		
+		chain = (req, res) -> {
+			ContentCachingRequestWrapper cachingRequest = new ContentCachingRequestWrapper((HttpServletRequest) req);
+			ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper((HttpServletResponse) res);
+			
+			application.doFilter(cachingRequest, cachingResponse);
+			
+			loggingComponent.addRequestBody(LoggingObjectWriters.reader().readTree(cachingRequest.getContentAsByteArray()));
+			loggingComponent.addResponseBody(LoggingObjectWriters.reader().readTree(cachingResponse.getContentAsByteArray()));
+			cachingResponse.copyBodyToResponse();
+		};
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+		LoggingContextPool.configurar(false, 0, null);
+	}
+	
+	@Benchmark
+	public MockHttpServletResponse doFilter() throws IOException, ServletException {
+		request.setContent(content);
+		
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		loggingFilter.doFilter(request, response, chain);
+		
+		return response;
+	}
+}
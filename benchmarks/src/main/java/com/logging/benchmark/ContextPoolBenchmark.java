@@ -0,0 +1,113 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.logging.component.LoggingComponent;
+import com.logging.context.LoggingContextPool;
+import com.logging.filter.LoggingFilter;
+import com.logging.metrics.LoggingMetrics;
+
+/**
+ * Compara o ciclo completo de uma requisição (criação do contexto, captura,
+ * emissão e liberação) com e sem o {@link LoggingContextPool}. A taxa de
+ * alocação por operação é obtida executando com {@code -prof gc}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class ContextPoolBenchmark {
+	
+	@Param({ "false", "true" })
+	private boolean pool;
+	
+	@Param({ "0", "20" })
+	private int stepCount;
+	
+	private AnnotationConfigApplicationContext context;
+	
+	private LoggingFilter loggingFilter;
+	
+	private FilterChain chain;
+	
+	@State(Scope.Thread)
+	public static class ThreadState {
+		
+		private final MockHttpServletRequest request = BenchmarkSupport.request(10);
+	}
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("app.logging.pool.habilitado", String.valueOf(pool));
+		
+		context = BenchmarkSupport.createContext(properties);
+		BenchmarkSupport.discardPayloadLogs();
+		
+		loggingFilter = context.getBean(LoggingFilter.class);
+		
+		LoggingComponent loggingComponent = context.getBean(LoggingComponent.class);
+		SampleBody body = BenchmarkSupport.body(10);
+		
+		chain = (req, res) -> {
+			loggingComponent.addRequestBody(body);
+			loggingComponent.addResponseBody(body);
+			
+			for (int i = 0; i < stepCount; i++) {
+				loggingComponent.addInternalStepLog("step", org.slf4j.event.Level.INFO, ContextPoolBenchmark.class);
+			}
+			
+			((HttpServletResponse) res).setStatus(200);
+		};
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		System.out.println();
+		System.out.println("pool reused=" + LoggingMetrics.getPoolReused()
+				+ " allocated=" + LoggingMetrics.getPoolAllocated()
+				+ " stale=" + LoggingMetrics.getStalePayloads());
+		context.close();
+		LoggingContextPool.configurar(false, 0, null);
+	}
+	
+	@Benchmark
+	public MockHttpServletResponse doFilter(ThreadState state) throws IOException, ServletException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		loggingFilter.doFilter(state.request, response, chain);
+		
+		return response;
+	}
+}
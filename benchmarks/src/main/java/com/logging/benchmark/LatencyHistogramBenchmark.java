@@ -0,0 +1,49 @@
+package com.logging.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.logging.metrics.LatencyHistogram;
+
+/**
+ * Mede a gravação concorrente no {@link LatencyHistogram}. A alocação por
+ * operação, reportada pelo profiler de GC, deve ser zero.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LatencyHistogramBenchmark {
+	
+	private LatencyHistogram histogram;
+	
+	@Setup
+	public void setup() {
+		histogram = new LatencyHistogram("benchmark");
+	}
+	
+	@Benchmark
+	public void record() {
+		long nanos = ThreadLocalRandom.current().nextLong(1_000L, 50_000_000L);
+		histogram.record(nanos, false);
+	}
+}
@@ -0,0 +1,72 @@
+package com.logging.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.logging.context.LoggingContext;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Mede a emissão de um payload já capturado através de
+ * {@link LoggingContext#logPayloadLogModel()}, com a saída descartada.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LogPayloadBenchmark {
+	
+	@Param({ "5", "20", "50" })
+	private int headerCount;
+	
+	@Param({ "0", "10", "100" })
+	private int bodySize;
+	
+	@Param({ "0", "10", "100" })
+	private int stepCount;
+	
+	private LoggingContext loggingContext;
+	
+	@Setup
+	public void setup() {
+		BenchmarkSupport.discardPayloadLogs();
+		
+		loggingContext = new LoggingContext("benchmark");
+		PayloadLogModel payloadLogModel = loggingContext.getPayloadLogModel();
+		
+		for (int i = 0; i < headerCount; i++) {
+			payloadLogModel.addRequestHeader("X-Header-" + i, "value-" + i);
+		}
+		
+		if(bodySize > 0) {
+			payloadLogModel.addRequestBody(BenchmarkSupport.body(bodySize));
+		}
+		
+		BenchmarkSupport.addSteps(payloadLogModel, stepCount);
+		payloadLogModel.addRequestUri("/api/v1/orders/42");
+		payloadLogModel.addResponseStatus(200);
+		payloadLogModel.finish();
+	}
+	
+	@Benchmark
+	public void logPayloadLogModel() {
+		loggingContext.logPayloadLogModel();
+	}
+}
@@ -0,0 +1,99 @@
+package com.logging.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.logging.component.LoggingComponent;
+import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextFactory;
+
+/**
+ * Mede o custo de captura dos dados de request e response pelo
+ * {@link LoggingComponent}, incluindo a criação e liberação do contexto.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingComponentBenchmark {
+	
+	@Param({ "5", "20", "50" })
+	private int headerCount;
+	
+	private AnnotationConfigApplicationContext context;
+	
+	private LoggingComponent loggingComponent;
+	
+	private MockHttpServletRequest request;
+	
+	private MockHttpServletResponse response;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		context = BenchmarkSupport.createContext(Collections.emptyMap());
+		loggingComponent = context.getBean(LoggingComponent.class);
+		request = BenchmarkSupport.request(headerCount);
+		
+		response = new MockHttpServletResponse();
+		response.setStatus(200);
+		
+		for (int i = 0; i < headerCount; i++) {
+			response.addHeader("X-Response-Header-" + i, "value-" + i);
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public LoggingContext addRequest() {
+		LoggingContext loggingContext = LoggingContextFactory.build(request);
+		
+		try {
+			loggingComponent.addRequest(request);
+			return loggingContext;
+		}
+		finally {
+			LoggingContextFactory.release(loggingContext);
+		}
+	}
+	
+	@Benchmark
+	public LoggingContext addRequestAndResponse() {
+		LoggingContext loggingContext = LoggingContextFactory.build(request);
+		
+		try {
+			loggingComponent.addRequest(request);
+			loggingComponent.addResponse(response);
+			return loggingContext;
+		}
+		finally {
+			LoggingContextFactory.release(loggingContext);
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.logging.component.LoggingComponent;
+import com.logging.filter.LoggingFilter;
+
+/**
+ * Mede o custo completo de captura e emissão de uma requisição através do
+ * {@link LoggingFilter}, com objetos servlet simulados.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingFilterBenchmark {
+	
+	@Param({ "5", "20", "50" })
+	private int headerCount;
+	
+	@Param({ "0", "10", "100" })
+	private int bodySize;
+	
+	@Param({ "0", "10", "100" })
+	private int stepCount;
+	
+	private AnnotationConfigApplicationContext context;
+	
+	private LoggingFilter loggingFilter;
+	
+	private MockHttpServletRequest request;
+	
+	private FilterChain chain;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		context = BenchmarkSupport.createContext(Collections.emptyMap());
+		BenchmarkSupport.discardPayloadLogs();
+		
+		loggingFilter = context.getBean(LoggingFilter.class);
+		request = BenchmarkSupport.request(headerCount);
+		
+		LoggingComponent loggingComponent = context.getBean(LoggingComponent.class);
+		SampleBody body = bodySize > 0 ? BenchmarkSupport.body(bodySize) : null;
+		
+		chain = (req, res) -> {
+			if(body != null) {
+				loggingComponent.addRequestBody(body);
+				loggingComponent.addResponseBody(body);
+			}
+			
+			for (int i = 0; i < stepCount; i++) {
+				loggingComponent.addInternalStepLog("step", org.slf4j.event.Level.INFO, LoggingFilterBenchmark.class);
+			}
+			
+			HttpServletResponse httpServletResponse = (HttpServletResponse) res;
+			httpServletResponse.setStatus(200);
+			httpServletResponse.setHeader("Content-Type", "application/json");
+		};
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public MockHttpServletResponse doFilter() throws IOException, ServletException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		loggingFilter.doFilter(request, response, chain);
+		
+		return response;
+	}
+}
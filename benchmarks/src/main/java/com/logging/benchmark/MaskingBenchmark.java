@@ -0,0 +1,60 @@
+package com.logging.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RegExUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.logging.enumerator.MaskingStrategy;
+import com.logging.utils.MaskingUtils;
+
+/**
+ * Compara o mascaramento do {@link MaskingUtils} com a implementação anterior
+ * baseada em expressão regular.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskingBenchmark {
+	
+	@Param({ "8", "64", "512" })
+	private int length;
+	
+	@Param({ "FULL", "PREFIX", "SUFFIX" })
+	private MaskingStrategy strategy;
+	
+	private String value;
+	
+	@Setup
+	public void setup() {
+		value = StringUtils.repeat('a', length);
+	}
+	
+	@Benchmark
+	public String regexBaseline() {
+		return RegExUtils.replaceAll(value, ".", "*");
+	}
+	
+	@Benchmark
+	public String maskValue() {
+		return MaskingUtils.maskValue(value, strategy);
+	}
+}
@@ -0,0 +1,60 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logging.component.LoggingObjectMapper;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.configuration.LoggingMaskingIntrospector;
+
+/**
+ * Mede a serialização de objetos com campos {@code @SensitiveData} através do
+ * {@link LoggingMaskingIntrospector}, comparando o writer compartilhado com a
+ * criação de um {@link LoggingObjectMapper} por chamada.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaskingSerializerBenchmark {
+	
+	@Param({ "1", "10", "100" })
+	private int bodySize;
+	
+	private SampleBody body;
+	
+	@Setup
+	public void setup() {
+		body = BenchmarkSupport.body(bodySize);
+	}
+	
+	@Benchmark
+	public void sharedWriter() throws IOException {
+		LoggingObjectWriters.compactWriter().writeValue(BenchmarkSupport.NULL_OUTPUT_STREAM, body);
+	}
+	
+	@Benchmark
+	public void mapperPerCall() throws IOException {
+		ObjectMapper objectMapper = new LoggingObjectMapper();
+		objectMapper.writeValue(BenchmarkSupport.NULL_OUTPUT_STREAM, body);
+	}
+}
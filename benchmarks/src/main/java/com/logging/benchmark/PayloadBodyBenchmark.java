@@ -0,0 +1,71 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.logging.component.LoggingObjectWriters;
+import com.logging.context.LoggingContextLimits;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Mede o custo de captura do body no {@link PayloadLogModel}, isoladamente e
+ * somado à serialização do payload na emissão. Com {@code maxBodyBytes}
+ * definido, os bodies passam pela serialização limitada do orçamento de bytes.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadBodyBenchmark {
+	
+	@Param({ "1", "10", "100", "1000" })
+	private int bodySize;
+	
+	@Param({ "0", "1048576" })
+	private int maxBodyBytes;
+	
+	private SampleBody body;
+	
+	private LoggingContextLimits limits;
+	
+	@Setup
+	public void setup() {
+		body = BenchmarkSupport.body(bodySize);
+		limits = new LoggingContextLimits(0, 0, 0, maxBodyBytes);
+	}
+	
+	@Benchmark
+	public PayloadLogModel capture() {
+		PayloadLogModel payloadLogModel = new PayloadLogModel(limits);
+		payloadLogModel.addRequestBody(body);
+		payloadLogModel.addResponseBody(body);
+		
+		return payloadLogModel;
+	}
+	
+	@Benchmark
+	public PayloadLogModel captureAndSerialize() throws IOException {
+		PayloadLogModel payloadLogModel = capture();
+		LoggingObjectWriters.compactWriter().writeValue(BenchmarkSupport.NULL_OUTPUT_STREAM, payloadLogModel);
+		
+		return payloadLogModel;
+	}
+}
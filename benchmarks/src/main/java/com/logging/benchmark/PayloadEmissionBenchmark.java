@@ -0,0 +1,84 @@
+package com.logging.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.logging.context.LoggingContext;
+import com.logging.emitter.PayloadLogEmitter;
+
+/**
+ * Compara a latência percebida pela thread da requisição na emissão síncrona e
+ * assíncrona de payloads pelo {@link PayloadLogEmitter}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadEmissionBenchmark {
+	
+	@Param({ "false", "true" })
+	private boolean async;
+	
+	@Param({ "BLOCK", "DROP_NEWEST" })
+	private String policy;
+	
+	@Param({ "10" })
+	private int bodySize;
+	
+	private AnnotationConfigApplicationContext context;
+	
+	private PayloadLogEmitter payloadLogEmitter;
+	
+	private SampleBody body;
+	
+	@Setup(Level.Trial)
+	public void setup() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("app.logging.async.habilitado", async);
+		properties.put("app.logging.async.politica", policy);
+		
+		context = BenchmarkSupport.createContext(properties);
+		BenchmarkSupport.discardPayloadLogs();
+		
+		payloadLogEmitter = context.getBean(PayloadLogEmitter.class);
+		body = BenchmarkSupport.body(bodySize);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public LoggingContext emit() {
+		LoggingContext loggingContext = new LoggingContext("benchmark");
+		loggingContext.getPayloadLogModel().addRequestBody(body);
+		loggingContext.getPayloadLogModel().finish();
+		
+		payloadLogEmitter.emit(loggingContext);
+		
+		return loggingContext;
+	}
+}
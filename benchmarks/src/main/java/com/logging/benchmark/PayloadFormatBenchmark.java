@@ -0,0 +1,88 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.logging.component.LoggingObjectWriters;
+import com.logging.context.LoggingContext;
+import com.logging.encoder.SmilePayloadLogEncoder;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Compara o formato binário Smile ({@link SmilePayloadLogEncoder}) com o JSON
+ * textual, tendo como referência o {@code writeValueAsString} com pretty print.
+ * O tamanho de cada formato é impresso no setup.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadFormatBenchmark {
+	
+	@Param({ "0", "10", "100" })
+	private int bodySize;
+	
+	@Param({ "0", "10" })
+	private int stepCount;
+	
+	private PayloadLogModel payloadLogModel;
+	
+	@Setup
+	public void setup() throws IOException {
+		payloadLogModel = new LoggingContext("benchmark").getPayloadLogModel();
+		
+		for (int i = 0; i < 20; i++) {
+			payloadLogModel.addRequestHeader("X-Header-" + i, "value-" + i);
+		}
+		
+		if(bodySize > 0) {
+			payloadLogModel.addRequestBody(BenchmarkSupport.body(bodySize));
+			payloadLogModel.addResponseBody(BenchmarkSupport.body(bodySize));
+		}
+		
+		BenchmarkSupport.addSteps(payloadLogModel, stepCount);
+		payloadLogModel.addRequestUri("/api/v1/orders/42");
+		payloadLogModel.addResponseStatus(200);
+		payloadLogModel.finish();
+		
+		int pretty = LoggingObjectWriters.prettyWriter().writeValueAsString(payloadLogModel).getBytes(StandardCharsets.UTF_8).length;
+		int compact = LoggingObjectWriters.compactWriter().writeValueAsBytes(payloadLogModel).length;
+		int smile = LoggingObjectWriters.smileWriter().writeValueAsBytes(payloadLogModel).length;
+		
+		System.out.printf("%nbytes: pretty=%d compact=%d smile=%d (%.1fx)%n", pretty, compact, smile, (double) pretty / smile);
+	}
+	
+	@Benchmark
+	public String prettyString() throws IOException {
+		return LoggingObjectWriters.prettyWriter().writeValueAsString(payloadLogModel);
+	}
+	
+	@Benchmark
+	public void compactBytes() throws IOException {
+		LoggingObjectWriters.compactWriter().writeValue(BenchmarkSupport.NULL_OUTPUT_STREAM, payloadLogModel);
+	}
+	
+	@Benchmark
+	public void smileBytes() throws IOException {
+		LoggingObjectWriters.smileWriter().writeValue(BenchmarkSupport.NULL_OUTPUT_STREAM, payloadLogModel);
+	}
+}
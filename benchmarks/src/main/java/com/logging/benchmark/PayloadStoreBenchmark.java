@@ -0,0 +1,114 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.logging.context.LoggingContext;
+import com.logging.encoder.PayloadLogEncoder;
+import com.logging.store.PayloadStore;
+import com.logging.store.PayloadStoreAppender;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+/**
+ * Mede as consultas ao {@link PayloadStore} sobre um repositório com
+ * {@value #RECORDS} payloads em múltiplos segmentos: busca por
+ * {@code context_id} e leitura de uma janela de 1 segundo.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadStoreBenchmark {
+	
+	private static final int RECORDS = 100_000;
+	
+	private static final long START_TIMESTAMP = 1_000_000_000L;
+	
+	private static final long TIMESTAMP_STEP_MS = 10L;
+	
+	private Path directory;
+	
+	private String[] contextIds;
+	
+	private PayloadStore store;
+	
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("store-benchmark");
+		
+		LoggerContext loggerContext = new LoggerContext();
+		PayloadLogEncoder encoder = new PayloadLogEncoder();
+		encoder.setContext(loggerContext);
+		
+		PayloadStoreAppender appender = new PayloadStoreAppender();
+		appender.setContext(loggerContext);
+		appender.setEncoder(encoder);
+		appender.setDirectory(directory.toString());
+		appender.setSegmentSize(16 * 1024 * 1024);
+		appender.start();
+		
+		Logger logger = loggerContext.getLogger("logger");
+		contextIds = new String[RECORDS];
+		
+		for (int i = 0; i < RECORDS; i++) {
+			contextIds[i] = UUID.randomUUID().toString();
+			
+			LoggingContext loggingContext = new LoggingContext(contextIds[i]);
+			loggingContext.getPayloadLogModel().addRequestUri("/api/v1/orders/" + i);
+			loggingContext.getPayloadLogModel().addResponseStatus(200);
+			loggingContext.getPayloadLogModel().finish();
+			
+			LoggingEvent event = new LoggingEvent(Logger.FQCN, logger, Level.INFO, "{}", null, new Object[] { loggingContext.getPayloadLogModel() });
+			event.setTimeStamp(START_TIMESTAMP + i * TIMESTAMP_STEP_MS);
+			appender.doAppend(event);
+		}
+		
+		appender.stop();
+		store = new PayloadStore(directory, "payload", PayloadStore.DEFAULT_TIME_INDEX_INTERVAL_MS);
+	}
+	
+	@TearDown
+	public void tearDown() throws IOException {
+		FileSystemUtils.deleteRecursively(directory);
+	}
+	
+	@Benchmark
+	public ByteBuffer findByContextId() throws IOException {
+		return store.findByContextId(contextIds[ThreadLocalRandom.current().nextInt(RECORDS)]);
+	}
+	
+	@Benchmark
+	public long scanOneSecond() throws IOException {
+		long from = START_TIMESTAMP + ThreadLocalRandom.current().nextInt(RECORDS - 100) * TIMESTAMP_STEP_MS;
+		return store.scan(from, from + 999, (timestamp, payload) -> {
+		});
+	}
+}
@@ -0,0 +1,26 @@
+package com.logging.benchmark;
+
+import java.util.List;
+
+import com.logging.annotation.SensitiveData;
+import com.logging.enumerator.MaskingStrategy;
+
+/**
+ * Body utilizado como massa de dados nos benchmarks.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class SampleBody {
+	
+	public String id;
+	
+	@SensitiveData
+	public String document;
+	
+	@SensitiveData(strategy = MaskingStrategy.PREFIX)
+	public String cardNumber;
+	
+	public List<SampleItem> items;
+}
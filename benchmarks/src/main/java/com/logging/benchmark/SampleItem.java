@@ -0,0 +1,21 @@
+package com.logging.benchmark;
+
+import java.math.BigDecimal;
+
+/**
+ * Item do {@link SampleBody}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class SampleItem {
+	
+	public String sku;
+	
+	public int quantity;
+	
+	public BigDecimal price;
+	
+	public String description;
+}
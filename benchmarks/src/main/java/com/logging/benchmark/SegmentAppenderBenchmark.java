@@ -0,0 +1,109 @@
+package com.logging.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import com.logging.appender.MappedSegmentAppender;
+import com.logging.context.LoggingContext;
+import com.logging.encoder.PayloadLogEncoder;
+import com.logging.model.PayloadLogModel;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+
+/**
+ * Compara a escrita concorrente de payloads pelo {@link MappedSegmentAppender}
+ * com o {@link FileAppender} (escrita sincronizada por evento), ambos com o
+ * {@link PayloadLogEncoder}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class SegmentAppenderBenchmark {
+	
+	@Param({ "mapped", "file" })
+	private String appenderType;
+	
+	private Path directory;
+	
+	private Appender<ILoggingEvent> appender;
+	
+	private ILoggingEvent event;
+	
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("segment-benchmark");
+		
+		LoggerContext loggerContext = new LoggerContext();
+		PayloadLogEncoder encoder = new PayloadLogEncoder();
+		encoder.setContext(loggerContext);
+		
+		if("mapped".equals(appenderType)) {
+			MappedSegmentAppender mappedAppender = new MappedSegmentAppender();
+			mappedAppender.setDirectory(directory.toString());
+			mappedAppender.setMaxSegments(2);
+			mappedAppender.setEncoder(encoder);
+			appender = mappedAppender;
+		}
+		else {
+			FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+			fileAppender.setFile(directory.resolve("payload.log").toString());
+			fileAppender.setEncoder(encoder);
+			appender = fileAppender;
+		}
+		
+		appender.setContext(loggerContext);
+		appender.start();
+		
+		LoggingContext loggingContext = new LoggingContext("benchmark");
+		PayloadLogModel payloadLogModel = loggingContext.getPayloadLogModel();
+		payloadLogModel.addRequestBody(BenchmarkSupport.body(10));
+		payloadLogModel.addRequestUri("/api/v1/orders/42");
+		payloadLogModel.addResponseStatus(200);
+		payloadLogModel.finish();
+		
+		Logger logger = loggerContext.getLogger("logger");
+		event = new LoggingEvent(Logger.FQCN, logger, Level.INFO, "{}", null, new Object[] { payloadLogModel });
+	}
+	
+	@TearDown
+	public void tearDown() throws IOException {
+		appender.stop();
+		FileSystemUtils.deleteRecursively(directory);
+	}
+	
+	@Benchmark
+	public void append() {
+		appender.doAppend(event);
+	}
+}
@@ -0,0 +1,166 @@
+package com.logging.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.event.Level;
+
+import com.logging.concurrent.ConcurrentAppendList;
+import com.logging.context.LoggingContextLimits;
+import com.logging.model.InternalStepLogModel;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Mede o acúmulo concorrente de steps em um mesmo payload, comparando a
+ * {@link ConcurrentAppendList} com uma lista sincronizada. As listas são
+ * substituídas ao atingir {@link #STEPS_PER_PAYLOAD} itens, simulando a troca
+ * de requisição sem acúmulo ilimitado de memória.
+ * <p>
+ * A quantidade de threads é definida pela opção {@code -t} do JMH
+ * ({@code java -jar target/benchmarks.jar StepAccumulation -t 8}). O
+ * {@link #main(String[])} executa a varredura com 1, 2, 4 e o total de
+ * processadores disponíveis, resumindo o throughput por quantidade de threads
+ * ({@code java -cp target/benchmarks.jar
+ * com.logging.benchmark.StepAccumulationBenchmark [threads...]}).
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class StepAccumulationBenchmark {
+	
+	private static final int STEPS_PER_PAYLOAD = 1024;
+	
+	private static final LoggingContextLimits LIMITS = new LoggingContextLimits(STEPS_PER_PAYLOAD, 0, 0, 0);
+	
+	private InternalStepLogModel step;
+	
+	private volatile ConcurrentAppendList<InternalStepLogModel> appendList;
+	
+	private volatile List<InternalStepLogModel> synchronizedList;
+	
+	private volatile PayloadLogModel payloadLogModel;
+	
+	@Setup
+	public void setup() {
+		step = new InternalStepLogModel("step", Level.INFO, StepAccumulationBenchmark.class);
+		
+		appendList = new ConcurrentAppendList<>(STEPS_PER_PAYLOAD);
+		synchronizedList = Collections.synchronizedList(new ArrayList<>());
+		payloadLogModel = new PayloadLogModel(LIMITS);
+	}
+	
+	@Benchmark
+	public boolean concurrentAppendList() {
+		ConcurrentAppendList<InternalStepLogModel> list = appendList;
+		
+		if(!list.add(step)) {
+			appendList = new ConcurrentAppendList<>(STEPS_PER_PAYLOAD);
+			return false;
+		}
+		
+		return true;
+	}
+	
+	@Benchmark
+	public boolean synchronizedList() {
+		List<InternalStepLogModel> list = synchronizedList;
+		
+		synchronized (list) {
+			if(list.size() >= STEPS_PER_PAYLOAD) {
+				synchronizedList = Collections.synchronizedList(new ArrayList<>());
+				return false;
+			}
+			
+			return list.add(step);
+		}
+	}
+	
+	@Benchmark
+	public PayloadLogModel payloadLogModel() {
+		PayloadLogModel payload = payloadLogModel;
+		
+		if(payload.getTruncated() != null) {
+			payloadLogModel = new PayloadLogModel(LIMITS);
+		} else {
+			payload.addInternalStepLog(step);
+		}
+		
+		return payload;
+	}
+	
+	/**
+	 * Executa o benchmark para cada quantidade de threads, evidenciando a
+	 * escalabilidade de cada estratégia com o número de núcleos.
+	 * 
+	 * @param args ({@link String}[]) - quantidades de threads; por padrão 1, 2,
+	 *             4 e o total de processadores disponíveis
+	 * @throws RunnerException lançada em caso de falha na execução do JMH.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		List<String> summary = new ArrayList<>();
+		
+		for (int threads : threadCounts(args)) {
+			Collection<RunResult> results = new Runner(new OptionsBuilder()
+					.include(StepAccumulationBenchmark.class.getName())
+					.threads(threads)
+					.addProfiler(GCProfiler.class)
+					.build()).run();
+			
+			for (RunResult result : results) {
+				Result<?> primary = result.getPrimaryResult();
+				summary.add(String.format("%-22s %7d %14.3f ± %10.3f %s", primary.getLabel(), threads,
+						primary.getScore(), primary.getScoreError(), primary.getScoreUnit()));
+			}
+		}
+		
+		System.out.println();
+		System.out.println(String.format("%-22s %7s %14s   %10s %s", "Benchmark", "Threads", "Score", "Error", "Units"));
+		summary.forEach(System.out::println);
+	}
+	
+	private static Collection<Integer> threadCounts(String[] args) {
+		TreeSet<Integer> threadCounts = new TreeSet<>();
+		
+		if(args.length == 0) {
+			threadCounts.add(1);
+			threadCounts.add(2);
+			threadCounts.add(4);
+			threadCounts.add(Runtime.getRuntime().availableProcessors());
+		}
+		
+		for (String arg : args) {
+			threadCounts.add(Integer.parseInt(arg));
+		}
+		
+		return threadCounts;
+	}
+}
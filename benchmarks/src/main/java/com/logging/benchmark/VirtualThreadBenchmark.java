@@ -0,0 +1,139 @@
+package com.logging.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.logging.component.LoggingComponent;
+import com.logging.filter.LoggingFilter;
+
+/**
+ * Mede o tempo para processar {@link #REQUESTS} requisições concorrentes pelo
+ * {@link LoggingFilter}, comparando virtual threads (uma por requisição) com um
+ * pool de platform threads no tamanho padrão do Tomcat, em cada modo de vínculo
+ * do contexto.
+ * <p>
+ * Virtual threads são obtidas por reflexão, pois a biblioteca compila para Java
+ * 8. Em JVMs sem suporte (anteriores ao Java 21), as combinações com
+ * {@code executor=virtual} falham no setup e apenas as demais são medidas.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+	
+	private static final int REQUESTS = 100_000;
+	
+	private static final int PLATFORM_THREADS = 200;
+	
+	@Param({ "platform", "virtual" })
+	private String executor;
+	
+	@Param({ "THREAD_LOCAL", "LIGHTWEIGHT" })
+	private String contextMode;
+	
+	@Param({ "0", "1" })
+	private long blockingMs;
+	
+	private AnnotationConfigApplicationContext context;
+	
+	private LoggingFilter loggingFilter;
+	
+	private FilterChain chain;
+	
+	private ExecutorService executorService;
+	
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		context = BenchmarkSupport.createContext(Collections.singletonMap("app.logging.contexto.modo", contextMode));
+		BenchmarkSupport.discardPayloadLogs();
+		
+		loggingFilter = context.getBean(LoggingFilter.class);
+		LoggingComponent loggingComponent = context.getBean(LoggingComponent.class);
+		
+		chain = (req, res) -> {
+			loggingComponent.addInternalStepLog("step", org.slf4j.event.Level.INFO, VirtualThreadBenchmark.class);
+			
+			if(blockingMs > 0) {
+				try {
+					Thread.sleep(blockingMs);
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			
+			((HttpServletResponse) res).setStatus(200);
+		};
+		
+		if("virtual".equals(executor)) {
+			executorService = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		}
+		else {
+			executorService = Executors.newFixedThreadPool(PLATFORM_THREADS);
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		executorService.shutdownNow();
+		context.close();
+	}
+	
+	@Benchmark
+	public int concurrentRequests() throws Exception {
+		CountDownLatch latch = new CountDownLatch(REQUESTS);
+		AtomicReference<Exception> failure = new AtomicReference<>();
+		
+		for (int i = 0; i < REQUESTS; i++) {
+			executorService.execute(() -> {
+				try {
+					loggingFilter.doFilter(BenchmarkSupport.request(5), new MockHttpServletResponse(), chain);
+				}
+				catch (Exception e) {
+					failure.compareAndSet(null, e);
+				}
+				finally {
+					latch.countDown();
+				}
+			});
+		}
+		
+		latch.await();
+		
+		if(failure.get() != null) {
+			throw failure.get();
+		}
+		
+		return REQUESTS;
+	}
+}
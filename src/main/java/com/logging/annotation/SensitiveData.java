@@ -27,4 +27,13 @@ public @interface SensitiveData {
 	 *         estratégia, o padrão é {@link MaskingStrategy#FULL}.
 	 */
 	MaskingStrategy strategy() default MaskingStrategy.FULL;
+	
+	/**
+	 * Quantidade de caracteres mantidos visíveis nas estratégias
+	 * {@link MaskingStrategy#PREFIX} e {@link MaskingStrategy#SUFFIX}.
+	 * 
+	 * @return {@code int} - quantidade de caracteres visíveis. O padrão é
+	 *         {@code 4}.
+	 */
+	int visibleCharacters() default 4;
 }
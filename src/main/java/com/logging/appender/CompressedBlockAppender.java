@@ -0,0 +1,514 @@
+package com.logging.appender;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+
+import com.logging.appender.CompressedBlockFormat.BlockInfo;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+/**
+ * Appender Logback que escreve os registros em blocos comprimidos de forma
+ * independente, acompanhados de um índice de blocos por intervalo de tempo
+ * (ver {@link CompressedBlockFormat}).
+ * <p>
+ * Os eventos são codificados na thread chamadora e enfileirados. Uma thread
+ * dedicada acumula os registros até o tamanho de bloco ({@code blockSize}) ou
+ * o intervalo máximo ({@code flushIntervalMs}), comprime o bloco e o escreve
+ * com uma única chamada de escrita, seguida da entrada de índice. Os arquivos
+ * são trocados ao atingir {@code maxFileSize}, mantendo no máximo
+ * {@code maxFiles} arquivos (0 = sem limite). Com a fila cheia, a thread
+ * chamadora aguarda, exceto quando {@code neverBlock} está habilitado, caso em
+ * que o registro é descartado.
+ * <p>
+ * Os arquivos podem ser lidos pelo {@link CompressedBlockReader}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class CompressedBlockAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+	
+	private static final long STOP_TIMEOUT_MS = 5000L;
+	
+	private Encoder<ILoggingEvent> encoder;
+	
+	private String directory = "logs";
+	
+	private String prefix = "payload";
+	
+	private int blockSize = 256 * 1024;
+	
+	private long flushIntervalMs = 1000L;
+	
+	private long maxFileSize = 256L * 1024 * 1024;
+	
+	private int maxFiles;
+	
+	private int compressionLevel = Deflater.BEST_SPEED;
+	
+	private int queueSize = 8192;
+	
+	private boolean neverBlock;
+	
+	private BlockingQueue<Entry> queue;
+	
+	private Thread worker;
+	
+	private volatile boolean running;
+	
+	private final LongAdder dropped = new LongAdder();
+	
+	private final LongAdder blocks = new LongAdder();
+	
+	private final LongAdder uncompressedBytes = new LongAdder();
+	
+	private final LongAdder compressedBytes = new LongAdder();
+	
+	private final LongAdder compressionNanos = new LongAdder();
+
+	@Override
+	public void start() {
+		if(encoder == null) {
+			addError("Nenhum encoder configurado para o appender \"" + name + "\".");
+			return;
+		}
+		
+		BlockWriter writer;
+		
+		try {
+			writer = new BlockWriter();
+		}
+		catch (IOException e) {
+			addError("Falha ao abrir o arquivo de blocos em \"" + directory + "\".", e);
+			return;
+		}
+		
+		queue = new ArrayBlockingQueue<>(queueSize);
+		running = true;
+		worker = new Thread(writer, "logging-block-writer-" + name);
+		worker.setDaemon(true);
+		worker.start();
+		
+		encoder.start();
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		if(!isStarted()) {
+			return;
+		}
+		
+		super.stop();
+		running = false;
+		worker.interrupt();
+		
+		try {
+			worker.join(STOP_TIMEOUT_MS);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		
+		if(worker.isAlive()) {
+			addWarn("Thread de escrita não finalizada em " + STOP_TIMEOUT_MS + "ms. Registros pendentes podem ser perdidos.");
+		}
+		
+		encoder.stop();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		byte[] record = encoder.encode(event);
+		
+		if(record == null || record.length == 0) {
+			return;
+		}
+		
+		Entry entry = new Entry(event.getTimeStamp(), record);
+		
+		if(neverBlock || !running) {
+			if(!queue.offer(entry)) {
+				dropped.increment();
+			}
+			return;
+		}
+		
+		try {
+			while (!queue.offer(entry, flushIntervalMs, TimeUnit.MILLISECONDS)) {
+				if(!running) {
+					dropped.increment();
+					return;
+				}
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			dropped.increment();
+		}
+	}
+	
+	/**
+	 * Registro codificado aguardando compressão.
+	 */
+	private static final class Entry {
+		
+		private final long timestamp;
+		
+		private final byte[] record;
+
+		/**
+		 * Construtor do registro.
+		 * 
+		 * @param timestamp ({@code long}) - timestamp do evento em epoch millis
+		 * @param record    ({@code byte[]}) - registro codificado
+		 */
+		private Entry(long timestamp, byte[] record) {
+			this.timestamp = timestamp;
+			this.record = record;
+		}
+	}
+	
+	/**
+	 * Thread de escrita: acumula, comprime e escreve os blocos. Todos os buffers
+	 * são reutilizados entre blocos.
+	 */
+	private final class BlockWriter implements Runnable {
+		
+		private final Path directoryPath = Paths.get(directory);
+		
+		private final Deflater deflater = new Deflater(compressionLevel);
+		
+		private final ByteBuffer header = ByteBuffer.allocate(CompressedBlockFormat.HEADER_SIZE);
+		
+		private final ByteBuffer indexEntry = ByteBuffer.allocate(CompressedBlockFormat.INDEX_ENTRY_SIZE);
+		
+		private ByteBuffer block = ByteBuffer.allocate(blockSize + CompressedBlockFormat.RECORD_HEADER_SIZE);
+		
+		private byte[] compressed = new byte[blockSize];
+		
+		private int records;
+		
+		private long firstTimestamp;
+		
+		private long lastTimestamp;
+		
+		private long blockStartNanos;
+		
+		private long sequence;
+		
+		private FileOutputStream data;
+		
+		private FileOutputStream index;
+		
+		private long fileSize;
+
+		/**
+		 * Construtor da thread de escrita. Cria o diretório, caso necessário, e
+		 * abre um novo par de arquivos após o último existente.
+		 * 
+		 * @throws IOException lançada em caso de falha na criação dos arquivos.
+		 */
+		private BlockWriter() throws IOException {
+			Files.createDirectories(directoryPath);
+			
+			List<Path> files = SegmentFiles.list(directoryPath, prefix, CompressedBlockFormat.DATA_SUFFIX);
+			sequence = files.isEmpty() ? 0 : SegmentFiles.sequenceOf(files.get(files.size() - 1), prefix, CompressedBlockFormat.DATA_SUFFIX);
+			
+			openFiles();
+		}
+
+		@Override
+		public void run() {
+			long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+			
+			try {
+				while (running || !queue.isEmpty()) {
+					Entry entry;
+					
+					try {
+						entry = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+					}
+					catch (InterruptedException e) {
+						entry = null;
+					}
+					
+					if(entry != null) {
+						add(entry);
+					}
+					
+					if(records > 0 && (block.position() >= blockSize || System.nanoTime() - blockStartNanos >= flushIntervalNanos)) {
+						flushBlock();
+					}
+				}
+				
+				if(records > 0) {
+					flushBlock();
+				}
+			}
+			catch (IOException e) {
+				running = false;
+				addError("Falha na escrita do bloco de log. Thread de escrita finalizada.", e);
+			}
+			finally {
+				deflater.end();
+				closeFiles();
+			}
+		}
+		
+		/**
+		 * Acrescenta o registro ao bloco em montagem, ampliando o buffer caso o
+		 * registro não caiba, e atualiza o intervalo de timestamps do bloco.
+		 * 
+		 * @param entry ({@link Entry}) - registro codificado
+		 */
+		private void add(Entry entry) {
+			int required = CompressedBlockFormat.RECORD_HEADER_SIZE + entry.record.length;
+			
+			if(block.remaining() < required) {
+				ByteBuffer larger = ByteBuffer.allocate(block.position() + required);
+				block.flip();
+				larger.put(block);
+				block = larger;
+			}
+			
+			if(records == 0) {
+				firstTimestamp = entry.timestamp;
+				lastTimestamp = entry.timestamp;
+				blockStartNanos = System.nanoTime();
+			}
+			else {
+				firstTimestamp = Math.min(firstTimestamp, entry.timestamp);
+				lastTimestamp = Math.max(lastTimestamp, entry.timestamp);
+			}
+			
+			block.putLong(entry.timestamp);
+			block.putInt(entry.record.length);
+			block.put(entry.record);
+			records++;
+		}
+		
+		/**
+		 * Comprime o bloco em montagem e escreve o cabeçalho e os dados no
+		 * arquivo de dados e a entrada correspondente no índice, trocando de
+		 * arquivo caso o tamanho máximo seja excedido.
+		 * 
+		 * @throws IOException lançada em caso de falha na escrita.
+		 */
+		private void flushBlock() throws IOException {
+			long startNanos = System.nanoTime();
+			int uncompressedLength = block.position();
+			
+			deflater.reset();
+			deflater.setInput(block.array(), 0, uncompressedLength);
+			deflater.finish();
+			
+			int compressedLength = 0;
+			
+			while (!deflater.finished()) {
+				if(compressedLength == compressed.length) {
+					byte[] larger = new byte[compressed.length * 2];
+					System.arraycopy(compressed, 0, larger, 0, compressedLength);
+					compressed = larger;
+				}
+				
+				compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+			}
+			
+			compressionNanos.add(System.nanoTime() - startNanos);
+			
+			long blockLength = CompressedBlockFormat.HEADER_SIZE + compressedLength;
+			
+			if(fileSize > 0 && fileSize + blockLength > maxFileSize) {
+				roll();
+			}
+			
+			BlockInfo info = new BlockInfo(fileSize, compressedLength, uncompressedLength, records, firstTimestamp, lastTimestamp);
+			
+			header.clear();
+			CompressedBlockFormat.writeHeader(header, info);
+			data.write(header.array());
+			data.write(compressed, 0, compressedLength);
+			
+			indexEntry.clear();
+			CompressedBlockFormat.writeIndexEntry(indexEntry, info);
+			index.write(indexEntry.array());
+			
+			fileSize += blockLength;
+			blocks.increment();
+			uncompressedBytes.add(uncompressedLength);
+			compressedBytes.add(blockLength);
+			
+			block.clear();
+			records = 0;
+		}
+		
+		/**
+		 * Fecha os arquivos atuais, abre um novo par e remove os arquivos mais
+		 * antigos além do limite configurado.
+		 * 
+		 * @throws IOException lançada em caso de falha na troca dos arquivos.
+		 */
+		private void roll() throws IOException {
+			closeFiles();
+			openFiles();
+			
+			if(maxFiles > 0) {
+				SegmentFiles.deleteOldest(SegmentFiles.list(directoryPath, prefix, CompressedBlockFormat.DATA_SUFFIX), maxFiles);
+				SegmentFiles.deleteOldest(SegmentFiles.list(directoryPath, prefix, CompressedBlockFormat.INDEX_SUFFIX), maxFiles);
+			}
+		}
+		
+		/**
+		 * Abre um novo par de arquivos. Arquivos existentes nunca são continuados,
+		 * pois podem terminar em um bloco incompleto.
+		 */
+		private void openFiles() throws IOException {
+			sequence++;
+			data = new FileOutputStream(SegmentFiles.path(directoryPath, prefix, sequence, CompressedBlockFormat.DATA_SUFFIX).toFile());
+			index = new FileOutputStream(SegmentFiles.path(directoryPath, prefix, sequence, CompressedBlockFormat.INDEX_SUFFIX).toFile());
+			fileSize = 0;
+		}
+		
+		/**
+		 * Fecha os arquivos atuais, registrando a falha no status do Logback.
+		 */
+		private void closeFiles() {
+			try {
+				data.close();
+				index.close();
+			}
+			catch (IOException e) {
+				addError("Falha ao fechar o arquivo de blocos.", e);
+			}
+		}
+	}
+
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	public void setEncoder(Encoder<ILoggingEvent> encoder) {
+		this.encoder = encoder;
+	}
+
+	public String getDirectory() {
+		return directory;
+	}
+
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	public String getPrefix() {
+		return prefix;
+	}
+
+	public void setPrefix(String prefix) {
+		this.prefix = prefix;
+	}
+
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	public void setBlockSize(int blockSize) {
+		this.blockSize = blockSize;
+	}
+
+	public long getFlushIntervalMs() {
+		return flushIntervalMs;
+	}
+
+	public void setFlushIntervalMs(long flushIntervalMs) {
+		this.flushIntervalMs = flushIntervalMs;
+	}
+
+	public long getMaxFileSize() {
+		return maxFileSize;
+	}
+
+	public void setMaxFileSize(long maxFileSize) {
+		this.maxFileSize = maxFileSize;
+	}
+
+	public int getMaxFiles() {
+		return maxFiles;
+	}
+
+	public void setMaxFiles(int maxFiles) {
+		this.maxFiles = maxFiles;
+	}
+
+	public int getCompressionLevel() {
+		return compressionLevel;
+	}
+
+	public void setCompressionLevel(int compressionLevel) {
+		this.compressionLevel = compressionLevel;
+	}
+
+	public int getQueueSize() {
+		return queueSize;
+	}
+
+	public void setQueueSize(int queueSize) {
+		this.queueSize = queueSize;
+	}
+
+	public boolean isNeverBlock() {
+		return neverBlock;
+	}
+
+	public void setNeverBlock(boolean neverBlock) {
+		this.neverBlock = neverBlock;
+	}
+	
+	/**
+	 * Retorna a quantidade de registros descartados com a fila cheia.
+	 * 
+	 * @return {@code long} - registros descartados
+	 */
+	public long getDropped() {
+		return dropped.sum();
+	}
+	
+	public long getBlocks() {
+		return blocks.sum();
+	}
+	
+	public long getUncompressedBytes() {
+		return uncompressedBytes.sum();
+	}
+	
+	/**
+	 * Retorna o total escrito nos arquivos de dados, incluindo cabeçalhos.
+	 * 
+	 * @return {@code long} - bytes escritos
+	 */
+	public long getCompressedBytes() {
+		return compressedBytes.sum();
+	}
+	
+	/**
+	 * Retorna o tempo total de compressão na thread de escrita.
+	 * 
+	 * @return {@code long} - tempo em nanossegundos
+	 */
+	public long getCompressionNanos() {
+		return compressionNanos.sum();
+	}
+}
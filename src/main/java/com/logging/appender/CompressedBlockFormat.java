@@ -0,0 +1,182 @@
+package com.logging.appender;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Layout dos arquivos escritos pelo {@link CompressedBlockAppender}.
+ * <p>
+ * O arquivo de dados ({@code .blk}) é uma sequência de blocos comprimidos de
+ * forma independente (deflate). Cada bloco possui um cabeçalho de
+ * {@value #HEADER_SIZE} bytes:
+ * 
+ * <pre>
+ * int  magic
+ * int  tamanho comprimido
+ * int  tamanho descomprimido
+ * int  quantidade de registros
+ * long menor timestamp (epoch ms)
+ * long maior timestamp (epoch ms)
+ * </pre>
+ * 
+ * O conteúdo descomprimido é uma sequência de registros
+ * {@code [long timestamp][int tamanho][bytes]}. O arquivo de índice
+ * ({@code .idx}) contém uma entrada de {@value #INDEX_ENTRY_SIZE} bytes por
+ * bloco ({@code long} posição seguida dos campos do cabeçalho, exceto o magic),
+ * permitindo localizar um intervalo de tempo sem ler o arquivo de dados. Na
+ * ausência do índice, os cabeçalhos são percorridos sem descompressão.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class CompressedBlockFormat {
+	
+	/**
+	 * Marcador de início de bloco ("PLB1").
+	 */
+	public static final int MAGIC = 0x504C4231;
+	
+	/**
+	 * Tamanho do cabeçalho de bloco.
+	 */
+	public static final int HEADER_SIZE = 32;
+	
+	/**
+	 * Tamanho de uma entrada do índice.
+	 */
+	public static final int INDEX_ENTRY_SIZE = 36;
+	
+	/**
+	 * Tamanho do cabeçalho de cada registro no conteúdo descomprimido.
+	 */
+	public static final int RECORD_HEADER_SIZE = 12;
+	
+	/**
+	 * Extensão dos arquivos de dados.
+	 */
+	public static final String DATA_SUFFIX = ".blk";
+	
+	/**
+	 * Extensão dos arquivos de índice.
+	 */
+	public static final String INDEX_SUFFIX = ".idx";
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private CompressedBlockFormat() {
+	}
+	
+	/**
+	 * Escreve o cabeçalho de bloco no buffer indicado.
+	 * 
+	 * @param buffer ({@link ByteBuffer}) - destino
+	 * @param block  ({@link BlockInfo}) - bloco
+	 */
+	static void writeHeader(ByteBuffer buffer, BlockInfo block) {
+		buffer.putInt(MAGIC);
+		buffer.putInt(block.getCompressedLength());
+		buffer.putInt(block.getUncompressedLength());
+		buffer.putInt(block.getRecords());
+		buffer.putLong(block.getFirstTimestamp());
+		buffer.putLong(block.getLastTimestamp());
+	}
+	
+	/**
+	 * Escreve a entrada de índice no buffer indicado.
+	 * 
+	 * @param buffer ({@link ByteBuffer}) - destino
+	 * @param block  ({@link BlockInfo}) - bloco
+	 */
+	static void writeIndexEntry(ByteBuffer buffer, BlockInfo block) {
+		buffer.putLong(block.getOffset());
+		buffer.putInt(block.getCompressedLength());
+		buffer.putInt(block.getUncompressedLength());
+		buffer.putInt(block.getRecords());
+		buffer.putLong(block.getFirstTimestamp());
+		buffer.putLong(block.getLastTimestamp());
+	}
+	
+	/**
+	 * Lê um cabeçalho de bloco. O magic deve ter sido validado previamente.
+	 * 
+	 * @param buffer ({@link ByteBuffer}) - origem posicionada após o magic
+	 * @param offset ({@code long}) - posição do bloco no arquivo
+	 * @return {@code BlockInfo} - bloco lido
+	 */
+	static BlockInfo readHeader(ByteBuffer buffer, long offset) {
+		return new BlockInfo(offset, buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong());
+	}
+	
+	/**
+	 * Lê uma entrada de índice.
+	 * 
+	 * @param buffer ({@link ByteBuffer}) - origem
+	 * @return {@code BlockInfo} - bloco lido
+	 */
+	static BlockInfo readIndexEntry(ByteBuffer buffer) {
+		return new BlockInfo(buffer.getLong(), buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getLong(), buffer.getLong());
+	}
+	
+	/**
+	 * Descrição de um bloco comprimido.
+	 */
+	public static final class BlockInfo {
+		
+		private final long offset;
+		
+		private final int compressedLength;
+		
+		private final int uncompressedLength;
+		
+		private final int records;
+		
+		private final long firstTimestamp;
+		
+		private final long lastTimestamp;
+
+		BlockInfo(long offset, int compressedLength, int uncompressedLength, int records, long firstTimestamp, long lastTimestamp) {
+			this.offset = offset;
+			this.compressedLength = compressedLength;
+			this.uncompressedLength = uncompressedLength;
+			this.records = records;
+			this.firstTimestamp = firstTimestamp;
+			this.lastTimestamp = lastTimestamp;
+		}
+		
+		/**
+		 * Indica se o bloco possui registros no intervalo informado.
+		 * 
+		 * @param from ({@code long}) - início do intervalo (epoch ms, inclusivo)
+		 * @param to   ({@code long}) - fim do intervalo (epoch ms, inclusivo)
+		 * @return {@code boolean} - <b>true</b> caso haja interseção
+		 */
+		public boolean overlaps(long from, long to) {
+			return firstTimestamp <= to && lastTimestamp >= from;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		public int getCompressedLength() {
+			return compressedLength;
+		}
+
+		public int getUncompressedLength() {
+			return uncompressedLength;
+		}
+
+		public int getRecords() {
+			return records;
+		}
+
+		public long getFirstTimestamp() {
+			return firstTimestamp;
+		}
+
+		public long getLastTimestamp() {
+			return lastTimestamp;
+		}
+	}
+}
@@ -0,0 +1,242 @@
+package com.logging.appender;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.logging.appender.CompressedBlockFormat.BlockInfo;
+
+/**
+ * Leitura dos arquivos escritos pelo {@link CompressedBlockAppender}.
+ * <p>
+ * Os blocos são localizados pelo índice ({@code .idx}) ou, na sua ausência,
+ * pelos cabeçalhos do arquivo de dados. Apenas os blocos cujo intervalo de
+ * tempo intersecta o intervalo consultado são descomprimidos. Um bloco
+ * incompleto ao final do arquivo (escrita interrompida) é ignorado.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class CompressedBlockReader {
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private CompressedBlockReader() {
+	}
+	
+	/**
+	 * Lista os blocos completos do arquivo de dados indicado.
+	 * 
+	 * @param dataFile ({@link Path}) - arquivo {@code .blk}
+	 * @return {@code List<BlockInfo>} - blocos em ordem de escrita
+	 * @throws IOException lançada em caso de falha de leitura.
+	 */
+	public static List<BlockInfo> blocks(Path dataFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+			return blocks(dataFile, channel.size());
+		}
+	}
+	
+	/**
+	 * Percorre os registros com timestamp no intervalo informado.
+	 * 
+	 * @param dataFile ({@link Path}) - arquivo {@code .blk}
+	 * @param from     ({@code long}) - início do intervalo (epoch ms, inclusivo)
+	 * @param to       ({@code long}) - fim do intervalo (epoch ms, inclusivo)
+	 * @param visitor  ({@link RecordVisitor}) - visitante dos registros
+	 * @return {@code long} - quantidade de registros visitados
+	 * @throws IOException lançada em caso de falha de leitura ou bloco corrompido.
+	 */
+	public static long read(Path dataFile, long from, long to, RecordVisitor visitor) throws IOException {
+		long count = 0;
+		
+		try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+			long size = channel.size();
+			
+			if(size == 0) {
+				return 0;
+			}
+			
+			MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, 0, size);
+			Inflater inflater = new Inflater();
+			byte[] compressed = new byte[0];
+			byte[] uncompressed = new byte[0];
+			
+			try {
+				for (BlockInfo block : blocks(dataFile, size)) {
+					if(!block.overlaps(from, to)) {
+						continue;
+					}
+					
+					if(compressed.length < block.getCompressedLength()) {
+						compressed = new byte[block.getCompressedLength()];
+					}
+					
+					if(uncompressed.length < block.getUncompressedLength()) {
+						uncompressed = new byte[block.getUncompressedLength()];
+					}
+					
+					ByteBuffer source = mapped.duplicate();
+					source.position((int) block.getOffset() + CompressedBlockFormat.HEADER_SIZE);
+					source.get(compressed, 0, block.getCompressedLength());
+					
+					inflater.reset();
+					inflater.setInput(compressed, 0, block.getCompressedLength());
+					
+					if(inflater.inflate(uncompressed, 0, block.getUncompressedLength()) != block.getUncompressedLength()) {
+						throw new IOException("Bloco corrompido na posição " + block.getOffset() + " de " + dataFile);
+					}
+					
+					ByteBuffer content = ByteBuffer.wrap(uncompressed, 0, block.getUncompressedLength());
+					
+					while (content.hasRemaining()) {
+						long timestamp = content.getLong();
+						int length = content.getInt();
+						
+						if(timestamp >= from && timestamp <= to) {
+							visitor.visit(timestamp, uncompressed, content.position(), length);
+							count++;
+						}
+						
+						content.position(content.position() + length);
+					}
+				}
+			}
+			catch (DataFormatException e) {
+				throw new IOException("Bloco corrompido em " + dataFile, e);
+			}
+			finally {
+				inflater.end();
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Retorna o arquivo de índice correspondente ao arquivo de dados.
+	 * 
+	 * @param dataFile ({@link Path}) - arquivo {@code .blk}
+	 * @return {@code Path} - arquivo {@code .idx}
+	 */
+	public static Path indexFile(Path dataFile) {
+		String fileName = dataFile.getFileName().toString();
+		String baseName = fileName.endsWith(CompressedBlockFormat.DATA_SUFFIX)
+				? fileName.substring(0, fileName.length() - CompressedBlockFormat.DATA_SUFFIX.length())
+				: fileName;
+		
+		Path parent = dataFile.getParent() == null ? Paths.get("") : dataFile.getParent();
+		return parent.resolve(baseName + CompressedBlockFormat.INDEX_SUFFIX);
+	}
+	
+	/**
+	 * Lista os blocos do arquivo pelo índice, caso exista, ou pelos cabeçalhos
+	 * do arquivo de dados.
+	 * 
+	 * @param dataFile ({@link Path}) - arquivo {@code .blk}
+	 * @param dataSize ({@code long}) - tamanho do arquivo de dados
+	 * @return {@code List} - blocos completos do arquivo
+	 * @throws IOException lançada em caso de falha na leitura.
+	 */
+	private static List<BlockInfo> blocks(Path dataFile, long dataSize) throws IOException {
+		Path indexFile = indexFile(dataFile);
+		
+		if(Files.exists(indexFile)) {
+			return fromIndex(indexFile, dataSize);
+		}
+		
+		return fromHeaders(dataFile, dataSize);
+	}
+	
+	/**
+	 * Lê o índice, ignorando entradas incompletas ou que apontem além do
+	 * arquivo de dados.
+	 */
+	private static List<BlockInfo> fromIndex(Path indexFile, long dataSize) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+		List<BlockInfo> blocks = new ArrayList<>(buffer.remaining() / CompressedBlockFormat.INDEX_ENTRY_SIZE);
+		
+		while (buffer.remaining() >= CompressedBlockFormat.INDEX_ENTRY_SIZE) {
+			BlockInfo block = CompressedBlockFormat.readIndexEntry(buffer);
+			
+			if(block.getOffset() + CompressedBlockFormat.HEADER_SIZE + block.getCompressedLength() > dataSize) {
+				break;
+			}
+			
+			blocks.add(block);
+		}
+		
+		return blocks;
+	}
+	
+	/**
+	 * Percorre os cabeçalhos do arquivo de dados sem descomprimir os blocos.
+	 */
+	private static List<BlockInfo> fromHeaders(Path dataFile, long dataSize) throws IOException {
+		List<BlockInfo> blocks = new ArrayList<>();
+		ByteBuffer header = ByteBuffer.allocate(CompressedBlockFormat.HEADER_SIZE);
+		
+		try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+			long offset = 0;
+			
+			while (offset + CompressedBlockFormat.HEADER_SIZE <= dataSize) {
+				header.clear();
+				int read;
+				
+				do {
+					read = channel.read(header, offset + header.position());
+				}
+				while (read > 0 && header.hasRemaining());
+				
+				header.flip();
+				
+				if(header.remaining() < CompressedBlockFormat.HEADER_SIZE || header.getInt() != CompressedBlockFormat.MAGIC) {
+					break;
+				}
+				
+				BlockInfo block = CompressedBlockFormat.readHeader(header, offset);
+				long next = offset + CompressedBlockFormat.HEADER_SIZE + block.getCompressedLength();
+				
+				if(block.getCompressedLength() <= 0 || next > dataSize) {
+					break;
+				}
+				
+				blocks.add(block);
+				offset = next;
+			}
+		}
+		
+		return blocks;
+	}
+	
+	/**
+	 * Visitante dos registros lidos.
+	 */
+	@FunctionalInterface
+	public interface RecordVisitor {
+		
+		/**
+		 * Recebe um registro. O array é reutilizado entre blocos e não deve ser
+		 * retido.
+		 * 
+		 * @param timestamp ({@code long}) - timestamp do evento (epoch ms)
+		 * @param buffer    ({@code byte[]}) - conteúdo descomprimido do bloco
+		 * @param offset    ({@code int}) - início do registro no buffer
+		 * @param length    ({@code int}) - tamanho do registro
+		 * @throws IOException lançada pelo visitante em caso de falha.
+		 */
+		void visit(long timestamp, byte[] buffer, int offset, int length) throws IOException;
+	}
+}
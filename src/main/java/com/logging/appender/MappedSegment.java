@@ -0,0 +1,281 @@
+package com.logging.appender;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.CRC32;
+
+/**
+ * Arquivo de segmento pré-alocado e mapeado em memória, contendo registros com
+ * prefixo de tamanho.
+ * <p>
+ * Cada registro é composto por um frame: 4 bytes com o tamanho do conteúdo,
+ * 4 bytes com o CRC32 do conteúdo e o conteúdo em si. Escritores concorrentes
+ * reservam o espaço do frame através de CAS sobre a posição de escrita e
+ * copiam o conteúdo diretamente para o mapeamento, sem chamadas de sistema. O
+ * tamanho é escrito por último e funciona como marcador de registro completo:
+ * a área não utilizada do arquivo permanece zerada.
+ * <p>
+ * Na abertura de um segmento existente os frames são validados a partir do
+ * início. O primeiro frame incompleto ou com CRC divergente (escrita
+ * interrompida) é descartado junto com o restante do arquivo, e a escrita
+ * continua a partir desse ponto.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class MappedSegment implements Closeable {
+	
+	/**
+	 * Tamanho do cabeçalho de cada frame (tamanho e CRC32).
+	 */
+	public static final int FRAME_HEADER_SIZE = 8;
+	
+	private static final int ZERO_CHUNK = 8 * 1024;
+	
+	private final Path path;
+	
+	private final FileChannel channel;
+	
+	private final MappedByteBuffer buffer;
+	
+	private final int capacity;
+	
+	private final AtomicInteger position;
+	
+	private final long recoveredBytes;
+	
+	/**
+	 * Construtor privado. Utilizar {@link #open(Path, int)}.
+	 */
+	private MappedSegment(Path path, FileChannel channel, MappedByteBuffer buffer, int position, long recoveredBytes) {
+		this.path = path;
+		this.channel = channel;
+		this.buffer = buffer;
+		this.capacity = buffer.capacity();
+		this.position = new AtomicInteger(position);
+		this.recoveredBytes = recoveredBytes;
+	}
+	
+	/**
+	 * Abre (ou cria) o segmento indicado, pré-alocando o tamanho informado e
+	 * recuperando a posição de escrita a partir dos frames válidos.
+	 * 
+	 * @param path     ({@link Path}) - arquivo do segmento
+	 * @param size     ({@code int}) - tamanho do segmento em bytes, utilizado
+	 *                 apenas caso o arquivo seja menor
+	 * @return {@code MappedSegment} - segmento aberto para escrita
+	 * @throws IOException lançada em caso de falha ao abrir ou mapear o arquivo.
+	 */
+	public static MappedSegment open(Path path, int size) throws IOException {
+		FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			long mappedSize = Math.max(channel.size(), size);
+			MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, mappedSize);
+			
+			int end = scan(buffer, null);
+			long discarded = discardTail(buffer, end);
+			
+			return new MappedSegment(path, channel, buffer, end, discarded);
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Percorre os frames válidos do buffer a partir do início.
+	 * 
+	 * @param buffer  ({@link ByteBuffer}) - conteúdo do segmento
+	 * @param visitor ({@link FrameVisitor}) - visitante dos frames ou
+	 *                <b>null</b>
+	 * @return {@code int} - posição seguinte ao último frame válido
+	 */
+	public static int scan(ByteBuffer buffer, FrameVisitor visitor) {
+		int offset = 0;
+		CRC32 crc = new CRC32();
+		ByteBuffer content;
+		
+		while ((content = readFrame(buffer, offset, crc)) != null) {
+			if(visitor != null) {
+				visitor.visit(offset, content);
+			}
+			
+			offset += FRAME_HEADER_SIZE + content.remaining();
+		}
+		
+		return offset;
+	}
+	
+	/**
+	 * Lê e valida o frame na posição indicada.
+	 * 
+	 * @param buffer ({@link ByteBuffer}) - conteúdo do segmento
+	 * @param offset ({@code int}) - posição do frame
+	 * @param crc    ({@link CRC32}) - instância reutilizada na validação
+	 * @return {@code ByteBuffer} - conteúdo do frame ou <b>null</b> caso o frame
+	 *         esteja incompleto ou corrompido
+	 */
+	public static ByteBuffer readFrame(ByteBuffer buffer, int offset, CRC32 crc) {
+		int limit = buffer.limit();
+		
+		if(offset < 0 || offset + FRAME_HEADER_SIZE > limit) {
+			return null;
+		}
+		
+		int length = buffer.getInt(offset);
+		
+		if(length <= 0 || length > limit - offset - FRAME_HEADER_SIZE) {
+			return null;
+		}
+		
+		ByteBuffer content = buffer.duplicate();
+		content.limit(offset + FRAME_HEADER_SIZE + length).position(offset + FRAME_HEADER_SIZE);
+		
+		crc.reset();
+		crc.update(content.duplicate());
+		
+		if((int) crc.getValue() != buffer.getInt(offset + 4)) {
+			return null;
+		}
+		
+		return content.slice();
+	}
+	
+	/**
+	 * Reserva e escreve um frame com o conteúdo indicado.
+	 * 
+	 * @param content ({@code byte[]}) - conteúdo do registro
+	 * @return {@code int} - posição do frame no segmento ou <b>-1</b> caso não
+	 *         haja espaço
+	 */
+	public int append(byte[] content) {
+		int frameSize = FRAME_HEADER_SIZE + content.length;
+		int offset;
+		
+		do {
+			offset = position.get();
+			
+			if(offset > capacity - frameSize) {
+				return -1;
+			}
+		}
+		while (!position.compareAndSet(offset, offset + frameSize));
+		
+		CRC32 crc = new CRC32();
+		crc.update(content, 0, content.length);
+		
+		ByteBuffer target = buffer.duplicate();
+		target.position(offset + FRAME_HEADER_SIZE);
+		target.put(content);
+		
+		buffer.putInt(offset + 4, (int) crc.getValue());
+		buffer.putInt(offset, content.length);
+		
+		return offset;
+	}
+	
+	/**
+	 * Força a gravação do conteúdo mapeado em disco.
+	 */
+	public void force() {
+		buffer.force();
+	}
+	
+	/**
+	 * Força a gravação e fecha o canal do segmento. O mapeamento permanece válido
+	 * para escritores que ainda estejam copiando registros reservados.
+	 */
+	@Override
+	public void close() throws IOException {
+		force();
+		channel.close();
+	}
+	
+	public Path getPath() {
+		return path;
+	}
+	
+	public int getCapacity() {
+		return capacity;
+	}
+	
+	/**
+	 * Retorna a posição de escrita, que corresponde ao total de bytes reservados.
+	 * 
+	 * @return {@code int} - posição de escrita
+	 */
+	public int getPosition() {
+		return Math.min(position.get(), capacity);
+	}
+	
+	/**
+	 * Retorna a quantidade de bytes descartados pela recuperação na abertura.
+	 * 
+	 * @return {@code long} - bytes descartados
+	 */
+	public long getRecoveredBytes() {
+		return recoveredBytes;
+	}
+	
+	/**
+	 * Zera a área posterior ao último frame válido, retornando o tamanho da área
+	 * descartada (até o último byte não nulo).
+	 */
+	private static long discardTail(MappedByteBuffer buffer, int end) {
+		int limit = buffer.limit();
+		int dirtyEnd = end;
+		int i = end;
+		
+		for (; i + Long.BYTES <= limit; i += Long.BYTES) {
+			if(buffer.getLong(i) != 0) {
+				dirtyEnd = i + Long.BYTES;
+			}
+		}
+		
+		for (; i < limit; i++) {
+			if(buffer.get(i) != 0) {
+				dirtyEnd = i + 1;
+			}
+		}
+		
+		if(dirtyEnd > end) {
+			byte[] zeros = new byte[ZERO_CHUNK];
+			ByteBuffer target = buffer.duplicate();
+			target.position(end);
+			
+			while (target.position() < dirtyEnd) {
+				target.put(zeros, 0, Math.min(zeros.length, dirtyEnd - target.position()));
+			}
+			
+			buffer.force();
+		}
+		
+		return dirtyEnd - end;
+	}
+	
+	/**
+	 * Visitante dos frames válidos de um segmento.
+	 */
+	@FunctionalInterface
+	public interface FrameVisitor {
+		
+		/**
+		 * Recebe o conteúdo de um frame.
+		 * 
+		 * @param offset  ({@code int}) - posição do frame no segmento
+		 * @param content ({@link ByteBuffer}) - conteúdo do frame (somente leitura
+		 *                por convenção)
+		 */
+		void visit(int offset, ByteBuffer content);
+	}
+}
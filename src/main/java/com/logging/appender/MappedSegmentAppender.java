@@ -0,0 +1,263 @@
+package com.logging.appender;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+/**
+ * Appender Logback que escreve os registros em segmentos pré-alocados e
+ * mapeados em memória ({@link MappedSegment}), no lugar de uma escrita
+ * sincronizada por evento.
+ * <p>
+ * Os eventos são codificados pelo encoder configurado (ex.:
+ * {@link com.logging.encoder.PayloadLogEncoder}) na thread chamadora e
+ * copiados para o segmento corrente após a reserva do frame via CAS, sem locks.
+ * Quando o registro não cabe no segmento corrente, um novo segmento é criado
+ * ({@code <prefixo>-<sequência>.seg}); apenas a troca de segmento é
+ * sincronizada. Na inicialização, o último segmento existente é recuperado e a
+ * escrita continua a partir do último frame válido.
+ * <p>
+ * As propriedades {@code directory}, {@code prefix}, {@code segmentSize} e
+ * {@code maxSegments} (0 = sem limite) são configuradas no
+ * {@code logback.xml}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class MappedSegmentAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+	
+	/**
+	 * Extensão dos arquivos de segmento.
+	 */
+	public static final String SEGMENT_SUFFIX = ".seg";
+	
+	private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+	
+	private Encoder<ILoggingEvent> encoder;
+	
+	private String directory = "logs";
+	
+	private String prefix = "payload";
+	
+	private int segmentSize = 64 * 1024 * 1024;
+	
+	private int maxSegments;
+	
+	private final Object rollLock = new Object();
+	
+	private volatile MappedSegment segment;
+	
+	private long sequence;
+	
+	private final LongAdder dropped = new LongAdder();
+
+	@Override
+	public void start() {
+		if(encoder == null) {
+			addError("Nenhum encoder configurado para o appender \"" + name + "\".");
+			return;
+		}
+		
+		if(segmentSize < MIN_SEGMENT_SIZE) {
+			addWarn("Tamanho de segmento " + segmentSize + " inferior ao mínimo. Utilizando " + MIN_SEGMENT_SIZE + ".");
+			segmentSize = MIN_SEGMENT_SIZE;
+		}
+		
+		try {
+			Path directoryPath = Paths.get(directory);
+			Files.createDirectories(directoryPath);
+			
+			List<Path> segments = SegmentFiles.list(directoryPath, prefix, SEGMENT_SUFFIX);
+			
+			if(segments.isEmpty()) {
+				sequence = 1;
+			}
+			else {
+				Path last = segments.get(segments.size() - 1);
+				sequence = SegmentFiles.sequenceOf(last, prefix, SEGMENT_SUFFIX);
+			}
+			
+			segment = MappedSegment.open(segmentPath(sequence), segmentSize);
+			
+			if(segment.getRecoveredBytes() > 0) {
+				addWarn("Segmento " + segment.getPath() + " recuperado: " + segment.getRecoveredBytes()
+						+ " byte(s) de registros incompletos descartados.");
+			}
+		}
+		catch (IOException e) {
+			addError("Falha ao abrir o segmento de log em \"" + directory + "\".", e);
+			return;
+		}
+		
+		encoder.start();
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		if(!isStarted()) {
+			return;
+		}
+		
+		super.stop();
+		
+		synchronized (rollLock) {
+			closeSegment(segment);
+		}
+		
+		encoder.stop();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		byte[] record = encoder.encode(event);
+		
+		if(record == null || record.length == 0) {
+			return;
+		}
+		
+		if(record.length > segmentSize - MappedSegment.FRAME_HEADER_SIZE) {
+			dropped.increment();
+			addWarn("Registro de " + record.length + " byte(s) excede o tamanho do segmento e foi descartado.");
+			return;
+		}
+		
+		MappedSegment current = segment;
+		
+		while (current.append(record) < 0) {
+			current = roll(current);
+			
+			if(current == null) {
+				dropped.increment();
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Substitui o segmento cheio por um novo, caso outra thread ainda não o tenha
+	 * feito.
+	 * 
+	 * @param full ({@link MappedSegment}) - segmento sem espaço
+	 * @return {@code MappedSegment} - segmento corrente ou <b>null</b> em caso
+	 *         de falha
+	 */
+	private MappedSegment roll(MappedSegment full) {
+		synchronized (rollLock) {
+			if(segment != full) {
+				return segment;
+			}
+			
+			if(!isStarted()) {
+				return null;
+			}
+			
+			try {
+				MappedSegment next = MappedSegment.open(segmentPath(++sequence), segmentSize);
+				segment = next;
+				closeSegment(full);
+				removeOldSegments();
+				return next;
+			}
+			catch (IOException e) {
+				addError("Falha ao criar o segmento de log " + sequence + ".", e);
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * Remove os segmentos mais antigos além do limite configurado.
+	 * 
+	 * @throws IOException lançada em caso de falha na listagem dos segmentos.
+	 */
+	private void removeOldSegments() throws IOException {
+		if(maxSegments <= 0) {
+			return;
+		}
+		
+		SegmentFiles.deleteOldest(SegmentFiles.list(Paths.get(directory), prefix, SEGMENT_SUFFIX), maxSegments);
+	}
+	
+	/**
+	 * Fecha o segmento indicado, registrando a falha no status do Logback.
+	 * 
+	 * @param mappedSegment ({@link MappedSegment}) - segmento a ser fechado
+	 */
+	private void closeSegment(MappedSegment mappedSegment) {
+		try {
+			mappedSegment.close();
+		}
+		catch (IOException e) {
+			addError("Falha ao fechar o segmento " + mappedSegment.getPath() + ".", e);
+		}
+	}
+	
+	/**
+	 * Monta o caminho do arquivo do segmento indicado.
+	 * 
+	 * @param segmentSequence ({@code long}) - sequência do segmento
+	 * @return {@link Path} - caminho do arquivo do segmento
+	 */
+	private Path segmentPath(long segmentSequence) {
+		return SegmentFiles.path(Paths.get(directory), prefix, segmentSequence, SEGMENT_SUFFIX);
+	}
+	
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	public void setEncoder(Encoder<ILoggingEvent> encoder) {
+		this.encoder = encoder;
+	}
+
+	public String getDirectory() {
+		return directory;
+	}
+
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	public String getPrefix() {
+		return prefix;
+	}
+
+	public void setPrefix(String prefix) {
+		this.prefix = prefix;
+	}
+
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	public void setSegmentSize(int segmentSize) {
+		this.segmentSize = segmentSize;
+	}
+
+	public int getMaxSegments() {
+		return maxSegments;
+	}
+
+	public void setMaxSegments(int maxSegments) {
+		this.maxSegments = maxSegments;
+	}
+	
+	/**
+	 * Retorna a quantidade de registros descartados por falta de espaço ou falha
+	 * na criação de segmentos.
+	 * 
+	 * @return {@code long} - registros descartados
+	 */
+	public long getDropped() {
+		return dropped.sum();
+	}
+}
@@ -0,0 +1,100 @@
+package com.logging.appender;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Nomenclatura dos arquivos sequenciais escritos pelos appenders
+ * ({@code <prefixo>-<sequência><extensão>}).
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class SegmentFiles {
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private SegmentFiles() {
+	}
+	
+	/**
+	 * Monta o caminho do arquivo de sequência indicada.
+	 * 
+	 * @param directory ({@link Path}) - diretório dos arquivos
+	 * @param prefix    ({@link String}) - prefixo dos arquivos
+	 * @param sequence  ({@code long}) - sequência do arquivo
+	 * @param suffix    ({@link String}) - extensão dos arquivos
+	 * @return {@code Path} - caminho do arquivo
+	 */
+	public static Path path(Path directory, String prefix, long sequence, String suffix) {
+		return directory.resolve(String.format("%s-%08d%s", prefix, sequence, suffix));
+	}
+	
+	/**
+	 * Lista os arquivos do diretório em ordem de sequência.
+	 * 
+	 * @param directory ({@link Path}) - diretório dos arquivos
+	 * @param prefix    ({@link String}) - prefixo dos arquivos
+	 * @param suffix    ({@link String}) - extensão dos arquivos
+	 * @return {@code List<Path>} - arquivos encontrados
+	 * @throws IOException lançada em caso de falha na leitura do diretório.
+	 */
+	public static List<Path> list(Path directory, String prefix, String suffix) throws IOException {
+		List<Path> files = new ArrayList<>();
+		
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "-*" + suffix)) {
+			for (Path path : stream) {
+				if(sequenceOf(path, prefix, suffix) > 0) {
+					files.add(path);
+				}
+			}
+		}
+		
+		Collections.sort(files, (a, b) -> Long.compare(sequenceOf(a, prefix, suffix), sequenceOf(b, prefix, suffix)));
+		
+		return files;
+	}
+	
+	/**
+	 * Retorna a sequência do arquivo indicado.
+	 * 
+	 * @param path   ({@link Path}) - arquivo
+	 * @param prefix ({@link String}) - prefixo dos arquivos
+	 * @param suffix ({@link String}) - extensão dos arquivos
+	 * @return {@code long} - sequência ou <b>-1</b> caso o nome seja inválido
+	 */
+	public static long sequenceOf(Path path, String prefix, String suffix) {
+		String fileName = path.getFileName().toString();
+		
+		if(fileName.length() <= prefix.length() + 1 + suffix.length()) {
+			return -1;
+		}
+		
+		try {
+			return Long.parseLong(fileName.substring(prefix.length() + 1, fileName.length() - suffix.length()));
+		}
+		catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+	
+	/**
+	 * Remove os arquivos mais antigos além do limite indicado.
+	 * 
+	 * @param files    ({@link List}) - arquivos em ordem de sequência
+	 * @param maxFiles ({@code int}) - quantidade de arquivos mantidos
+	 * @throws IOException lançada em caso de falha na remoção.
+	 */
+	public static void deleteOldest(List<Path> files, int maxFiles) throws IOException {
+		for (int i = 0; i < files.size() - maxFiles; i++) {
+			Files.deleteIfExists(files.get(i));
+		}
+	}
+}
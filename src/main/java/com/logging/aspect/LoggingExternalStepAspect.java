@@ -1,8 +1,5 @@
 package com.logging.aspect;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
-
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
@@ -12,6 +9,7 @@ import org.springframework.stereotype.Component;
 
 import com.logging.annotation.ExternalStep;
 import com.logging.component.LoggingComponent;
+import com.logging.metrics.LatencyHistogramRegistry;
 import com.logging.model.ExternalStepLogModel;
 
 /**
@@ -28,6 +26,9 @@ public class LoggingExternalStepAspect {
 	@Autowired
 	private LoggingComponent loggingComponent;
 	
+	@Autowired
+	private LatencyHistogramRegistry latencyHistogramRegistry;
+	
 	/**
 	 * Advice para orientação a aspectos em métodos anotados com
 	 * {@link ExternalStep}.
@@ -41,20 +42,24 @@ public class LoggingExternalStepAspect {
 		MethodSignature methodSignature = (MethodSignature) proceedingJoinPoint.getSignature();
 		ExternalStep routeStepAnnotation = methodSignature.getMethod().getAnnotation(ExternalStep.class);	
 		
-		LocalDateTime startTime = LocalDateTime.now();
-		
-		proceedingJoinPoint.proceed();
+		long startNanos = System.nanoTime();
+		boolean failed = true;
 		
-		LocalDateTime endTime = LocalDateTime.now();
-		long duration = Duration.between(startTime, endTime).toMillis();
-			
-		ExternalStepLogModel externalStepLogModel = new ExternalStepLogModel();
-		externalStepLogModel.setStartTime(startTime);
-		externalStepLogModel.setEndTime(endTime);
-		externalStepLogModel.setDuration(duration);
-		externalStepLogModel.setStepId(routeStepAnnotation.stepId());
-		externalStepLogModel.setStatus("Executed");
+		try {
+			proceedingJoinPoint.proceed();
+			failed = false;
+		}
+		finally {
+			long endNanos = System.nanoTime();
+			latencyHistogramRegistry.recordStep(routeStepAnnotation.stepId(), endNanos - startNanos, failed);
 				
-		loggingComponent.addExternalStepLog(externalStepLogModel);
+			ExternalStepLogModel externalStepLogModel = new ExternalStepLogModel();
+			externalStepLogModel.setTiming(startNanos, endNanos);
+			externalStepLogModel.setStepId(routeStepAnnotation.stepId());
+			externalStepLogModel.setStatus(failed ? "Failed" : "Executed");
+			externalStepLogModel.setFailed(failed);
+					
+			loggingComponent.addExternalStepLog(externalStepLogModel);
+		}
 	}	
 }
@@ -0,0 +1,126 @@
+package com.logging.component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Política de captura automática de bodies compilada na inicialização. Apenas
+ * conteúdos JSON sem codificação ({@code Content-Encoding}) são capturados,
+ * ignorando bodies binários e multipart.
+ * <p>
+ * Os campos sensíveis são comparados sem distinção de maiúsculas e mascarados
+ * na emissão do payload.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingBodyPolicy {
+	
+	private static final String JSON_MEDIA_TYPE = "application/json";
+	
+	private static final String JSON_SUFFIX = "+json";
+	
+	private static final String IDENTITY_ENCODING = "identity";
+	
+	private final int limitBytes;
+	
+	private final Set<String> sensitiveFields;
+
+	/**
+	 * Construtor da política de bodies.
+	 * 
+	 * @param limitBytes      ({@code int}) - quantidade máxima de bytes copiados
+	 *                        de cada body
+	 * @param sensitiveFields ({@link Collection}) - nomes dos campos mascarados
+	 */
+	public LoggingBodyPolicy(int limitBytes, Collection<String> sensitiveFields) {
+		this.limitBytes = Math.max(0, limitBytes);
+		this.sensitiveFields = new HashSet<>();
+		
+		if(sensitiveFields != null) {
+			for (String field : sensitiveFields) {
+				String trimmed = field.trim();
+				
+				if(!trimmed.isEmpty()) {
+					this.sensitiveFields.add(normalize(trimmed));
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Retorna a quantidade máxima de bytes copiados de cada body.
+	 * 
+	 * @return {@code int} - limite de bytes
+	 */
+	public int getLimitBytes() {
+		return limitBytes;
+	}
+	
+	/**
+	 * Verifica se o body com o content type e a codificação indicados deve ser
+	 * capturado.
+	 * 
+	 * @param contentType     ({@link String}) - content type do body
+	 * @param contentEncoding ({@link String}) - header {@code Content-Encoding}
+	 * @return {@code boolean} - <b>true</b> caso o body seja JSON sem codificação
+	 */
+	public boolean isCapturable(String contentType, String contentEncoding) {
+		if(contentEncoding != null && !IDENTITY_ENCODING.equalsIgnoreCase(contentEncoding.trim())) {
+			return false;
+		}
+		
+		if(contentType == null) {
+			return false;
+		}
+		
+		int end = contentType.indexOf(';');
+		
+		if(end < 0) {
+			end = contentType.length();
+		}
+		
+		while(end > 0 && contentType.charAt(end - 1) == ' ') {
+			end--;
+		}
+		
+		if(end == JSON_MEDIA_TYPE.length() && contentType.regionMatches(true, 0, JSON_MEDIA_TYPE, 0, end)) {
+			return true;
+		}
+		
+		return end > JSON_SUFFIX.length()
+				&& contentType.regionMatches(true, end - JSON_SUFFIX.length(), JSON_SUFFIX, 0, JSON_SUFFIX.length());
+	}
+	
+	/**
+	 * Indica se existem campos sensíveis configurados.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso existam campos sensíveis
+	 */
+	public boolean hasSensitiveFields() {
+		return !sensitiveFields.isEmpty();
+	}
+	
+	/**
+	 * Verifica se o campo é sensível e deve ser mascarado.
+	 * 
+	 * @param fieldName ({@link String}) - nome do campo
+	 * @return {@code boolean} - <b>true</b> caso o campo seja sensível
+	 */
+	public boolean isSensitive(String fieldName) {
+		return fieldName != null && sensitiveFields.contains(normalize(fieldName));
+	}
+	
+	/**
+	 * Normaliza o nome do campo para comparação sem distinção de caixa.
+	 * 
+	 * @param name ({@link String}) - nome do campo
+	 * @return {@link String} - nome normalizado
+	 */
+	private static String normalize(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+}
@@ -1,7 +1,10 @@
 package com.logging.component;
 
+import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
 
+import javax.annotation.PostConstruct;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
@@ -10,15 +13,24 @@ import javax.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
 import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import com.logging.context.LoggingContext;
 import com.logging.context.LoggingContextConstants;
+import com.logging.context.LoggingContextHolder;
 import com.logging.context.LoggingContextMap;
+import com.logging.enumerator.ContextMode;
+import com.logging.enumerator.HeaderPolicyMode;
 import com.logging.enumerator.MaskingStrategy;
+import com.logging.metrics.LoggingMetrics;
+import com.logging.model.BodyCapture;
 import com.logging.model.ExternalStepLogModel;
 import com.logging.model.InternalStepLogModel;
 import com.logging.model.PayloadLogModel;
+import com.logging.utils.MaskingUtils;
 
 /**
  * Componente responsável pela inserção de itens a serem logados junto ao
@@ -33,6 +45,55 @@ public class LoggingComponent {
 	
 	@Value("#{'${app.logging.headers-sensiveis}'.split(',')}")
 	private List<String> sensitiveHeaders;
+	
+	@Value("${app.logging.headers.modo:ALL}")
+	private HeaderPolicyMode headerPolicyMode;
+	
+	@Value("#{'${app.logging.headers.permitidos:}'.split(',')}")
+	private List<String> allowedHeaders;
+	
+	@Value("#{'${app.logging.headers.bloqueados:}'.split(',')}")
+	private List<String> deniedHeaders;
+	
+	@Value("${app.logging.body.captura.habilitado:false}")
+	private boolean bodyCaptureEnabled;
+	
+	@Value("${app.logging.body.captura.limite-bytes:8192}")
+	private int bodyCaptureLimit;
+	
+	@Value("#{'${app.logging.body.campos-sensiveis:}'.split(',')}")
+	private List<String> sensitiveBodyFields;
+	
+	private LoggingHeaderPolicy headerPolicy;
+	
+	private LoggingBodyPolicy bodyPolicy;
+	
+	/**
+	 * Compila as políticas de captura de headers e bodies.
+	 */
+	@PostConstruct
+	public void init() {
+		headerPolicy = new LoggingHeaderPolicy(headerPolicyMode, sensitiveHeaders, allowedHeaders, deniedHeaders);
+		bodyPolicy = new LoggingBodyPolicy(bodyCaptureLimit, sensitiveBodyFields);
+	}
+	
+	/**
+	 * Indica se a captura automática de bodies está habilitada.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso a captura esteja habilitada
+	 */
+	public boolean isBodyCaptureEnabled() {
+		return bodyCaptureEnabled;
+	}
+	
+	/**
+	 * Retorna a política de captura de bodies JSON.
+	 * 
+	 * @return {@code LoggingBodyPolicy} - política de captura de bodies
+	 */
+	public LoggingBodyPolicy getBodyPolicy() {
+		return bodyPolicy;
+	}
 
 	/**
 	 * Adiciona um log interno.
@@ -44,6 +105,10 @@ public class LoggingComponent {
 	public void addInternalStepLog(String message, Level level, Class<?> caller) {
 		PayloadLogModel payloadLogModel = getPayloadLogModel();
 		
+		if(payloadLogModel == null) {
+			return;
+		}
+		
 		payloadLogModel.addInternalStepLog(new InternalStepLogModel(message, level, caller));
 	}
 
@@ -54,12 +119,18 @@ public class LoggingComponent {
 	 */
 	public void addRequest(ServletRequest request) {		
 		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null) {
+			return;
+		}
+		long startNanos = System.nanoTime();
 		HttpServletRequest httpServletRequest = (HttpServletRequest) request;
 		
 		this.addRequestHeaders(httpServletRequest, payloadLogModel);
 		
 		payloadLogModel.addRequestUri(httpServletRequest.getRequestURI());
 		payloadLogModel.addRequestMethod(httpServletRequest.getMethod());
+		LoggingMetrics.capture(System.nanoTime() - startNanos);
 	}
 
 	/**
@@ -69,13 +140,54 @@ public class LoggingComponent {
 	 */
 	public void addResponse(ServletResponse response) {
 		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null) {
+			return;
+		}
+		long startNanos = System.nanoTime();
 		HttpServletResponse httpServletResponse = (HttpServletResponse) response;
 			
 		addResponseHeaders(httpServletResponse, payloadLogModel);
 			
 		payloadLogModel.addResponseStatus(httpServletResponse.getStatus());
 			
-		payloadLogModel.finish();		
+		payloadLogModel.finish();
+		LoggingMetrics.capture(System.nanoTime() - startNanos);
+	}
+	
+	/**
+	 * Adiciona os dados de request ao payload indicado, para stacks em que o
+	 * contexto não está vinculado à thread (WebFlux).
+	 * 
+	 * @param payloadLogModel ({@link PayloadLogModel}) - payload do contexto
+	 * @param method          ({@link String}) - método HTTP
+	 * @param uri             ({@link String}) - URI da requisição
+	 * @param headers         ({@link HttpHeaders}) - headers de request
+	 */
+	public void addRequest(PayloadLogModel payloadLogModel, String method, String uri, HttpHeaders headers) {
+		long startNanos = System.nanoTime();
+		addHeaders(headers, payloadLogModel, true);
+		
+		payloadLogModel.addRequestUri(uri);
+		payloadLogModel.addRequestMethod(method);
+		LoggingMetrics.capture(System.nanoTime() - startNanos);
+	}
+	
+	/**
+	 * Adiciona os dados de response ao payload indicado e o finaliza, para
+	 * stacks em que o contexto não está vinculado à thread (WebFlux).
+	 * 
+	 * @param payloadLogModel ({@link PayloadLogModel}) - payload do contexto
+	 * @param status          ({@link Integer}) - status HTTP do response
+	 * @param headers         ({@link HttpHeaders}) - headers de response
+	 */
+	public void addResponse(PayloadLogModel payloadLogModel, Integer status, HttpHeaders headers) {
+		long startNanos = System.nanoTime();
+		addHeaders(headers, payloadLogModel, false);
+		
+		payloadLogModel.addResponseStatus(status);
+		payloadLogModel.finish();
+		LoggingMetrics.capture(System.nanoTime() - startNanos);
 	}
 	
 	/**
@@ -85,6 +197,10 @@ public class LoggingComponent {
 	 */
 	public void addRequestParameters(Object parameters) {
 		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null) {
+			return;
+		}
 		payloadLogModel.addRequestParameters(parameters);
 	}
 
@@ -95,6 +211,10 @@ public class LoggingComponent {
 	 */
 	public void addRequestBody(Object body) {
 		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null) {
+			return;
+		}
 		payloadLogModel.addRequestBody(body);
 	}
 	
@@ -105,9 +225,45 @@ public class LoggingComponent {
 	 */
 	public void addResponseBody(Object body) {
 		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null) {
+			return;
+		}
 		payloadLogModel.addResponseBody(body);
 	}
 	
+	/**
+	 * Adiciona o body de request já serializado em JSON (UTF-8). O conteúdo é
+	 * embutido no payload sem conversão para objetos, aplicando o limite e os
+	 * campos sensíveis da política de bodies.
+	 * 
+	 * @param json ({@code byte[]}) - body de request serializado
+	 */
+	public void addRawRequestBody(byte[] json) {
+		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null || json == null) {
+			return;
+		}
+		payloadLogModel.addRequestBody(BodyCapture.forContent(json, bodyPolicy));
+	}
+	
+	/**
+	 * Adiciona o body de response já serializado em JSON (UTF-8). O conteúdo é
+	 * embutido no payload sem conversão para objetos, aplicando o limite e os
+	 * campos sensíveis da política de bodies.
+	 * 
+	 * @param json ({@code byte[]}) - body de response serializado
+	 */
+	public void addRawResponseBody(byte[] json) {
+		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null || json == null) {
+			return;
+		}
+		payloadLogModel.addResponseBody(BodyCapture.forContent(json, bodyPolicy));
+	}
+	
 	/**
 	 * Adiciona o log de uma chamada externa.
 	 * 
@@ -116,44 +272,98 @@ public class LoggingComponent {
 	 */
 	public void addExternalStepLog(ExternalStepLogModel externalStepLogModel) {
 		PayloadLogModel payloadLogModel = getPayloadLogModel();
+		
+		if(payloadLogModel == null) {
+			return;
+		}
 		payloadLogModel.addExternalStepLog(externalStepLogModel);
 	}
 
 	/**
-	 * Retorna o {@link PayloadLogModel} com base no contexto MDC da requisição.
+	 * Retorna o {@link PayloadLogModel} do contexto vinculado à thread corrente.
+	 * Caso nenhum contexto esteja vinculado, recorre à requisição corrente do
+	 * Spring MVC (inclusive em dispatches assíncronos) e, por fim, ao registro de
+	 * contextos com base no id presente no MDC. No modo {@link ContextMode#LIGHTWEIGHT}
+	 * apenas o vínculo da thread é consultado, sem acesso a ThreadLocals
+	 * herdáveis ou ao MDC.
 	 * 
-	 * @return {@code PayloadLogModel} - payload atrelado ao contexto de log.
+	 * @return {@code PayloadLogModel} - payload atrelado ao contexto de log ou
+	 *         <b>null</b> caso não exista contexto ou o contexto não tenha sido
+	 *         amostrado.
 	 */
 	private PayloadLogModel getPayloadLogModel() {
-		String contextId = MDC.get(LoggingContextConstants.CONTEXT_ID);
-		LoggingContext loggingContext = LoggingContextMap.recuperarContexto(contextId);
+		LoggingContext loggingContext = LoggingContextHolder.recuperarContexto();
+		
+		if(loggingContext == null && LoggingContextHolder.recuperarModo() == ContextMode.THREAD_LOCAL) {
+			loggingContext = getRequestLoggingContext();
+			
+			if(loggingContext == null) {
+				String contextId = MDC.get(LoggingContextConstants.CONTEXT_ID);
+				loggingContext = LoggingContextMap.recuperarContexto(contextId);
+			}
+		}
+		
+		if(loggingContext == null || !loggingContext.isSampled()) {
+			return null;
+		}
 		
 		PayloadLogModel payloadLogModel = loggingContext.getPayloadLogModel();
 		return payloadLogModel;
 	}
 	
 	/**
-	 * Adiciona os headers de request com base na lista de campos sensíveis mapeada.
+	 * Retorna o contexto de log armazenado na requisição corrente do Spring MVC.
+	 * 
+	 * @return {@code LoggingContext} - contexto da requisição ou <b>null</b> caso
+	 *         não exista.
+	 */
+	private static LoggingContext getRequestLoggingContext() {
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		
+		if(requestAttributes == null) {
+			return null;
+		}
+		
+		Object attribute = requestAttributes.getAttribute(LoggingContextConstants.CONTEXT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		return attribute instanceof LoggingContext ? (LoggingContext) attribute : null;
+	}
+	
+	/**
+	 * Adiciona os headers de request com base na política de headers.
 	 * 
 	 * @param httpServletRequest ({@link HttpServletRequest}) - dados do request
 	 * @param payloadLogModel    ({@link PayloadLogModel}) - modelo de armazenamento
 	 *                           dos itens a serem logados
 	 */
 	private void addRequestHeaders(HttpServletRequest httpServletRequest, PayloadLogModel payloadLogModel) {
-		httpServletRequest.getHeaderNames().asIterator().forEachRemaining(key -> {
-			String value = httpServletRequest.getHeader(key);
+		Enumeration<String> headerNames = httpServletRequest.getHeaderNames();
+		
+		while(headerNames.hasMoreElements()) {
+			String key = headerNames.nextElement();
+			String normalizedKey = LoggingHeaderPolicy.normalize(key);
+			
+			if(!headerPolicy.shouldCapture(normalizedKey)) {
+				continue;
+			}
+			
+			boolean sensitive = headerPolicy.isSensitive(normalizedKey);
+			Enumeration<String> values = httpServletRequest.getHeaders(key);
 			
-			if(sensitiveHeaders.contains(key)) {
-				payloadLogModel.addRequestHeader(key, value, MaskingStrategy.FULL);
+			while(values != null && values.hasMoreElements()) {
+				String value = values.nextElement();
+				
+				if(sensitive) {
+					payloadLogModel.addRequestHeader(key, value, MaskingStrategy.FULL);
+				}
+				else {
+					payloadLogModel.addRequestHeader(key, value);
+				}
 			}
-			else {
-				payloadLogModel.addRequestHeader(key, value);
-			}			
-		});
+		}
 	}
 
 	/**
-	 * Adiciona os headers de response com base na lista de campos sensíveis mapeada.
+	 * Adiciona os headers de response com base na política de headers.
 	 * 
 	 * @param httpServletResponse ({@link HttpServletResponse}) - dados do response
 	 * @param payloadLogModel    ({@link PayloadLogModel}) - modelo de armazenamento
@@ -161,15 +371,58 @@ public class LoggingComponent {
 	 * 
 	 */
 	private void addResponseHeaders(HttpServletResponse httpServletResponse, PayloadLogModel payloadLogModel) {
-		httpServletResponse.getHeaderNames().forEach(key -> {
-			String value = httpServletResponse.getHeader(key);
+		for (String key : httpServletResponse.getHeaderNames()) {
+			String normalizedKey = LoggingHeaderPolicy.normalize(key);
+			
+			if(!headerPolicy.shouldCapture(normalizedKey)) {
+				continue;
+			}
+			
+			boolean sensitive = headerPolicy.isSensitive(normalizedKey);
+			
+			for (String value : httpServletResponse.getHeaders(key)) {
+				if(sensitive) {
+					payloadLogModel.addResponseHeader(key, value, MaskingStrategy.FULL);
+				}
+				else {
+					payloadLogModel.addResponseHeader(key, value);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Adiciona os headers indicados com base na política de headers.
+	 * 
+	 * @param headers         ({@link HttpHeaders}) - headers a serem adicionados
+	 * @param payloadLogModel ({@link PayloadLogModel}) - modelo de armazenamento
+	 *                        dos itens a serem logados
+	 * @param request         ({@code boolean}) - <b>true</b> para headers de
+	 *                        request, <b>false</b> para headers de response
+	 */
+	private void addHeaders(HttpHeaders headers, PayloadLogModel payloadLogModel, boolean request) {
+		for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+			String key = header.getKey();
+			String normalizedKey = LoggingHeaderPolicy.normalize(key);
+			
+			if(!headerPolicy.shouldCapture(normalizedKey)) {
+				continue;
+			}
+			
+			boolean sensitive = headerPolicy.isSensitive(normalizedKey);
 			
-			if(sensitiveHeaders.contains(key)) {
-				payloadLogModel.addResponseHeader(key, value, MaskingStrategy.FULL);
+			for (String value : header.getValue()) {
+				if(sensitive) {
+					value = MaskingUtils.maskValue(value, MaskingStrategy.FULL);
+				}
+				
+				if(request) {
+					payloadLogModel.addRequestHeader(key, value);
+				}
+				else {
+					payloadLogModel.addResponseHeader(key, value);
+				}
 			}
-			else {
-				payloadLogModel.addResponseHeader(key, value);
-			}			
-		});
+		}
 	}
-}
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.logging.component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import com.logging.enumerator.HeaderPolicyMode;
+
+/**
+ * Política de captura de headers compilada na inicialização. Os nomes são
+ * normalizados em minúsculas e armazenados em conjuntos hash, permitindo
+ * consultas case-insensitive em tempo constante.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingHeaderPolicy {
+	
+	private final HeaderPolicyMode mode;
+	
+	private final Set<String> sensitiveHeaders;
+	
+	private final Set<String> listedHeaders;
+
+	/**
+	 * Construtor da política de headers.
+	 * 
+	 * @param mode             ({@link HeaderPolicyMode}) - modo de seleção
+	 * @param sensitiveHeaders ({@link Collection}) - headers mascarados
+	 * @param allowedHeaders   ({@link Collection}) - headers permitidos no modo
+	 *                         {@link HeaderPolicyMode#ALLOWLIST}
+	 * @param deniedHeaders    ({@link Collection}) - headers bloqueados no modo
+	 *                         {@link HeaderPolicyMode#DENYLIST}
+	 */
+	public LoggingHeaderPolicy(HeaderPolicyMode mode, Collection<String> sensitiveHeaders,
+			Collection<String> allowedHeaders, Collection<String> deniedHeaders) {
+		this.mode = mode;
+		this.sensitiveHeaders = compile(sensitiveHeaders);
+		
+		switch (mode) {
+		case ALLOWLIST:
+			this.listedHeaders = compile(allowedHeaders);
+			break;
+			
+		case DENYLIST:
+			this.listedHeaders = compile(deniedHeaders);
+			break;
+
+		default:
+			this.listedHeaders = new HashSet<>();
+			break;
+		}
+	}
+	
+	/**
+	 * Normaliza o nome do header para consulta.
+	 * 
+	 * @param name ({@link String}) - nome do header
+	 * @return {@code String} - nome normalizado
+	 */
+	public static String normalize(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+	
+	/**
+	 * Verifica se o header deve ser capturado.
+	 * 
+	 * @param normalizedName ({@link String}) - nome do header normalizado
+	 * @return {@code boolean} - <b>true</b> caso o header deva ser capturado
+	 */
+	public boolean shouldCapture(String normalizedName) {
+		switch (mode) {
+		case ALLOWLIST:
+			return listedHeaders.contains(normalizedName);
+			
+		case DENYLIST:
+			return !listedHeaders.contains(normalizedName);
+
+		default:
+			return true;
+		}
+	}
+	
+	/**
+	 * Verifica se o header é sensível e deve ser mascarado.
+	 * 
+	 * @param normalizedName ({@link String}) - nome do header normalizado
+	 * @return {@code boolean} - <b>true</b> caso o header seja sensível
+	 */
+	public boolean isSensitive(String normalizedName) {
+		return sensitiveHeaders.contains(normalizedName);
+	}
+	
+	/**
+	 * Monta o conjunto de nomes de headers normalizados, ignorando nomes vazios.
+	 * 
+	 * @param headers ({@link Collection}) - nomes de headers configurados
+	 * @return {@link Set} - nomes de headers normalizados
+	 */
+	private static Set<String> compile(Collection<String> headers) {
+		Set<String> compiled = new HashSet<>();
+		
+		if(headers != null) {
+			for (String header : headers) {
+				String trimmed = header.trim();
+				
+				if(!trimmed.isEmpty()) {
+					compiled.add(normalize(trimmed));
+				}
+			}
+		}
+		
+		return compiled;
+	}
+}
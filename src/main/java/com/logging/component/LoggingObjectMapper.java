@@ -2,13 +2,20 @@ package com.logging.component;
 
 import java.text.SimpleDateFormat;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.logging.configuration.LoggingMaskingIntrospector;
 
 /**
  * Mapper configurado para logging e serialização de itens mascarados.
+ * <p>
+ * Instâncias são custosas por manterem o cache de serializadores. Para uso
+ * interno da biblioteca, utilize a instância compartilhada exposta por
+ * {@link LoggingObjectWriters}.
  * 
  * @author Mauricio Souza Couto
  * @since 2021-06-21
@@ -19,7 +26,18 @@ public final class LoggingObjectMapper extends ObjectMapper {
 	private static final long serialVersionUID = -6999905462776507438L;
 
 	public LoggingObjectMapper() {
-		setAnnotationIntrospector(new LoggingMaskingIntrospector());
+		this(null);
+	}
+	
+	/**
+	 * Construtor do mapper para o formato da factory indicada (ex.: Smile).
+	 * 
+	 * @param jsonFactory ({@link JsonFactory}) - factory do formato de saída ou
+	 *                    <b>null</b> para JSON
+	 */
+	public LoggingObjectMapper(JsonFactory jsonFactory) {
+		super(jsonFactory);
+		setAnnotationIntrospector(AnnotationIntrospector.pair(new LoggingMaskingIntrospector(), new JacksonAnnotationIntrospector()));
 		registerModule(new JavaTimeModule());
 		configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
 		setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss:SSS"));
@@ -0,0 +1,103 @@
+package com.logging.component;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Centraliza o {@link LoggingObjectMapper} compartilhado pela biblioteca e os
+ * {@link ObjectWriter}s pré-configurados a partir dele.
+ * <p>
+ * O mapper é configurado uma única vez e nunca exposto, de forma que apenas
+ * writers e readers imutáveis (e thread-safe) são distribuídos. Todos
+ * compartilham o mesmo cache de serializadores. O formato binário Smile utiliza
+ * um mapper próprio, com a mesma configuração.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingObjectWriters {
+
+	private static final LoggingObjectMapper MAPPER = new LoggingObjectMapper();
+	
+	private static final ObjectWriter COMPACT_WRITER = MAPPER.writer();
+	
+	private static final ObjectWriter PRETTY_WRITER = MAPPER.writerWithDefaultPrettyPrinter();
+	
+	private static final ObjectReader READER = MAPPER.reader();
+	
+	private static final LoggingObjectMapper SMILE_MAPPER = new LoggingObjectMapper(new SmileFactory()
+			.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES));
+	
+	private static final ObjectWriter SMILE_WRITER = SMILE_MAPPER.writer();
+	
+	private static final ObjectReader SMILE_READER = SMILE_MAPPER.reader();
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private LoggingObjectWriters() {}
+	
+	/**
+	 * Retorna o writer compacto (linha única), com mascaramento de campos
+	 * sensíveis.
+	 * 
+	 * @return {@code ObjectWriter} - writer compacto
+	 */
+	public static ObjectWriter compactWriter() {
+		return COMPACT_WRITER;
+	}
+	
+	/**
+	 * Retorna o writer com pretty print, com mascaramento de campos sensíveis.
+	 * 
+	 * @return {@code ObjectWriter} - writer formatado
+	 */
+	public static ObjectWriter prettyWriter() {
+		return PRETTY_WRITER;
+	}
+	
+	/**
+	 * Retorna o reader compartilhado.
+	 * 
+	 * @return {@code ObjectReader} - reader compartilhado
+	 */
+	public static ObjectReader reader() {
+		return READER;
+	}
+	
+	/**
+	 * Retorna o writer do formato binário Smile, com mascaramento de campos
+	 * sensíveis. Nomes de campos e valores repetidos em um mesmo payload são
+	 * escritos como referências.
+	 * 
+	 * @return {@code ObjectWriter} - writer Smile
+	 */
+	public static ObjectWriter smileWriter() {
+		return SMILE_WRITER;
+	}
+	
+	/**
+	 * Retorna o reader do formato binário Smile.
+	 * 
+	 * @return {@code ObjectReader} - reader Smile
+	 */
+	public static ObjectReader smileReader() {
+		return SMILE_READER;
+	}
+	
+	/**
+	 * Converte o valor indicado para o tipo informado, aplicando o mascaramento de
+	 * campos sensíveis.
+	 * 
+	 * @param <T>         tipo de destino
+	 * @param value       ({@link Object}) - valor a ser convertido
+	 * @param targetClass ({@link Class}) - tipo de destino
+	 * @return {@code T} - valor convertido
+	 */
+	public static <T> T convertValue(Object value, Class<T> targetClass) {
+		return MAPPER.convertValue(value, targetClass);
+	}
+}
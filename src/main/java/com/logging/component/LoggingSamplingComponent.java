@@ -0,0 +1,128 @@
+package com.logging.component;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import com.logging.model.ExternalStepLogModel;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Componente responsável pelas decisões de amostragem dos payloads de log.
+ * <p>
+ * A amostragem de entrada (head) é decidida por padrão de URI antes da captura
+ * dos dados da requisição. A amostragem de saída (tail) é decidida após a
+ * captura do response, mantendo sempre respostas 5xx, requisições lentas e
+ * requisições com falha em chamadas externas.
+ * <p>
+ * As taxas são compiladas na inicialização em arrays imutáveis, de forma que a
+ * decisão não utiliza locks.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@Component
+public class LoggingSamplingComponent {
+	
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+	
+	@Value("#{${app.logging.amostragem.rotas:{:}}}")
+	private Map<String, Double> routeRates;
+	
+	@Value("${app.logging.amostragem.taxa-padrao:1.0}")
+	private double defaultRate;
+	
+	@Value("${app.logging.amostragem.cauda.taxa:1.0}")
+	private double tailRate;
+	
+	@Value("${app.logging.amostragem.cauda.lento-ms:1000}")
+	private long slowThresholdMs;
+	
+	private String[] patterns = new String[0];
+	
+	private double[] rates = new double[0];
+	
+	/**
+	 * Compila as taxas por rota, preservando a ordem de declaração. O primeiro
+	 * padrão compatível com a URI define a taxa aplicada.
+	 */
+	@PostConstruct
+	public void compile() {
+		patterns = routeRates.keySet().toArray(new String[0]);
+		rates = new double[patterns.length];
+		
+		for (int i = 0; i < patterns.length; i++) {
+			rates[i] = routeRates.get(patterns[i]);
+		}
+	}
+	
+	/**
+	 * Decide se a requisição deve ter seus dados capturados.
+	 * 
+	 * @param uri ({@link String}) - uri da requisição
+	 * @return {@code boolean} - <b>true</b> caso a requisição seja amostrada
+	 */
+	public boolean sampleHead(String uri) {
+		double rate = defaultRate;
+		
+		for (int i = 0; i < patterns.length; i++) {
+			if(PATH_MATCHER.match(patterns[i], uri)) {
+				rate = rates[i];
+				break;
+			}
+		}
+		
+		return sample(rate);
+	}
+	
+	/**
+	 * Decide se o payload capturado deve ser emitido.
+	 * 
+	 * @param payloadLogModel ({@link PayloadLogModel}) - payload finalizado
+	 * @return {@code boolean} - <b>true</b> caso o payload deva ser emitido
+	 */
+	public boolean sampleTail(PayloadLogModel payloadLogModel) {
+		Integer statusCode = payloadLogModel.getResponse().getStatusCode();
+		
+		if(statusCode != null && statusCode >= 500) {
+			return true;
+		}
+		
+		if(payloadLogModel.getDurationNanos() >= TimeUnit.MILLISECONDS.toNanos(slowThresholdMs)) {
+			return true;
+		}
+		
+		for (ExternalStepLogModel externalStepLogModel : payloadLogModel.getExternalSteps()) {
+			if(externalStepLogModel.isFailed()) {
+				return true;
+			}
+		}
+		
+		return sample(tailRate);
+	}
+	
+	/**
+	 * Sorteia a amostragem com a taxa indicada, sem sorteio nas taxas extremas.
+	 * 
+	 * @param rate ({@code double}) - taxa de amostragem entre 0 e 1
+	 * @return {@code boolean} - <b>true</b> caso a requisição seja amostrada
+	 */
+	private static boolean sample(double rate) {
+		if(rate >= 1.0d) {
+			return true;
+		}
+		
+		if(rate <= 0.0d) {
+			return false;
+		}
+		
+		return ThreadLocalRandom.current().nextDouble() < rate;
+	}
+}
@@ -0,0 +1,160 @@
+package com.logging.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lista concorrente destinada apenas à inserção, utilizada no acúmulo de steps
+ * registrados por múltiplas threads.
+ * <p>
+ * Cada inserção reserva uma posição através de um único incremento atômico e
+ * grava o item em um bloco cujo tamanho dobra a cada nível. O diretório de
+ * blocos tem tamanho fixo, de forma que nunca é realocado: a inserção não
+ * utiliza locks e, uma vez criado o bloco, não realiza laços de retentativa.
+ * A leitura é feita por cópia ({@link #toList()}), ignorando posições ainda em
+ * gravação.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ * @param <E> tipo dos itens
+ */
+public final class ConcurrentAppendList<E> {
+	
+	private static final int FIRST_BLOCK_SHIFT = 4;
+	
+	private static final int FIRST_BLOCK_SIZE = 1 << FIRST_BLOCK_SHIFT;
+	
+	private static final int MAX_BLOCKS = Integer.SIZE - FIRST_BLOCK_SHIFT - 1;
+	
+	private final AtomicReferenceArray<AtomicReferenceArray<E>> blocks = new AtomicReferenceArray<>(MAX_BLOCKS);
+	
+	private final AtomicInteger reserved = new AtomicInteger();
+	
+	private final int maxElements;
+
+	/**
+	 * Construtor da lista sem limite de itens.
+	 */
+	public ConcurrentAppendList() {
+		this(0);
+	}
+	
+	/**
+	 * Construtor da lista com limite de itens.
+	 * 
+	 * @param maxElements ({@code int}) - quantidade máxima de itens. Valores
+	 *                    menores ou iguais a zero indicam ausência de limite.
+	 */
+	public ConcurrentAppendList(int maxElements) {
+		this.maxElements = maxElements > 0 ? maxElements : Integer.MAX_VALUE - FIRST_BLOCK_SIZE;
+	}
+	
+	/**
+	 * Insere o item caso o limite não tenha sido atingido.
+	 * 
+	 * @param item ({@link Object}) - item a ser inserido
+	 * @return {@code boolean} - <b>true</b> caso o item tenha sido inserido
+	 */
+	public boolean add(E item) {
+		int index = reserved.getAndIncrement();
+		
+		if(index < 0 || index >= maxElements) {
+			return false;
+		}
+		
+		int position = index + FIRST_BLOCK_SIZE;
+		int highestBit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position);
+		
+		block(highestBit - FIRST_BLOCK_SHIFT, 1 << highestBit).set(position ^ (1 << highestBit), item);
+		return true;
+	}
+	
+	/**
+	 * Retorna a quantidade de itens inseridos, desconsiderando os descartados
+	 * pelo limite.
+	 * 
+	 * @return {@code int} - quantidade de itens
+	 */
+	public int size() {
+		int size = reserved.get();
+		return size < 0 || size > maxElements ? maxElements : size;
+	}
+	
+	/**
+	 * Indica se a lista está vazia.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso nenhum item tenha sido inserido
+	 */
+	public boolean isEmpty() {
+		return reserved.get() == 0;
+	}
+	
+	/**
+	 * Remove todos os itens, mantendo os blocos alocados para reutilização. Não
+	 * deve ser chamado concorrentemente a inserções.
+	 */
+	public void clear() {
+		int size = size();
+		
+		for (int index = 0; index < size; index++) {
+			int position = index + FIRST_BLOCK_SIZE;
+			int highestBit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position);
+			AtomicReferenceArray<E> block = blocks.get(highestBit - FIRST_BLOCK_SHIFT);
+			
+			if(block != null) {
+				block.lazySet(position ^ (1 << highestBit), null);
+			}
+		}
+		
+		reserved.set(0);
+	}
+	
+	/**
+	 * Retorna uma cópia dos itens na ordem de reserva das posições.
+	 * 
+	 * @return {@code List} - cópia dos itens
+	 */
+	public List<E> toList() {
+		int size = size();
+		List<E> list = new ArrayList<>(size);
+		
+		for (int index = 0; index < size; index++) {
+			int position = index + FIRST_BLOCK_SIZE;
+			int highestBit = Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position);
+			AtomicReferenceArray<E> block = blocks.get(highestBit - FIRST_BLOCK_SHIFT);
+			
+			if(block != null) {
+				E item = block.get(position ^ (1 << highestBit));
+				
+				if(item != null) {
+					list.add(item);
+				}
+			}
+		}
+		
+		return list;
+	}
+	
+	/**
+	 * Retorna o bloco indicado, criando-o caso ainda não exista. Em caso de
+	 * criação concorrente, prevalece o primeiro bloco publicado.
+	 */
+	private AtomicReferenceArray<E> block(int blockIndex, int blockSize) {
+		AtomicReferenceArray<E> block = blocks.get(blockIndex);
+		
+		if(block != null) {
+			return block;
+		}
+		
+		AtomicReferenceArray<E> created = new AtomicReferenceArray<>(blockSize);
+		
+		if(blocks.compareAndSet(blockIndex, null, created)) {
+			return created;
+		}
+		
+		return blocks.get(blockIndex);
+	}
+}
@@ -0,0 +1,196 @@
+package com.logging.concurrent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Operações estáticas para criação de executores e {@link CompletableFuture}s
+ * que propagam o contexto de log para as threads de execução.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingContextExecutors {
+
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private LoggingContextExecutors() {}
+	
+	/**
+	 * Encapsula o {@link Executor} indicado com propagação de contexto.
+	 * 
+	 * @param executor ({@link Executor}) - executor original
+	 * @return {@code Executor} - executor com propagação de contexto
+	 */
+	public static Executor wrap(Executor executor) {
+		if(executor instanceof ExecutorService) {
+			return wrap((ExecutorService) executor);
+		}
+		
+		if(executor instanceof PropagatingExecutor) {
+			return executor;
+		}
+		
+		return new PropagatingExecutor(executor);
+	}
+	
+	/**
+	 * Encapsula o {@link ExecutorService} indicado com propagação de contexto.
+	 * 
+	 * @param executorService ({@link ExecutorService}) - executor original
+	 * @return {@code ExecutorService} - executor com propagação de contexto
+	 */
+	public static ExecutorService wrap(ExecutorService executorService) {
+		if(executorService instanceof PropagatingExecutorService) {
+			return executorService;
+		}
+		
+		return new PropagatingExecutorService(executorService);
+	}
+	
+	/**
+	 * Equivalente ao {@link CompletableFuture#supplyAsync(Supplier, Executor)} com
+	 * propagação de contexto.
+	 * 
+	 * @param <T>      tipo do retorno
+	 * @param supplier ({@link Supplier}) - tarefa
+	 * @param executor ({@link Executor}) - executor da tarefa
+	 * @return {@code CompletableFuture} - future da tarefa
+	 */
+	public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier, Executor executor) {
+		return CompletableFuture.supplyAsync(LoggingContextPropagation.wrap(supplier), executor);
+	}
+	
+	/**
+	 * Equivalente ao {@link CompletableFuture#runAsync(Runnable, Executor)} com
+	 * propagação de contexto.
+	 * 
+	 * @param runnable ({@link Runnable}) - tarefa
+	 * @param executor ({@link Executor}) - executor da tarefa
+	 * @return {@code CompletableFuture} - future da tarefa
+	 */
+	public static CompletableFuture<Void> runAsync(Runnable runnable, Executor executor) {
+		return CompletableFuture.runAsync(LoggingContextPropagation.wrap(runnable), executor);
+	}
+	
+	/**
+	 * Encapsula as tarefas indicadas com propagação de contexto.
+	 * 
+	 * @param <T>   tipo do resultado das tarefas
+	 * @param tasks ({@link Collection}) - tarefas
+	 * @return {@link List} - tarefas encapsuladas
+	 */
+	private static <T> List<Callable<T>> wrapAll(Collection<? extends Callable<T>> tasks) {
+		List<Callable<T>> wrapped = new ArrayList<>(tasks.size());
+		
+		for (Callable<T> task : tasks) {
+			wrapped.add(LoggingContextPropagation.wrap(task));
+		}
+		
+		return wrapped;
+	}
+	
+	/**
+	 * {@link Executor} com propagação de contexto.
+	 */
+	private static class PropagatingExecutor implements Executor {
+		
+		private final Executor delegate;
+		
+		PropagatingExecutor(Executor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			delegate.execute(LoggingContextPropagation.wrap(command));
+		}
+	}
+	
+	/**
+	 * {@link ExecutorService} com propagação de contexto.
+	 */
+	private static final class PropagatingExecutorService extends PropagatingExecutor implements ExecutorService {
+		
+		private final ExecutorService delegate;
+		
+		PropagatingExecutorService(ExecutorService delegate) {
+			super(delegate);
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void shutdown() {
+			delegate.shutdown();
+		}
+
+		@Override
+		public List<Runnable> shutdownNow() {
+			return delegate.shutdownNow();
+		}
+
+		@Override
+		public boolean isShutdown() {
+			return delegate.isShutdown();
+		}
+
+		@Override
+		public boolean isTerminated() {
+			return delegate.isTerminated();
+		}
+
+		@Override
+		public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+			return delegate.awaitTermination(timeout, unit);
+		}
+
+		@Override
+		public <T> Future<T> submit(Callable<T> task) {
+			return delegate.submit(LoggingContextPropagation.wrap(task));
+		}
+
+		@Override
+		public <T> Future<T> submit(Runnable task, T result) {
+			return delegate.submit(LoggingContextPropagation.wrap(task), result);
+		}
+
+		@Override
+		public Future<?> submit(Runnable task) {
+			return delegate.submit(LoggingContextPropagation.wrap(task));
+		}
+
+		@Override
+		public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks) throws InterruptedException {
+			return delegate.invokeAll(wrapAll(tasks));
+		}
+
+		@Override
+		public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+				throws InterruptedException {
+			return delegate.invokeAll(wrapAll(tasks), timeout, unit);
+		}
+
+		@Override
+		public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException, ExecutionException {
+			return delegate.invokeAny(wrapAll(tasks));
+		}
+
+		@Override
+		public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+			return delegate.invokeAny(wrapAll(tasks), timeout, unit);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.logging.concurrent;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextHolder;
+import com.logging.context.LoggingContextScope;
+
+/**
+ * Operações estáticas para captura do {@link LoggingContext} da thread corrente
+ * e sua restauração na thread que executa a tarefa.
+ * <p>
+ * A captura consiste apenas na leitura da referência do contexto. Caso não
+ * exista contexto vinculado, a tarefa original é retornada sem encapsulamento.
+ * <p>
+ * A tarefa encapsulada mantém uma referência ao contexto
+ * ({@link LoggingContext#retain()}) até o término da sua primeira execução,
+ * impedindo que o contexto seja reutilizado pelo pool enquanto a tarefa
+ * estiver pendente.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingContextPropagation {
+
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private LoggingContextPropagation() {}
+	
+	/**
+	 * Encapsula o {@link Runnable} para execução com o contexto da thread corrente.
+	 * 
+	 * @param runnable ({@link Runnable}) - tarefa
+	 * @return {@code Runnable} - tarefa com propagação de contexto
+	 */
+	public static Runnable wrap(Runnable runnable) {
+		LoggingContext loggingContext = LoggingContextHolder.recuperarContexto();
+		
+		if(loggingContext == null) {
+			return runnable;
+		}
+		
+		ContextReference reference = new ContextReference(loggingContext);
+		
+		return () -> {
+			LoggingContextScope scope = LoggingContextHolder.abrirEscopo(loggingContext);
+			
+			try {
+				runnable.run();
+			}
+			finally {
+				scope.close();
+				reference.release();
+			}
+		};
+	}
+	
+	/**
+	 * Encapsula o {@link Callable} para execução com o contexto da thread corrente.
+	 * 
+	 * @param <T>      tipo do retorno
+	 * @param callable ({@link Callable}) - tarefa
+	 * @return {@code Callable} - tarefa com propagação de contexto
+	 */
+	public static <T> Callable<T> wrap(Callable<T> callable) {
+		LoggingContext loggingContext = LoggingContextHolder.recuperarContexto();
+		
+		if(loggingContext == null) {
+			return callable;
+		}
+		
+		ContextReference reference = new ContextReference(loggingContext);
+		
+		return () -> {
+			LoggingContextScope scope = LoggingContextHolder.abrirEscopo(loggingContext);
+			
+			try {
+				return callable.call();
+			}
+			finally {
+				scope.close();
+				reference.release();
+			}
+		};
+	}
+	
+	/**
+	 * Encapsula o {@link Supplier} para execução com o contexto da thread corrente.
+	 * 
+	 * @param <T>      tipo do retorno
+	 * @param supplier ({@link Supplier}) - tarefa
+	 * @return {@code Supplier} - tarefa com propagação de contexto
+	 */
+	public static <T> Supplier<T> wrap(Supplier<T> supplier) {
+		LoggingContext loggingContext = LoggingContextHolder.recuperarContexto();
+		
+		if(loggingContext == null) {
+			return supplier;
+		}
+		
+		ContextReference reference = new ContextReference(loggingContext);
+		
+		return () -> {
+			LoggingContextScope scope = LoggingContextHolder.abrirEscopo(loggingContext);
+			
+			try {
+				return supplier.get();
+			}
+			finally {
+				scope.close();
+				reference.release();
+			}
+		};
+	}
+	
+	/**
+	 * Referência de uma tarefa encapsulada ao contexto, liberada uma única vez.
+	 */
+	private static final class ContextReference extends AtomicBoolean {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final transient LoggingContext loggingContext;
+		
+		/**
+		 * Construtor da referência, retendo o contexto até a liberação.
+		 * 
+		 * @param loggingContext ({@link LoggingContext}) - contexto da tarefa
+		 */
+		ContextReference(LoggingContext loggingContext) {
+			this.loggingContext = loggingContext;
+			loggingContext.retain();
+		}
+		
+		/**
+		 * Libera o contexto retido, caso ainda não liberado por esta referência.
+		 */
+		void release() {
+			if(compareAndSet(false, true)) {
+				loggingContext.release();
+			}
+		}
+	}
+}
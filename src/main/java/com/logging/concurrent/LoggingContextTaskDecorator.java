@@ -0,0 +1,39 @@
+package com.logging.concurrent;
+
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * {@link TaskDecorator} que propaga o contexto de log para as tarefas
+ * executadas por executores do Spring. Quando já existe um decorator
+ * configurado no executor, ele é aplicado após a propagação.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class LoggingContextTaskDecorator implements TaskDecorator {
+	
+	private final TaskDecorator delegate;
+
+	/**
+	 * Construtor do decorator sem decorator adicional.
+	 */
+	public LoggingContextTaskDecorator() {
+		this(null);
+	}
+	
+	/**
+	 * Construtor do decorator compondo um decorator existente.
+	 * 
+	 * @param delegate ({@link TaskDecorator}) - decorator existente
+	 */
+	public LoggingContextTaskDecorator(TaskDecorator delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Runnable decorate(Runnable runnable) {
+		Runnable decorated = delegate == null ? runnable : delegate.decorate(runnable);
+		return LoggingContextPropagation.wrap(decorated);
+	}
+}
@@ -0,0 +1,134 @@
+package com.logging.concurrent;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Pool de objetos limitado e sem locks.
+ * <p>
+ * Cada thread mantém um pequeno cache local, consultado antes do pool
+ * compartilhado. O pool compartilhado é um array de posições ocupadas e
+ * liberadas por CAS, a partir de uma posição aleatória para reduzir a
+ * contenção; como as posições armazenam referências e não encadeamentos, não
+ * há o problema de ABA de pilhas concorrentes. Objetos devolvidos com o pool
+ * cheio são descartados para o garbage collector.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ * @param <T> tipo dos objetos
+ */
+public final class ObjectPool<T> {
+	
+	private static final int LOCAL_CAPACITY = 4;
+	
+	private final AtomicReferenceArray<T> slots;
+	
+	private final AtomicInteger available = new AtomicInteger();
+	
+	private final ThreadLocal<LocalCache> local = ThreadLocal.withInitial(LocalCache::new);
+
+	/**
+	 * Construtor do pool com a capacidade compartilhada indicada.
+	 * 
+	 * @param capacity ({@code int}) - quantidade de objetos no pool compartilhado
+	 */
+	public ObjectPool(int capacity) {
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("A capacidade do pool deve ser maior que zero.");
+		}
+		
+		this.slots = new AtomicReferenceArray<>(capacity);
+	}
+	
+	/**
+	 * Retira um objeto do pool.
+	 * 
+	 * @return {@code T} - objeto disponível ou <b>null</b> caso o pool esteja
+	 *         vazio
+	 */
+	@SuppressWarnings("unchecked")
+	public T acquire() {
+		LocalCache cache = local.get();
+		
+		if(cache.size > 0) {
+			T item = (T) cache.items[--cache.size];
+			cache.items[cache.size] = null;
+			return item;
+		}
+		
+		if(available.get() <= 0) {
+			return null;
+		}
+		
+		int length = slots.length();
+		int start = ThreadLocalRandom.current().nextInt(length);
+		
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+			T item = slots.get(index);
+			
+			if(item != null && slots.compareAndSet(index, item, null)) {
+				available.decrementAndGet();
+				return item;
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Devolve o objeto ao pool.
+	 * 
+	 * @param item ({@link Object}) - objeto liberado
+	 * @return {@code boolean} - <b>false</b> caso o pool esteja cheio e o objeto
+	 *         tenha sido descartado
+	 */
+	public boolean release(T item) {
+		LocalCache cache = local.get();
+		
+		if(cache.size < LOCAL_CAPACITY) {
+			cache.items[cache.size++] = item;
+			return true;
+		}
+		
+		int length = slots.length();
+		
+		if(available.get() >= length) {
+			return false;
+		}
+		
+		int start = ThreadLocalRandom.current().nextInt(length);
+		
+		for (int i = 0; i < length; i++) {
+			int index = (start + i) % length;
+			
+			if(slots.get(index) == null && slots.compareAndSet(index, null, item)) {
+				available.incrementAndGet();
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Retorna a quantidade aproximada de objetos no pool compartilhado.
+	 * 
+	 * @return {@code int} - objetos disponíveis
+	 */
+	public int available() {
+		return available.get();
+	}
+	
+	/**
+	 * Cache de objetos da thread.
+	 */
+	private static final class LocalCache {
+		
+		private final Object[] items = new Object[LOCAL_CAPACITY];
+		
+		private int size;
+	}
+}
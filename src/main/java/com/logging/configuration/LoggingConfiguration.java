@@ -3,6 +3,7 @@ package com.logging.configuration;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -35,4 +36,10 @@ public class LoggingConfiguration {
 		
 		return restTemplate;
 	}
+	
+	@Bean
+	@ConditionalOnProperty(name = "app.logging.propagacao.async", havingValue = "true", matchIfMissing = true)
+	public static LoggingTaskExecutorPostProcessor loggingTaskExecutorPostProcessor() {
+		return new LoggingTaskExecutorPostProcessor();
+	}
 }
@@ -2,8 +2,6 @@ package com.logging.configuration;
 
 import java.io.IOException;
 
-import org.apache.commons.lang3.RegExUtils;
-
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -11,6 +9,8 @@ import com.fasterxml.jackson.databind.introspect.Annotated;
 import com.fasterxml.jackson.databind.introspect.NopAnnotationIntrospector;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.logging.annotation.SensitiveData;
+import com.logging.enumerator.MaskingStrategy;
+import com.logging.utils.MaskingUtils;
 
 /**
  * @author Mauricio Souza Couto
@@ -21,17 +21,45 @@ public class LoggingMaskingIntrospector extends NopAnnotationIntrospector {
 
 	private static final long serialVersionUID = 6091127918438285465L;
 
+	/**
+	 * Serializador de campos sensíveis. O valor é copiado para um buffer reutilizado
+	 * pela thread, mascarado no próprio buffer e escrito diretamente no gerador.
+	 */
 	private static class LoggingSerializer extends StdSerializer<Object> {
 		private static final long serialVersionUID = -2559935541194203360L;
+		
+		private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+		
+		private static final int MAX_RETAINED_BUFFER = 4096;
+		
+		private final MaskingStrategy strategy;
+		
+		private final int visibleCharacters;
 
-		public LoggingSerializer() {
+		public LoggingSerializer(MaskingStrategy strategy, int visibleCharacters) {
 			super(Object.class);
+			this.strategy = strategy;
+			this.visibleCharacters = visibleCharacters;
 		}
 		
 		@Override
 		public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
 			String valueString = String.valueOf(value);
-			gen.writeString(RegExUtils.replaceAll(valueString, ".", "*"));
+			int length = valueString.length();
+			
+			char[] buffer = BUFFER.get();
+			
+			if(buffer.length < length) {
+				buffer = new char[Math.max(length, buffer.length * 2)];
+				
+				if(buffer.length <= MAX_RETAINED_BUFFER) {
+					BUFFER.set(buffer);
+				}
+			}
+			
+			valueString.getChars(0, length, buffer, 0);
+			MaskingUtils.mask(buffer, 0, length, strategy, visibleCharacters);
+			gen.writeString(buffer, 0, length);
 		}
 		
 	}
@@ -41,7 +69,7 @@ public class LoggingMaskingIntrospector extends NopAnnotationIntrospector {
 		SensitiveData sensitiveData = am.getAnnotation(SensitiveData.class);
 		
 		if(sensitiveData != null) {
-			return LoggingSerializer.class;
+			return new LoggingSerializer(sensitiveData.strategy(), sensitiveData.visibleCharacters());
 		}
 		
 		JsonSerialize jsonSerialize = am.getAnnotation(JsonSerialize.class);
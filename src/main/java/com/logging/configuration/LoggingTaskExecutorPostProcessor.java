@@ -0,0 +1,49 @@
+package com.logging.configuration;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.TaskExecutor;
+
+import com.logging.concurrent.LoggingContextTaskDecorator;
+
+/**
+ * {@link BeanPostProcessor} que aplica o {@link LoggingContextTaskDecorator}
+ * aos {@link TaskExecutor}s do Spring que aceitam um {@link TaskDecorator}
+ * (como os executores utilizados pelo {@code @Async}), preservando o decorator
+ * previamente configurado.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class LoggingTaskExecutorPostProcessor implements BeanPostProcessor {
+	
+	private static final String TASK_DECORATOR = "taskDecorator";
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) {
+		if(!(bean instanceof TaskExecutor)) {
+			return bean;
+		}
+		
+		BeanWrapper beanWrapper = new BeanWrapperImpl(bean);
+		
+		if(!beanWrapper.isWritableProperty(TASK_DECORATOR)) {
+			return bean;
+		}
+		
+		DirectFieldAccessor fieldAccessor = new DirectFieldAccessor(bean);
+		TaskDecorator current = fieldAccessor.isReadableProperty(TASK_DECORATOR)
+				? (TaskDecorator) fieldAccessor.getPropertyValue(TASK_DECORATOR)
+				: null;
+		
+		if(!(current instanceof LoggingContextTaskDecorator)) {
+			beanWrapper.setPropertyValue(TASK_DECORATOR, new LoggingContextTaskDecorator(current));
+		}
+		
+		return bean;
+	}
+}
@@ -1,10 +1,12 @@
 package com.logging.context;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.logging.component.LoggingObjectMapper;
+import com.logging.metrics.LoggingMetrics;
+import com.logging.model.PayloadEmission;
 import com.logging.model.PayloadLogModel;
 
 /**
@@ -18,10 +20,19 @@ import com.logging.model.PayloadLogModel;
 public class LoggingContext {
 	
 	private static final Logger LOGGER = LoggerFactory.getLogger("logger");
-	private LoggingObjectMapper loggingObjectMapper;
+	
+	private static final String PAYLOAD_MESSAGE = "{}";
 
 	private String contextId;
 	private PayloadLogModel payloadLogModel;
+	
+	private volatile boolean sampled = true;
+	
+	private final AtomicInteger references = new AtomicInteger(1);
+	
+	private volatile boolean pooled;
+	
+	private volatile boolean asyncInProgress;
 
 	/**
 	 * Construtor da classe com o mapeamento do id do contexto.
@@ -29,10 +40,19 @@ public class LoggingContext {
 	 * @param contextId ({@link String}) - id do contexto
 	 */
 	public LoggingContext(String contextId) {
-		loggingObjectMapper = new LoggingObjectMapper();
-
+		this(contextId, LoggingContextLimits.UNLIMITED);
+	}
+	
+	/**
+	 * Construtor da classe com o mapeamento do id do contexto e dos limites de
+	 * memória do payload.
+	 * 
+	 * @param contextId ({@link String}) - id do contexto
+	 * @param limits    ({@link LoggingContextLimits}) - limites do payload
+	 */
+	public LoggingContext(String contextId, LoggingContextLimits limits) {
 		this.contextId = contextId;
-		this.payloadLogModel = new PayloadLogModel();
+		this.payloadLogModel = new PayloadLogModel(contextId, limits);
 	}
 	
 	/**
@@ -54,12 +74,106 @@ public class LoggingContext {
 	}
 	
 	/**
-	 * Realiza o log do conteúdo inserido ao payload do contexto.
+	 * Indica se o contexto foi amostrado para captura e emissão do payload.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso o contexto seja amostrado
+	 */
+	public boolean isSampled() {
+		return sampled;
+	}
+	
+	/**
+	 * Define se o contexto foi amostrado para captura e emissão do payload.
+	 * Contextos não amostrados ignoram os dados adicionados.
+	 * 
+	 * @param sampled ({@code boolean}) - <b>true</b> caso o contexto seja amostrado
+	 */
+	public void setSampled(boolean sampled) {
+		this.sampled = sampled;
+	}
+	
+	/**
+	 * Indica se a requisição do contexto está em processamento assíncrono (ex.:
+	 * SSE ou long polling), aguardando a finalização pelo container.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso o processamento assíncrono esteja
+	 *         em andamento
+	 */
+	public boolean isAsyncInProgress() {
+		return asyncInProgress;
+	}
+	
+	/**
+	 * Define se a requisição do contexto está em processamento assíncrono.
+	 * Contextos em processamento assíncrono não são removidos pela verificação
+	 * de vazamentos do {@link LoggingContextMap}.
 	 * 
-	 * @throws JsonProcessingException lançada em caso de falha na deserialização do
-	 *                                 payload.
+	 * @param asyncInProgress ({@code boolean}) - <b>true</b> caso o processamento
+	 *                        assíncrono esteja em andamento
+	 */
+	public void setAsyncInProgress(boolean asyncInProgress) {
+		this.asyncInProgress = asyncInProgress;
+	}
+	
+	/**
+	 * Registra uma nova referência ao contexto (ex.: emissão assíncrona ou
+	 * tarefa propagada), impedindo sua reutilização pelo
+	 * {@link LoggingContextPool} até a liberação correspondente.
+	 */
+	public void retain() {
+		references.incrementAndGet();
+	}
+	
+	/**
+	 * Libera uma referência ao contexto. Ao liberar a última referência, o
+	 * contexto obtido do {@link LoggingContextPool} é devolvido para
+	 * reutilização.
+	 */
+	public void release() {
+		if(references.decrementAndGet() == 0 && pooled) {
+			LoggingContextPool.recycle(this);
+		}
+	}
+	
+	/**
+	 * Marca o contexto como pertencente ao pool.
+	 */
+	void markPooled() {
+		pooled = true;
+	}
+	
+	/**
+	 * Reinicia o contexto para uma nova requisição, com uma única referência.
+	 * 
+	 * @param contextId ({@link String}) - id do novo contexto
+	 */
+	void restart(String contextId) {
+		this.contextId = contextId;
+		sampled = true;
+		asyncInProgress = false;
+		references.set(1);
+		payloadLogModel.restart(contextId);
+	}
+	
+	/**
+	 * Realiza o log do conteúdo inserido ao payload do contexto. O payload é
+	 * repassado como argumento estruturado do evento, sendo serializado pelo
+	 * {@link com.logging.encoder.PayloadLogEncoder} diretamente no appender.
+	 * <p>
+	 * O payload também é o argumento da mensagem formatada, de forma que
+	 * appenders configurados sem o encoder (ex.: {@code %msg}) recebem o JSON
+	 * através de {@link PayloadLogModel#toString()}. A mensagem é formatada
+	 * apenas quando solicitada por um appender.
+	 * <p>
+	 * A geração do payload no momento da emissão é repassada através de um
+	 * {@link PayloadEmission}, permitindo ao encoder recusar payloads reutilizados
+	 * pelo pool antes do processamento do evento por appenders assíncronos.
 	 */
-	public void logPayloadLogModel() throws JsonProcessingException {
-		LOGGER.info(loggingObjectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(payloadLogModel));				
+	public void logPayloadLogModel() {
+		payloadLogModel.markEmission();
+		
+		long startNanos = System.nanoTime();
+		LOGGER.info(PAYLOAD_MESSAGE, payloadLogModel, new PayloadEmission(payloadLogModel));
+		LoggingMetrics.emittedPayload(System.nanoTime() - startNanos);
 	}
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ package com.logging.context;
 public final class LoggingContextConstants {
 
 	public static final String CONTEXT_ID = "context_id";
+	
+	public static final String CONTEXT_ATTRIBUTE = LoggingContext.class.getName();
 
 	/**
 	 * Construtor privado para evitar instanciação.
@@ -4,6 +4,8 @@ import java.util.UUID;
 
 import javax.servlet.ServletRequest;
 
+import com.logging.metrics.LoggingMetrics;
+
 /**
  * Factory responsável pela criação de {@link LoggingContext}.
  * 
@@ -13,18 +15,53 @@ import javax.servlet.ServletRequest;
 public class LoggingContextFactory {
 
 	/**
-	 * Constrói um {@link LoggingContext} com base nos parâmetros indicados.
+	 * Constrói um {@link LoggingContext} com base nos parâmetros indicados,
+	 * registrando-o para consultas a partir de outras threads.
 	 * 
-	 * @param contextId ({@link String}) - id do contexto
-
+	 * @param request ({@link ServletRequest}) - requisição associada ao contexto
 	 * @return {@code LoggingContext} - contexto de logs da requisição.
 	 */
 	public static LoggingContext build(ServletRequest request) {
+		return build(request, true, LoggingContextLimits.UNLIMITED);
+	}
+	
+	/**
+	 * Constrói um {@link LoggingContext} com base nos parâmetros indicados. O
+	 * contexto é vinculado à requisição e à thread corrente.
+	 * 
+	 * @param request   ({@link ServletRequest}) - requisição associada ao contexto
+	 * @param registrar ({@code boolean}) - indica se o contexto deve ser inserido
+	 *                  no {@link LoggingContextMap} para consultas por id.
+	 * @param limits    ({@link LoggingContextLimits}) - limites de memória do
+	 *                  payload
+	 * @return {@code LoggingContext} - contexto de logs da requisição.
+	 */
+	public static LoggingContext build(ServletRequest request, boolean registrar, LoggingContextLimits limits) {
 		String contextId = UUID.randomUUID().toString();
 		
-		LoggingContext loggingContext = new LoggingContext(contextId);		
-		LoggingContextMap.adicionarContexto(contextId, loggingContext);
+		LoggingContext loggingContext = LoggingContextPool.acquire(contextId, limits);
+		LoggingMetrics.contextCreated();
+		request.setAttribute(LoggingContextConstants.CONTEXT_ATTRIBUTE, loggingContext);
+		LoggingContextHolder.vincularContexto(loggingContext);
+		
+		if(registrar) {
+			LoggingContextMap.adicionarContexto(contextId, loggingContext);
+		}
 		
 		return loggingContext;
 	}
+	
+	/**
+	 * Libera o contexto indicado, removendo o vínculo com a thread corrente e o
+	 * registro por id. A referência da requisição é liberada, devolvendo o
+	 * contexto ao {@link LoggingContextPool} caso não existam outras.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto de log
+	 */
+	public static void release(LoggingContext loggingContext) {
+		LoggingContextMap.removerContexto(loggingContext.getContextId());
+		LoggingContextHolder.desvincularContexto();
+		LoggingMetrics.contextReleased();
+		loggingContext.release();
+	}
 }
@@ -0,0 +1,99 @@
+package com.logging.context;
+
+import org.slf4j.MDC;
+
+import com.logging.enumerator.ContextMode;
+
+/**
+ * Mantém o {@link LoggingContext} vinculado à thread que processa a requisição,
+ * permitindo sua recuperação sem consulta a estruturas globais.
+ * <p>
+ * Em todos os modos o vínculo utiliza um {@link ThreadLocal}, pois o Java 8 não
+ * oferece vínculos de escopo sem estado na thread. No modo
+ * {@link ContextMode#LIGHTWEIGHT}, o id do contexto não é inserido no MDC,
+ * evitando a criação do mapa de MDC em cada thread (inclusive virtual).
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingContextHolder {
+
+	private static final ThreadLocal<LoggingContext> CONTEXTO = new ThreadLocal<>();
+	
+	private static volatile ContextMode modo = ContextMode.THREAD_LOCAL;
+
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private LoggingContextHolder() {}
+
+	/**
+	 * Define o modo de vínculo do contexto.
+	 * 
+	 * @param contextMode ({@link ContextMode}) - modo de vínculo
+	 */
+	public static void configurarModo(ContextMode contextMode) {
+		modo = contextMode;
+	}
+	
+	/**
+	 * Retorna o modo de vínculo do contexto.
+	 * 
+	 * @return {@code ContextMode} - modo de vínculo
+	 */
+	public static ContextMode recuperarModo() {
+		return modo;
+	}
+
+	/**
+	 * Vincula o contexto de log à thread corrente.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto de log
+	 */
+	public static void vincularContexto(LoggingContext loggingContext) {
+		CONTEXTO.set(loggingContext);
+		
+		if(modo == ContextMode.THREAD_LOCAL) {
+			MDC.put(LoggingContextConstants.CONTEXT_ID, loggingContext.getContextId());
+		}
+	}
+	
+	/**
+	 * Vincula o contexto de log à thread corrente até o fechamento do escopo
+	 * retornado, que restaura o vínculo anterior.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto de log
+	 * @return {@code LoggingContextScope} - escopo do vínculo
+	 */
+	public static LoggingContextScope abrirEscopo(LoggingContext loggingContext) {
+		LoggingContext previous = CONTEXTO.get();
+		
+		if(previous != loggingContext) {
+			vincularContexto(loggingContext);
+		}
+		
+		return new LoggingContextScope(previous);
+	}
+
+	/**
+	 * Retorna o contexto de log vinculado à thread corrente.
+	 * 
+	 * @return {@code LoggingContext} - contexto vinculado à thread ou <b>null</b>
+	 *         caso nenhum contexto esteja vinculado.
+	 */
+	public static LoggingContext recuperarContexto() {
+		return CONTEXTO.get();
+	}
+
+	/**
+	 * Remove o vínculo do contexto de log com a thread corrente.
+	 */
+	public static void desvincularContexto() {
+		CONTEXTO.remove();
+		
+		if(modo == ContextMode.THREAD_LOCAL) {
+			MDC.remove(LoggingContextConstants.CONTEXT_ID);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package com.logging.context;
+
+/**
+ * Limites de memória aplicados ao payload de um {@link LoggingContext}. Valores
+ * menores ou iguais a zero indicam ausência de limite.
+ * <p>
+ * Os limites são aplicados por categoria e de forma independente: quantidade
+ * de logs internos, de chamadas externas, de headers por request/response e de
+ * bytes de cada body. Não há um orçamento único de bytes por contexto, de forma
+ * que um contexto pode atingir simultaneamente todos os limites (ex.: o máximo
+ * de steps e de headers e dois bodies no tamanho máximo). O consumo máximo de
+ * um contexto é a soma dos limites das categorias, sendo os steps e headers
+ * limitados em quantidade e não em bytes.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingContextLimits {
+	
+	public static final LoggingContextLimits UNLIMITED = new LoggingContextLimits(0, 0, 0, 0);
+
+	private final int maxInternalSteps;
+	
+	private final int maxExternalSteps;
+	
+	private final int maxHeaders;
+	
+	private final int maxBodyBytes;
+
+	/**
+	 * Construtor dos limites do contexto.
+	 * 
+	 * @param maxInternalSteps ({@code int}) - quantidade máxima de logs internos
+	 * @param maxExternalSteps ({@code int}) - quantidade máxima de chamadas externas
+	 * @param maxHeaders       ({@code int}) - quantidade máxima de headers por
+	 *                         request/response
+	 * @param maxBodyBytes     ({@code int}) - tamanho máximo em bytes de cada body
+	 *                         serializado
+	 */
+	public LoggingContextLimits(int maxInternalSteps, int maxExternalSteps, int maxHeaders, int maxBodyBytes) {
+		this.maxInternalSteps = maxInternalSteps;
+		this.maxExternalSteps = maxExternalSteps;
+		this.maxHeaders = maxHeaders;
+		this.maxBodyBytes = maxBodyBytes;
+	}
+
+	/**
+	 * Retorna a quantidade máxima de logs internos.
+	 * 
+	 * @return {@code int} - quantidade máxima de logs internos
+	 */
+	public int getMaxInternalSteps() {
+		return maxInternalSteps;
+	}
+
+	/**
+	 * Retorna a quantidade máxima de chamadas externas.
+	 * 
+	 * @return {@code int} - quantidade máxima de chamadas externas
+	 */
+	public int getMaxExternalSteps() {
+		return maxExternalSteps;
+	}
+
+	/**
+	 * Retorna a quantidade máxima de headers por request/response.
+	 * 
+	 * @return {@code int} - quantidade máxima de headers
+	 */
+	public int getMaxHeaders() {
+		return maxHeaders;
+	}
+
+	/**
+	 * Retorna o tamanho máximo em bytes de cada body serializado.
+	 * 
+	 * @return {@code int} - tamanho máximo do body
+	 */
+	public int getMaxBodyBytes() {
+		return maxBodyBytes;
+	}
+	
+	/**
+	 * Verifica se a quantidade indicada atingiu o limite.
+	 * 
+	 * @param size  ({@code int}) - quantidade atual
+	 * @param limit ({@code int}) - limite configurado
+	 * @return {@code boolean} - <b>true</b> caso o limite tenha sido atingido
+	 */
+	public static boolean reached(long size, int limit) {
+		return limit > 0 && size >= limit;
+	}
+}
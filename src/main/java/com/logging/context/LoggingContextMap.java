@@ -1,12 +1,12 @@
 package com.logging.context;
 
-import java.util.HashMap;
 import java.util.Map;
-
-import org.slf4j.MDC;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Centraliza todos os contextos de log criados.
+ * Registro concorrente dos contextos de log criados, utilizado apenas para
+ * recuperação de contextos por id a partir de outras threads. O fluxo principal
+ * da requisição utiliza o {@link LoggingContextHolder}.
  * 
  * @author Mauricio Souza Couto
  * @since 2021-06-19
@@ -14,7 +14,7 @@ import org.slf4j.MDC;
  */
 public final class LoggingContextMap {
 
-	private static final Map<String, LoggingContext> CONTEXTS = new HashMap<>();
+	private static final Map<String, LoggingContext> CONTEXTS = new ConcurrentHashMap<>();
 	
 	/**
 	 * Construtor privado para evitar instanciação.
@@ -29,7 +29,6 @@ public final class LoggingContextMap {
 	 */
 	public static void adicionarContexto(String contextId, LoggingContext loggingContext) {
 		CONTEXTS.put(contextId, loggingContext);
-		MDC.put(LoggingContextConstants.CONTEXT_ID, loggingContext.getContextId());
 	}
 	
 	/**
@@ -40,6 +39,10 @@ public final class LoggingContextMap {
 	 *         associado ao id. Caso contrário, retorna <b>null</b>.
 	 */
 	public static LoggingContext recuperarContexto(String contextId) {
+		if(contextId == null) {
+			return null;
+		}
+		
 		return CONTEXTS.get(contextId);
 	}
 
@@ -50,6 +53,37 @@ public final class LoggingContextMap {
 	 */
 	public static void removerContexto(String contextId) {
 		CONTEXTS.remove(contextId);
-		MDC.remove(LoggingContextConstants.CONTEXT_ID);
-	}	
+	}
+	
+	/**
+	 * Retorna a quantidade de contextos registrados.
+	 * 
+	 * @return {@code int} - quantidade de contextos registrados
+	 */
+	public static int quantidadeContextos() {
+		return CONTEXTS.size();
+	}
+	
+	/**
+	 * Remove os contextos registrados há mais tempo que o indicado, que não
+	 * foram liberados pela requisição. Contextos em processamento assíncrono
+	 * (ex.: SSE ou long polling) são mantidos até a finalização pelo container.
+	 * 
+	 * @param maxAgeNanos ({@code long}) - idade máxima em nanossegundos
+	 * @return {@code int} - quantidade de contextos removidos
+	 */
+	public static int removerContextosExpirados(long maxAgeNanos) {
+		long now = System.nanoTime();
+		int removed = 0;
+		
+		for (LoggingContext loggingContext : CONTEXTS.values()) {
+			if(!loggingContext.isAsyncInProgress()
+					&& now - loggingContext.getPayloadLogModel().getStartNanos() > maxAgeNanos
+					&& CONTEXTS.remove(loggingContext.getContextId(), loggingContext)) {
+				removed++;
+			}
+		}
+		
+		return removed;
+	}
 }
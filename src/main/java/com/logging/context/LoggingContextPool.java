@@ -0,0 +1,105 @@
+package com.logging.context;
+
+import com.logging.concurrent.ObjectPool;
+import com.logging.metrics.LoggingMetrics;
+
+/**
+ * Pool opcional de {@link LoggingContext}s, reduzindo a alocação do grafo do
+ * payload ({@code PayloadLogModel}, request, response, mapas e listas de steps)
+ * a cada requisição.
+ * <p>
+ * Os contextos são devolvidos ao pool quando a última referência é liberada
+ * ({@link LoggingContext#release()}): o filter mantém uma referência até o
+ * término da requisição e a emissão assíncrona e as tarefas propagadas mantêm
+ * referências próprias. Na devolução o payload é limpo e sua geração
+ * incrementada. Cada evento de log carrega a geração do payload no momento da
+ * emissão ({@link com.logging.model.PayloadEmission}), permitindo ao encoder
+ * descartar payloads reutilizados antes ou durante a escrita, inclusive quando
+ * o evento é processado tardiamente por appenders assíncronos do Logback
+ * ({@code AsyncAppender}). Referências não liberadas apenas impedem a
+ * reutilização do contexto, que é coletado normalmente.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingContextPool {
+	
+	private static volatile ObjectPool<LoggingContext> pool;
+	
+	private static volatile LoggingContextLimits poolLimits;
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private LoggingContextPool() {
+	}
+	
+	/**
+	 * Configura o pool. Apenas contextos criados com os limites indicados são
+	 * reutilizados, pois as listas de steps são dimensionadas por eles.
+	 * 
+	 * @param habilitado ({@code boolean}) - habilita o pool
+	 * @param capacidade ({@code int}) - quantidade de contextos no pool
+	 *                   compartilhado
+	 * @param limits     ({@link LoggingContextLimits}) - limites dos contextos
+	 */
+	public static void configurar(boolean habilitado, int capacidade, LoggingContextLimits limits) {
+		poolLimits = limits;
+		pool = habilitado ? new ObjectPool<>(capacidade) : null;
+	}
+	
+	/**
+	 * Indica se o pool está habilitado.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso o pool esteja habilitado
+	 */
+	public static boolean isHabilitado() {
+		return pool != null;
+	}
+	
+	/**
+	 * Obtém um contexto do pool ou cria um novo.
+	 * 
+	 * @param contextId ({@link String}) - id do contexto
+	 * @param limits    ({@link LoggingContextLimits}) - limites do payload
+	 * @return {@code LoggingContext} - contexto com uma referência
+	 */
+	static LoggingContext acquire(String contextId, LoggingContextLimits limits) {
+		ObjectPool<LoggingContext> current = pool;
+		
+		if(current == null || limits != poolLimits) {
+			return new LoggingContext(contextId, limits);
+		}
+		
+		LoggingContext loggingContext = current.acquire();
+		
+		if(loggingContext == null) {
+			LoggingMetrics.pooledContext(false);
+			loggingContext = new LoggingContext(contextId, limits);
+			loggingContext.markPooled();
+			return loggingContext;
+		}
+		
+		LoggingMetrics.pooledContext(true);
+		loggingContext.restart(contextId);
+		
+		return loggingContext;
+	}
+	
+	/**
+	 * Limpa o contexto sem referências e o devolve ao pool.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto liberado
+	 */
+	static void recycle(LoggingContext loggingContext) {
+		loggingContext.getPayloadLogModel().reset();
+		LoggingMetrics.recycledContext();
+		
+		ObjectPool<LoggingContext> current = pool;
+		
+		if(current != null) {
+			current.release(loggingContext);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.logging.context;
+
+/**
+ * Escopo de vínculo de um {@link LoggingContext} à thread corrente, aberto por
+ * {@link LoggingContextHolder#abrirEscopo(LoggingContext)}. O fechamento
+ * restaura o contexto vinculado anteriormente ou remove o vínculo, não
+ * deixando estado residual na thread.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingContextScope implements AutoCloseable {
+	
+	private final LoggingContext previous;
+
+	/**
+	 * Construtor do escopo.
+	 * 
+	 * @param previous ({@link LoggingContext}) - contexto vinculado antes da
+	 *                 abertura do escopo
+	 */
+	LoggingContextScope(LoggingContext previous) {
+		this.previous = previous;
+	}
+
+	@Override
+	public void close() {
+		if(previous == null) {
+			LoggingContextHolder.desvincularContexto();
+		}
+		else if(previous != LoggingContextHolder.recuperarContexto()) {
+			LoggingContextHolder.vincularContexto(previous);
+		}
+	}
+}
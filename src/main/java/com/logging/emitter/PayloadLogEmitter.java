@@ -0,0 +1,395 @@
+package com.logging.emitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.logging.context.LoggingContext;
+import com.logging.enumerator.BackpressurePolicy;
+
+/**
+ * Componente responsável pela emissão dos payloads de log finalizados.
+ * <p>
+ * No modo síncrono (padrão) o payload é emitido na própria thread da
+ * requisição. No modo assíncrono o contexto é repassado a um
+ * {@link PayloadLogRingBuffer} consumido por threads dedicadas, aplicando a
+ * {@link BackpressurePolicy} configurada quando o buffer está cheio.
+ * <p>
+ * No encerramento o buffer é fechado antes da parada das threads
+ * consumidoras: threads de requisição aguardando espaço são liberadas e,
+ * assim como as emissões posteriores, escrevem o payload de forma síncrona.
+ * Os payloads restantes no buffer são escritos pela thread de encerramento.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@Component
+public class PayloadLogEmitter {
+	
+	private static final Logger LOGGER = LoggerFactory.getLogger(PayloadLogEmitter.class);
+	
+	private static final int BATCH_SIZE = 64;
+	
+	private static final long POLL_TIMEOUT_MS = 100L;
+
+	@Value("${app.logging.async.habilitado:false}")
+	private boolean asyncEnabled;
+	
+	@Value("${app.logging.async.capacidade:8192}")
+	private int capacity;
+	
+	@Value("${app.logging.async.politica:BLOCK}")
+	private BackpressurePolicy policy;
+	
+	@Value("${app.logging.async.consumidores:1}")
+	private int consumers;
+	
+	@Value("${app.logging.async.taxa-amostragem:10}")
+	private int sampleRate;
+	
+	@Value("${app.logging.async.timeout-encerramento-ms:5000}")
+	private long shutdownTimeout;
+	
+	private PayloadLogRingBuffer<LoggingContext> buffer;
+	
+	private final List<Thread> consumerThreads = new ArrayList<>();
+	
+	private volatile boolean running;
+	
+	private final LongAdder emitted = new LongAdder();
+	
+	private final LongAdder droppedNewest = new LongAdder();
+	
+	private final LongAdder droppedOldest = new LongAdder();
+	
+	private final LongAdder sampledOut = new LongAdder();
+	
+	private final AtomicLong overflowSequence = new AtomicLong();
+	
+	/**
+	 * Inicializa o buffer e as threads consumidoras quando o modo assíncrono está
+	 * habilitado.
+	 */
+	@PostConstruct
+	public void start() {
+		if(!asyncEnabled) {
+			return;
+		}
+		
+		buffer = new PayloadLogRingBuffer<>(capacity);
+		running = true;
+		
+		for (int i = 0; i < Math.max(1, consumers); i++) {
+			Thread thread = new Thread(this::consume, "logging-payload-emitter-" + i);
+			thread.setDaemon(true);
+			thread.start();
+			consumerThreads.add(thread);
+		}
+	}
+	
+	/**
+	 * Emite o payload do contexto indicado. No modo assíncrono, uma referência ao
+	 * contexto é mantida até a escrita ou o descarte do payload. Caso o buffer
+	 * tenha sido encerrado, o payload é escrito na thread corrente.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto finalizado
+	 */
+	public void emit(LoggingContext loggingContext) {
+		if(!running || !enqueue(loggingContext, policy)) {
+			write(loggingContext);
+		}
+	}
+	
+	/**
+	 * Emite o payload do contexto indicado sem bloquear a thread corrente,
+	 * destinado a threads de event loop. Com a política {@code BLOCK}, o payload
+	 * é descartado caso o buffer esteja cheio.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto finalizado
+	 * @return {@code boolean} - <b>false</b> caso o modo assíncrono não esteja
+	 *         habilitado ou o buffer tenha sido encerrado, cabendo ao chamador
+	 *         emitir o payload em outra thread.
+	 */
+	public boolean tryEmit(LoggingContext loggingContext) {
+		if(!running) {
+			return false;
+		}
+		
+		return enqueue(loggingContext, policy == BackpressurePolicy.BLOCK ? BackpressurePolicy.DROP_NEWEST : policy);
+	}
+	
+	/**
+	 * Encerra o buffer e as threads consumidoras, aguardando a emissão dos
+	 * payloads pendentes dentro do timeout configurado. Os payloads restantes
+	 * após o timeout são escritos pela thread corrente.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if(!running) {
+			return;
+		}
+		
+		running = false;
+		buffer.close();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeout);
+		
+		for (Thread thread : consumerThreads) {
+			long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			
+			try {
+				thread.join(Math.max(1L, remaining));
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+		
+		int pending = drainPending();
+		
+		if(pending > 0) {
+			LOGGER.warn("{} payloads de log pendentes foram emitidos pela thread de encerramento.", pending);
+		}
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads emitidos a partir do buffer, pelas
+	 * threads consumidoras ou pela thread de encerramento.
+	 * 
+	 * @return {@code long} - payloads emitidos
+	 */
+	public long getEmittedCount() {
+		return emitted.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads descartados na inserção por buffer cheio.
+	 * 
+	 * @return {@code long} - payloads descartados na inserção
+	 */
+	public long getDroppedNewestCount() {
+		return droppedNewest.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads antigos removidos do buffer para inserção
+	 * de novos payloads.
+	 * 
+	 * @return {@code long} - payloads antigos descartados
+	 */
+	public long getDroppedOldestCount() {
+		return droppedOldest.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads descartados pela amostragem com buffer
+	 * cheio.
+	 * 
+	 * @return {@code long} - payloads descartados pela amostragem
+	 */
+	public long getSampledOutCount() {
+		return sampledOut.sum();
+	}
+	
+	/**
+	 * Retorna o total de payloads descartados, independente da política.
+	 * 
+	 * @return {@code long} - total de payloads descartados
+	 */
+	public long getDroppedCount() {
+		return droppedNewest.sum() + droppedOldest.sum() + sampledOut.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads aguardando emissão.
+	 * 
+	 * @return {@code int} - payloads pendentes
+	 */
+	public int getPendingCount() {
+		return buffer == null ? 0 : buffer.size();
+	}
+	
+	/**
+	 * Insere o contexto no buffer aplicando a política indicada. Uma referência
+	 * ao contexto é mantida até a escrita ou o descarte do payload.
+	 * 
+	 * @param loggingContext     ({@link LoggingContext}) - contexto finalizado
+	 * @param backpressurePolicy ({@link BackpressurePolicy}) - política aplicada
+	 *                           com o buffer cheio
+	 * @return {@code boolean} - <b>false</b> caso o buffer tenha sido encerrado
+	 *         ou a espera por espaço interrompida, cabendo ao chamador a escrita
+	 *         do payload.
+	 */
+	private boolean enqueue(LoggingContext loggingContext, BackpressurePolicy backpressurePolicy) {
+		loggingContext.retain();
+		
+		switch (backpressurePolicy) {
+		case DROP_NEWEST:
+			return buffer.offer(loggingContext) || dropNewest(loggingContext);
+			
+		case DROP_OLDEST:
+			return evictOldest(loggingContext);
+			
+		case SAMPLE:
+			return buffer.offer(loggingContext) || emitSample(loggingContext);
+
+		default:
+			try {
+				if(buffer.put(loggingContext)) {
+					return true;
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			
+			loggingContext.release();
+			return false;
+		}
+	}
+	
+	/**
+	 * Descarta o payload recusado pelo buffer cheio.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto finalizado
+	 * @return {@code boolean} - <b>false</b> caso o buffer tenha sido encerrado
+	 */
+	private boolean dropNewest(LoggingContext loggingContext) {
+		loggingContext.release();
+		
+		if(buffer.isClosed()) {
+			return false;
+		}
+		
+		droppedNewest.increment();
+		return true;
+	}
+	
+	/**
+	 * Mantém um a cada {@code sampleRate} payloads excedentes, descartando o
+	 * payload mais antigo do buffer para abrir espaço.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto finalizado
+	 * @return {@code boolean} - <b>false</b> caso o buffer tenha sido encerrado
+	 */
+	private boolean emitSample(LoggingContext loggingContext) {
+		if(buffer.isClosed()) {
+			loggingContext.release();
+			return false;
+		}
+		
+		if(overflowSequence.incrementAndGet() % Math.max(1, sampleRate) != 0) {
+			sampledOut.increment();
+			loggingContext.release();
+			return true;
+		}
+		
+		return evictOldest(loggingContext);
+	}
+	
+	/**
+	 * Insere o contexto no buffer, descartando e liberando o payload mais antigo
+	 * caso o buffer esteja cheio.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto finalizado
+	 * @return {@code boolean} - <b>false</b> caso o buffer tenha sido encerrado
+	 */
+	private boolean evictOldest(LoggingContext loggingContext) {
+		LoggingContext evicted = buffer.offerEvictingOldest(loggingContext);
+		
+		if(evicted == loggingContext) {
+			loggingContext.release();
+			return false;
+		}
+		
+		if(evicted != null) {
+			droppedOldest.increment();
+			evicted.release();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Escreve na thread corrente os payloads que permaneceram no buffer após a
+	 * parada das threads consumidoras.
+	 * 
+	 * @return {@code int} - quantidade de payloads escritos
+	 */
+	private int drainPending() {
+		Object[] batch = new Object[BATCH_SIZE];
+		int total = 0;
+		int drained;
+		
+		while((drained = buffer.drainTo(batch)) > 0) {
+			writeBatch(batch, drained);
+			total += drained;
+		}
+		
+		return total;
+	}
+	
+	/**
+	 * Laço das threads consumidoras. Após o encerramento, continua até esvaziar o
+	 * buffer.
+	 */
+	private void consume() {
+		Object[] batch = new Object[BATCH_SIZE];
+		
+		while(running || buffer.size() > 0) {
+			int drained;
+			
+			try {
+				drained = buffer.drainTo(batch, POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			
+			writeBatch(batch, drained);
+		}
+	}
+	
+	/**
+	 * Escreve os payloads transferidos do buffer, liberando as referências
+	 * mantidas na inserção.
+	 * 
+	 * @param batch   ({@link Object}[]) - contextos transferidos
+	 * @param drained ({@code int}) - quantidade de contextos transferidos
+	 */
+	private void writeBatch(Object[] batch, int drained) {
+		for (int i = 0; i < drained; i++) {
+			LoggingContext loggingContext = (LoggingContext) batch[i];
+			batch[i] = null;
+			write(loggingContext);
+			loggingContext.release();
+			emitted.increment();
+		}
+	}
+	
+	/**
+	 * Escreve o payload do contexto, isolando falhas de serialização.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto finalizado
+	 */
+	private void write(LoggingContext loggingContext) {
+		try {
+			loggingContext.logPayloadLogModel();
+		}
+		catch (RuntimeException e) {
+			LOGGER.error("Falha na emissão do payload de log.", e);
+		}
+	}
+}
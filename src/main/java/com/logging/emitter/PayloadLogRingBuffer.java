@@ -0,0 +1,288 @@
+package com.logging.emitter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffer circular limitado e pré-alocado utilizado na emissão assíncrona de
+ * payloads. As operações de inserção cobrem as políticas de
+ * {@link com.logging.enumerator.BackpressurePolicy}.
+ * <p>
+ * Após o encerramento ({@link #close()}) novas inserções são recusadas e as
+ * threads aguardando espaço ou itens são liberadas; os itens já inseridos
+ * continuam disponíveis para consumo.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ * @param <E> tipo dos itens armazenados
+ */
+public final class PayloadLogRingBuffer<E> {
+
+	private final Object[] items;
+	
+	private final ReentrantLock lock = new ReentrantLock();
+	
+	private final Condition notEmpty = lock.newCondition();
+	
+	private final Condition notFull = lock.newCondition();
+	
+	private int head;
+	
+	private int tail;
+	
+	private int count;
+	
+	private boolean closed;
+
+	/**
+	 * Construtor do buffer com a capacidade indicada.
+	 * 
+	 * @param capacity ({@code int}) - capacidade do buffer
+	 */
+	public PayloadLogRingBuffer(int capacity) {
+		if(capacity <= 0) {
+			throw new IllegalArgumentException("A capacidade do buffer deve ser maior que zero.");
+		}
+		
+		this.items = new Object[capacity];
+	}
+	
+	/**
+	 * Insere o item caso exista espaço disponível e o buffer não tenha sido
+	 * encerrado.
+	 * 
+	 * @param item ({@link Object}) - item a ser inserido
+	 * @return {@code boolean} - <b>true</b> caso o item tenha sido inserido
+	 */
+	public boolean offer(E item) {
+		lock.lock();
+		
+		try {
+			if(closed || count == items.length) {
+				return false;
+			}
+			
+			enqueue(item);
+			return true;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Insere o item, aguardando até que exista espaço disponível ou que o buffer
+	 * seja encerrado.
+	 * 
+	 * @param item ({@link Object}) - item a ser inserido
+	 * @return {@code boolean} - <b>true</b> caso o item tenha sido inserido ou
+	 *         <b>false</b> caso o buffer tenha sido encerrado
+	 * @throws InterruptedException lançada caso a thread seja interrompida durante
+	 *                              a espera.
+	 */
+	public boolean put(E item) throws InterruptedException {
+		lock.lockInterruptibly();
+		
+		try {
+			while(count == items.length && !closed) {
+				notFull.await();
+			}
+			
+			if(closed) {
+				return false;
+			}
+			
+			enqueue(item);
+			return true;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Insere o item, descartando o item mais antigo caso o buffer esteja cheio.
+	 * 
+	 * @param item ({@link Object}) - item a ser inserido
+	 * @return {@code E} - item descartado, <b>null</b> caso nenhum item tenha
+	 *         sido descartado ou o próprio item caso o buffer tenha sido
+	 *         encerrado.
+	 */
+	public E offerEvictingOldest(E item) {
+		lock.lock();
+		
+		try {
+			if(closed) {
+				return item;
+			}
+			
+			E evicted = null;
+			
+			if(count == items.length) {
+				evicted = dequeue();
+			}
+			
+			enqueue(item);
+			return evicted;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Transfere até {@code target.length} itens para o array indicado,
+	 * aguardando até o timeout caso o buffer esteja vazio e não encerrado.
+	 * 
+	 * @param target  ({@link Object}[]) - array de destino
+	 * @param timeout ({@code long}) - tempo máximo de espera
+	 * @param unit    ({@link TimeUnit}) - unidade do timeout
+	 * @return {@code int} - quantidade de itens transferidos
+	 * @throws InterruptedException lançada caso a thread seja interrompida durante
+	 *                              a espera.
+	 */
+	public int drainTo(Object[] target, long timeout, TimeUnit unit) throws InterruptedException {
+		long nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		
+		try {
+			while(count == 0) {
+				if(nanos <= 0L || closed) {
+					return 0;
+				}
+				
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			
+			return dequeueTo(target);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Transfere até {@code target.length} itens para o array indicado, sem
+	 * aguardar.
+	 * 
+	 * @param target ({@link Object}[]) - array de destino
+	 * @return {@code int} - quantidade de itens transferidos
+	 */
+	public int drainTo(Object[] target) {
+		lock.lock();
+		
+		try {
+			return dequeueTo(target);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Encerra o buffer, recusando novas inserções e liberando as threads
+	 * aguardando espaço ou itens.
+	 */
+	public void close() {
+		lock.lock();
+		
+		try {
+			closed = true;
+			notFull.signalAll();
+			notEmpty.signalAll();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Indica se o buffer foi encerrado.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso o buffer tenha sido encerrado
+	 */
+	public boolean isClosed() {
+		lock.lock();
+		
+		try {
+			return closed;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retorna a quantidade de itens no buffer.
+	 * 
+	 * @return {@code int} - quantidade de itens
+	 */
+	public int size() {
+		lock.lock();
+		
+		try {
+			return count;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+	
+	/**
+	 * Retorna a capacidade do buffer.
+	 * 
+	 * @return {@code int} - capacidade do buffer
+	 */
+	public int capacity() {
+		return items.length;
+	}
+	
+	/**
+	 * Remove do buffer até {@code target.length} itens, na ordem de inserção.
+	 * Deve ser chamado com o lock adquirido.
+	 * 
+	 * @param target ({@link Object}[]) - array de destino
+	 * @return {@code int} - quantidade de itens removidos
+	 */
+	private int dequeueTo(Object[] target) {
+		int drained = Math.min(count, target.length);
+		
+		for (int i = 0; i < drained; i++) {
+			target[i] = dequeue();
+		}
+		
+		return drained;
+	}
+	
+	/**
+	 * Insere o item na cauda do buffer e sinaliza os consumidores em espera.
+	 * Deve ser chamado com o lock adquirido e com espaço disponível.
+	 * 
+	 * @param item ({@link Object}) - item a ser inserido
+	 */
+	private void enqueue(E item) {
+		items[tail] = item;
+		tail = (tail + 1) % items.length;
+		count++;
+		notEmpty.signal();
+	}
+	
+	/**
+	 * Remove o item da cabeça do buffer, liberando a posição para o coletor, e
+	 * sinaliza os produtores em espera. Deve ser chamado com o lock adquirido e
+	 * com o buffer não vazio.
+	 * 
+	 * @return {@code E} - item removido
+	 */
+	@SuppressWarnings("unchecked")
+	private E dequeue() {
+		E item = (E) items[head];
+		items[head] = null;
+		head = (head + 1) % items.length;
+		count--;
+		notFull.signal();
+		return item;
+	}
+}
@@ -0,0 +1,224 @@
+package com.logging.encoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.metrics.LoggingMetrics;
+import com.logging.model.PayloadEmission;
+import com.logging.model.PayloadLogModel;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+/**
+ * Encoder Logback responsável por serializar o {@link PayloadLogModel} recebido
+ * como argumento do evento diretamente em bytes, sem a construção de uma
+ * {@link String} intermediária.
+ * <p>
+ * Por padrão o payload é escrito em uma única linha (NDJSON). O pretty print
+ * pode ser habilitado para depuração através da propriedade
+ * {@code prettyPrint}. Eventos sem payload são escritos com a mensagem
+ * formatada.
+ * <p>
+ * Payloads liberados ou reutilizados pelo pool de contextos após a emissão
+ * são descartados, evitando a escrita de dados de outra requisição. A geração
+ * registrada no {@link PayloadEmission} do evento é comparada antes e após a
+ * serialização, cobrindo eventos processados tardiamente por appenders
+ * assíncronos.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class PayloadLogEncoder extends EncoderBase<ILoggingEvent> {
+
+	private static final byte[] LINE_SEPARATOR = CoreConstants.LINE_SEPARATOR.getBytes(StandardCharsets.UTF_8);
+	
+	private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+	
+	private final ThreadLocal<ByteArrayBuilder> buffers = ThreadLocal.withInitial(ByteArrayBuilder::new);
+	
+	private boolean prettyPrint;
+	
+	private ObjectWriter objectWriter = LoggingObjectWriters.compactWriter();
+
+	/**
+	 * Indica se o payload deve ser escrito com pretty print.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso o pretty print esteja habilitado
+	 */
+	public boolean isPrettyPrint() {
+		return prettyPrint;
+	}
+
+	/**
+	 * Habilita ou desabilita o pretty print do payload. Destinado apenas à
+	 * depuração, pois gera múltiplas linhas por registro.
+	 * 
+	 * @param prettyPrint ({@code boolean}) - habilita o pretty print
+	 */
+	public void setPrettyPrint(boolean prettyPrint) {
+		this.prettyPrint = prettyPrint;
+		this.objectWriter = prettyPrint ? LoggingObjectWriters.prettyWriter() : LoggingObjectWriters.compactWriter();
+	}
+
+	@Override
+	public byte[] headerBytes() {
+		return null;
+	}
+
+	@Override
+	public byte[] encode(ILoggingEvent event) {
+		PayloadLogModel payloadLogModel = findPayloadLogModel(event);
+		
+		if(payloadLogModel == null) {
+			return encodeMessage(event);
+		}
+		
+		PayloadEmission emission = findPayloadEmission(event);
+		
+		if(emission == null) {
+			emission = new PayloadEmission(payloadLogModel);
+		}
+		
+		if(!emission.matches(payloadLogModel)) {
+			return discardStalePayload();
+		}
+		
+		ByteArrayBuilder buffer = buffers.get();
+		
+		try {
+			long startNanos = System.nanoTime();
+			writePayload(payloadLogModel, buffer);
+			
+			if(!emission.matches(payloadLogModel)) {
+				return discardStalePayload();
+			}
+			
+			LoggingMetrics.serializedPayload(System.nanoTime() - startNanos, buffer.size());
+			
+			return toRecord(buffer);
+		}
+		catch (IOException e) {
+			addError("Falha na serialização do payload de log.", e);
+			return new byte[0];
+		}
+		finally {
+			releaseBuffer(buffer);
+		}
+	}
+
+	@Override
+	public byte[] footerBytes() {
+		return null;
+	}
+	
+	/**
+	 * Descarta o payload liberado ou reutilizado pelo pool de contextos antes ou
+	 * durante a serialização.
+	 * 
+	 * @return {@code byte[]} - registro vazio
+	 */
+	private byte[] discardStalePayload() {
+		LoggingMetrics.stalePayload();
+		addWarn("Payload de log descartado por ter sido liberado durante a emissão.");
+		return new byte[0];
+	}
+	
+	/**
+	 * Serializa o payload no buffer indicado através de um {@link JsonGenerator}.
+	 * 
+	 * @param payloadLogModel ({@link PayloadLogModel}) - payload a ser serializado
+	 * @param buffer          ({@link ByteArrayBuilder}) - buffer de destino
+	 * @throws IOException lançada em caso de falha na serialização.
+	 */
+	protected void writePayload(PayloadLogModel payloadLogModel, ByteArrayBuilder buffer) throws IOException {
+		try (JsonGenerator generator = objectWriter.createGenerator(buffer)) {
+			objectWriter.writeValue(generator, payloadLogModel);
+		}
+	}
+	
+	/**
+	 * Monta o registro a partir do payload serializado no buffer. Por padrão, o
+	 * registro é terminado por quebra de linha.
+	 * 
+	 * @param buffer ({@link ByteArrayBuilder}) - buffer contendo o payload
+	 * @return {@code byte[]} - registro a ser escrito
+	 */
+	protected byte[] toRecord(ByteArrayBuilder buffer) {
+		buffer.write(LINE_SEPARATOR);
+		return buffer.toByteArray();
+	}
+	
+	/**
+	 * Codifica eventos sem payload, escrevendo a mensagem formatada.
+	 * 
+	 * @param event ({@link ILoggingEvent}) - evento de log
+	 * @return {@code byte[]} - registro a ser escrito
+	 */
+	protected byte[] encodeMessage(ILoggingEvent event) {
+		return (event.getFormattedMessage() + CoreConstants.LINE_SEPARATOR).getBytes(StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Retorna o {@link PayloadLogModel} presente nos argumentos do evento.
+	 * 
+	 * @param event ({@link ILoggingEvent}) - evento de log
+	 * @return {@code PayloadLogModel} - payload do evento ou <b>null</b> caso não
+	 *         exista.
+	 */
+	public static PayloadLogModel findPayloadLogModel(ILoggingEvent event) {
+		Object[] arguments = event.getArgumentArray();
+		
+		if(arguments != null) {
+			for (Object argument : arguments) {
+				if(argument instanceof PayloadLogModel) {
+					return (PayloadLogModel) argument;
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Retorna o {@link PayloadEmission} presente nos argumentos do evento.
+	 * 
+	 * @param event ({@link ILoggingEvent}) - evento de log
+	 * @return {@code PayloadEmission} - emissão do evento ou <b>null</b> caso o
+	 *         payload tenha sido logado diretamente.
+	 */
+	public static PayloadEmission findPayloadEmission(ILoggingEvent event) {
+		Object[] arguments = event.getArgumentArray();
+		
+		if(arguments != null) {
+			for (Object argument : arguments) {
+				if(argument instanceof PayloadEmission) {
+					return (PayloadEmission) argument;
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Limpa o buffer da thread para reutilização, descartando buffers que
+	 * cresceram além do limite de retenção.
+	 * 
+	 * @param buffer ({@link ByteArrayBuilder}) - buffer utilizado
+	 */
+	private void releaseBuffer(ByteArrayBuilder buffer) {
+		if(buffer.size() > MAX_RETAINED_BUFFER) {
+			buffers.remove();
+		}
+		else {
+			buffer.reset();
+		}
+	}
+}
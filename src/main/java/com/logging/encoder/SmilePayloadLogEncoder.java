@@ -0,0 +1,85 @@
+package com.logging.encoder;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.model.PayloadLogModel;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Encoder Logback que serializa o {@link PayloadLogModel} no formato binário
+ * Smile, reduzindo o volume escrito e o custo de serialização em relação ao
+ * JSON textual.
+ * <p>
+ * Cada registro é escrito como um frame: 4 bytes (big-endian) com o tamanho
+ * do documento, seguidos do documento Smile. Eventos sem payload são
+ * descartados, pois o arquivo deve conter apenas frames. Os registros podem ser
+ * convertidos para JSON através do
+ * {@link com.logging.tools.PayloadLogDecoder}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class SmilePayloadLogEncoder extends PayloadLogEncoder {
+
+	/**
+	 * Tamanho do prefixo de cada frame.
+	 */
+	public static final int FRAME_HEADER_SIZE = 4;
+	
+	private static final byte[] EMPTY = new byte[0];
+	
+	private final ObjectWriter objectWriter = LoggingObjectWriters.smileWriter();
+
+	/**
+	 * O pretty print não se aplica ao formato binário e é ignorado.
+	 * 
+	 * @param prettyPrint ({@code boolean}) - ignorado
+	 */
+	@Override
+	public void setPrettyPrint(boolean prettyPrint) {
+		if(prettyPrint) {
+			addWarn("Pretty print não suportado no formato Smile. Propriedade ignorada.");
+		}
+	}
+
+	/**
+	 * Reserva o prefixo do frame no buffer e serializa o payload em seguida.
+	 */
+	@Override
+	protected void writePayload(PayloadLogModel payloadLogModel, ByteArrayBuilder buffer) throws IOException {
+		for (int i = 0; i < FRAME_HEADER_SIZE; i++) {
+			buffer.write(0);
+		}
+		
+		try (JsonGenerator generator = objectWriter.createGenerator(buffer)) {
+			objectWriter.writeValue(generator, payloadLogModel);
+		}
+	}
+
+	/**
+	 * Preenche o prefixo reservado com o tamanho do documento.
+	 */
+	@Override
+	protected byte[] toRecord(ByteArrayBuilder buffer) {
+		byte[] record = buffer.toByteArray();
+		int length = record.length - FRAME_HEADER_SIZE;
+		
+		record[0] = (byte) (length >>> 24);
+		record[1] = (byte) (length >>> 16);
+		record[2] = (byte) (length >>> 8);
+		record[3] = (byte) length;
+		
+		return record;
+	}
+
+	@Override
+	protected byte[] encodeMessage(ILoggingEvent event) {
+		return EMPTY;
+	}
+}
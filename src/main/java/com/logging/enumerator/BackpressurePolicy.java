@@ -0,0 +1,23 @@
+package com.logging.enumerator;
+
+/**
+ * Enumerator elencando as políticas aplicadas quando o buffer de emissão
+ * assíncrona de payloads está cheio.
+ * 
+ * <ul>
+ * <li>{@link #BLOCK} - bloqueia a thread da requisição até haver espaço;</li>
+ * <li>{@link #DROP_NEWEST} - descarta o payload sendo emitido;</li>
+ * <li>{@link #DROP_OLDEST} - descarta o payload mais antigo do buffer;</li>
+ * <li>{@link #SAMPLE} - mantém apenas uma amostra dos payloads excedentes,
+ * descartando o mais antigo do buffer para cada payload amostrado.</li>
+ * </ul>
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public enum BackpressurePolicy {
+
+	BLOCK, DROP_NEWEST, DROP_OLDEST, SAMPLE;
+
+}
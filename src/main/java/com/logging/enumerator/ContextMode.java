@@ -0,0 +1,26 @@
+package com.logging.enumerator;
+
+/**
+ * Enumerator elencando os modos de vínculo do contexto de log à thread.
+ * 
+ * <ul>
+ * <li>{@link #THREAD_LOCAL} - vincula o contexto à thread e ao MDC e o registra
+ * no {@link com.logging.context.LoggingContextMap} para consultas por id;</li>
+ * <li>{@link #LIGHTWEIGHT} - vincula o contexto apenas ao {@link ThreadLocal}
+ * do {@link com.logging.context.LoggingContextHolder}, sem MDC nem registro
+ * global. O vínculo é removido ao término da requisição e das tarefas
+ * propagadas, sem estado residual na thread. Reduz o custo por requisição em
+ * virtual threads, mas ainda utiliza uma entrada de {@link ThreadLocal} por
+ * thread vinculada. O contexto fica disponível somente para a thread da
+ * requisição e para tarefas propagadas explicitamente.</li>
+ * </ul>
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public enum ContextMode {
+
+	THREAD_LOCAL, LIGHTWEIGHT;
+
+}
@@ -0,0 +1,20 @@
+package com.logging.enumerator;
+
+/**
+ * Enumerator elencando os modos de seleção de headers capturados nos logs.
+ * 
+ * <ul>
+ * <li>{@link #ALL} - captura todos os headers;</li>
+ * <li>{@link #ALLOWLIST} - captura apenas os headers permitidos;</li>
+ * <li>{@link #DENYLIST} - captura todos os headers, exceto os bloqueados.</li>
+ * </ul>
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public enum HeaderPolicyMode {
+
+	ALL, ALLOWLIST, DENYLIST;
+
+}
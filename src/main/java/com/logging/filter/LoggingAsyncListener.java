@@ -0,0 +1,93 @@
+package com.logging.filter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+
+import org.slf4j.event.Level;
+
+import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextFactory;
+import com.logging.context.LoggingContextHolder;
+import com.logging.model.InternalStepLogModel;
+
+/**
+ * Listener responsável por finalizar o contexto de log de requisições
+ * assíncronas.
+ * <p>
+ * Timeouts e erros são registrados como logs internos. A finalização ocorre no
+ * {@code onComplete}, que o container sempre sinaliza após um timeout ou erro,
+ * garantindo que o status final do response seja registrado. A finalização
+ * ocorre uma única vez.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LoggingAsyncListener implements AsyncListener {
+	
+	private final LoggingFilter loggingFilter;
+	
+	private final LoggingContext loggingContext;
+	
+	private final AtomicBoolean completed = new AtomicBoolean();
+
+	/**
+	 * Construtor do listener.
+	 * 
+	 * @param loggingFilter  ({@link LoggingFilter}) - filter responsável pela
+	 *                       finalização
+	 * @param loggingContext ({@link LoggingContext}) - contexto da requisição
+	 */
+	LoggingAsyncListener(LoggingFilter loggingFilter, LoggingContext loggingContext) {
+		this.loggingFilter = loggingFilter;
+		this.loggingContext = loggingContext;
+	}
+
+	@Override
+	public void onComplete(AsyncEvent event) {
+		if(!completed.compareAndSet(false, true)) {
+			return;
+		}
+		
+		loggingContext.setAsyncInProgress(false);
+		LoggingContextHolder.vincularContexto(loggingContext);
+		
+		try {
+			loggingFilter.complete(loggingContext, event.getSuppliedRequest(), event.getSuppliedResponse());
+		}
+		finally {
+			LoggingContextFactory.release(loggingContext);
+		}
+	}
+
+	@Override
+	public void onTimeout(AsyncEvent event) {
+		addInternalStepLog("Async request timed out.", Level.WARN);
+	}
+
+	@Override
+	public void onError(AsyncEvent event) {
+		Throwable throwable = event.getThrowable();
+		addInternalStepLog("Async request failed: " + (throwable == null ? "unknown error" : throwable.toString()), Level.ERROR);
+	}
+
+	@Override
+	public void onStartAsync(AsyncEvent event) {
+		event.getAsyncContext().addListener(this, event.getSuppliedRequest(), event.getSuppliedResponse());
+	}
+	
+	/**
+	 * Registra um internal step no payload da requisição, caso amostrada e ainda
+	 * não finalizada.
+	 * 
+	 * @param message ({@link String}) - mensagem do step
+	 * @param level   ({@link Level}) - nível do step
+	 */
+	private void addInternalStepLog(String message, Level level) {
+		if(loggingContext.isSampled() && !completed.get()) {
+			loggingContext.getPayloadLogModel().addInternalStepLog(new InternalStepLogModel(message, level, LoggingFilter.class));
+		}
+	}
+}
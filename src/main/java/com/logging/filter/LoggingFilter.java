@@ -2,25 +2,48 @@ package com.logging.filter;
 
 import java.io.IOException;
 
+import javax.annotation.PostConstruct;
+import javax.servlet.DispatcherType;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 
+import com.logging.component.LoggingBodyPolicy;
 import com.logging.component.LoggingComponent;
+import com.logging.component.LoggingSamplingComponent;
 import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextConstants;
 import com.logging.context.LoggingContextFactory;
-import com.logging.context.LoggingContextMap;
+import com.logging.context.LoggingContextHolder;
+import com.logging.context.LoggingContextLimits;
+import com.logging.context.LoggingContextPool;
+import com.logging.context.LoggingContextScope;
+import com.logging.emitter.PayloadLogEmitter;
+import com.logging.enumerator.ContextMode;
+import com.logging.metrics.LatencyHistogramRegistry;
+import com.logging.metrics.LoggingMetrics;
+import com.logging.model.BodyCapture;
+import com.logging.model.PayloadLogModel;
 
 /**
  * Filter responsável por filtrar requisições HTTP com o intuito de mapeamento
  * de dados para log.
+ * <p>
+ * Para requisições assíncronas, o contexto é mantido vivo após o retorno do
+ * {@code chain.doFilter} e finalizado pelo {@link LoggingAsyncListener} ao
+ * término do processamento.
  * 
  * @author Mauricio Souza Couto
  * @since 2021-06-12
@@ -32,20 +55,203 @@ public class LoggingFilter implements Filter {
 
 	@Autowired
 	private LoggingComponent loggingComponent;
+	
+	@Autowired
+	private LoggingSamplingComponent loggingSamplingComponent;
+	
+	@Autowired
+	private PayloadLogEmitter payloadLogEmitter;
+	
+	@Autowired
+	private LatencyHistogramRegistry latencyHistogramRegistry;
+	
+	@Value("${app.logging.registro-contextos:true}")
+	private boolean registrarContextos;
+	
+	@Value("${app.logging.contexto.modo:THREAD_LOCAL}")
+	private ContextMode contextMode;
+	
+	@Value("${app.logging.limites.internal-steps:0}")
+	private int maxInternalSteps;
+	
+	@Value("${app.logging.limites.external-steps:0}")
+	private int maxExternalSteps;
+	
+	@Value("${app.logging.limites.headers:0}")
+	private int maxHeaders;
+	
+	@Value("${app.logging.limites.body-bytes:0}")
+	private int maxBodyBytes;
+	
+	@Value("${app.logging.pool.habilitado:false}")
+	private boolean poolEnabled;
+	
+	@Value("${app.logging.pool.capacidade:1024}")
+	private int poolCapacity;
+	
+	private LoggingContextLimits limits;
+	
+	private LoggingBodyPolicy bodyPolicy;
+	
+	/**
+	 * Monta os limites por categoria aplicados a cada contexto de log (ver
+	 * {@link LoggingContextLimits}) e configura o modo de vínculo do contexto.
+	 * No modo {@link ContextMode#LIGHTWEIGHT} os contextos são vinculados apenas
+	 * à thread, sem MDC, e não são registrados para consultas por id. Com o pool
+	 * habilitado, os contextos são reutilizados entre requisições. Com a captura
+	 * de bodies habilitada, as streams de request e response são encapsuladas
+	 * para cópia dos bodies JSON até o limite configurado.
+	 */
+	@PostConstruct
+	public void init() {
+		limits = new LoggingContextLimits(maxInternalSteps, maxExternalSteps, maxHeaders, maxBodyBytes);
+		registrarContextos = registrarContextos && contextMode == ContextMode.THREAD_LOCAL;
+		LoggingContextHolder.configurarModo(contextMode);
+		LoggingContextPool.configurar(poolEnabled, poolCapacity, limits);
+		bodyPolicy = loggingComponent.isBodyCaptureEnabled() ? loggingComponent.getBodyPolicy() : null;
+	}
 
 	@Override
 	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
 			throws IOException, ServletException {
+		
+		if(request.getDispatcherType() == DispatcherType.ASYNC) {
+			doFilterAsyncDispatch(request, response, chain);
+			return;
+		}
 
-		final LoggingContext loggingContext = LoggingContextFactory.build(request);
-
-		loggingComponent.addRequest(request);
-
-		chain.doFilter(request, response);
+		long startNanos = System.nanoTime();
+		long chainNanos = 0L;
+		final LoggingContext loggingContext = LoggingContextFactory.build(request, registrarContextos, limits);
+		boolean asyncStarted = false;
 
+		try {
+			HttpServletRequest httpServletRequest = (HttpServletRequest) request;
+			loggingContext.setSampled(loggingSamplingComponent.sampleHead(httpServletRequest.getRequestURI()));
+			
+			loggingComponent.addRequest(request);
+			loggingContext.getPayloadLogModel().markChainStart();
+	
+			ServletRequest chainRequest = request;
+			ServletResponse chainResponse = response;
+			
+			if(bodyPolicy != null && loggingContext.isSampled()) {
+				PayloadLogModel payloadLogModel = loggingContext.getPayloadLogModel();
+				
+				if(bodyPolicy.isCapturable(httpServletRequest.getContentType(), httpServletRequest.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+					chainRequest = new LoggingRequestWrapper(httpServletRequest, payloadLogModel.openRequestBodyCapture(bodyPolicy));
+				}
+				
+				chainResponse = new LoggingResponseWrapper((HttpServletResponse) response, payloadLogModel.openResponseBodyCapture(bodyPolicy));
+			}
+	
+			long chainStartNanos = System.nanoTime();
+			
+			try {
+				chain.doFilter(chainRequest, chainResponse);
+			}
+			finally {
+				chainNanos = System.nanoTime() - chainStartNanos;
+			}
+			
+			asyncStarted = request.isAsyncStarted();
+			
+			if(asyncStarted) {
+				loggingContext.setAsyncInProgress(true);
+				request.getAsyncContext().addListener(new LoggingAsyncListener(this, loggingContext), request, response);
+			}
+			else {
+				complete(loggingContext, request, response);
+			}
+		}
+		finally {
+			if(asyncStarted) {
+				LoggingContextHolder.desvincularContexto();
+			}
+			else {
+				LoggingContextFactory.release(loggingContext);
+			}
+			
+			LoggingMetrics.filter(System.nanoTime() - startNanos - chainNanos);
+		}
+	}
+	
+	/**
+	 * Finaliza o contexto com os dados de response, grava a latência da rota e
+	 * emite o payload caso amostrado.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto da requisição
+	 * @param request        ({@link ServletRequest}) - dados do request
+	 * @param response       ({@link ServletResponse}) - dados de response
+	 */
+	void complete(LoggingContext loggingContext, ServletRequest request, ServletResponse response) {
+		PayloadLogModel payloadLogModel = loggingContext.getPayloadLogModel();
+		payloadLogModel.markChainEnd();
+		
+		if(bodyPolicy != null && loggingContext.isSampled()) {
+			payloadLogModel.addCapturedBodies();
+		}
+		
 		loggingComponent.addResponse(response);
-		loggingContext.logPayloadLogModel();
-
-		LoggingContextMap.removerContexto(loggingContext.getContextId());
+		
+		recordRoute(payloadLogModel, request, response);
+		
+		if(loggingContext.isSampled() && loggingSamplingComponent.sampleTail(loggingContext.getPayloadLogModel())) {
+			payloadLogEmitter.emit(loggingContext);
+		}
+	}
+	
+	/**
+	 * Grava a latência da requisição no histograma da rota atendida. Requisições
+	 * sem rota do Spring MVC são agrupadas em
+	 * {@link LatencyHistogramRegistry#OTHER_KEY}.
+	 * 
+	 * @param payloadLogModel ({@link PayloadLogModel}) - payload da requisição
+	 * @param request         ({@link ServletRequest}) - dados do request
+	 * @param response        ({@link ServletResponse}) - dados de response
+	 */
+	private void recordRoute(PayloadLogModel payloadLogModel, ServletRequest request, ServletResponse response) {
+		Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		int status = ((HttpServletResponse) response).getStatus();
+		
+		latencyHistogramRegistry.recordRoute(route instanceof String ? (String) route : LatencyHistogramRegistry.OTHER_KEY,
+				System.nanoTime() - payloadLogModel.getStartNanos(), status >= 500);
+	}
+	
+	/**
+	 * Processa um dispatch assíncrono, vinculando à thread o contexto criado no
+	 * dispatch original da requisição. Caso a captura do body de response esteja
+	 * ativa, o response do dispatch também é encapsulado.
+	 * 
+	 * @param request  ({@link ServletRequest}) - dados do request
+	 * @param response ({@link ServletResponse}) - dados do response
+	 * @param chain    ({@link FilterChain}) - cadeia de filtros
+	 * @throws IOException      lançada em caso de falha de I/O na cadeia.
+	 * @throws ServletException lançada em caso de falha na cadeia.
+	 */
+	private void doFilterAsyncDispatch(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		Object attribute = request.getAttribute(LoggingContextConstants.CONTEXT_ATTRIBUTE);
+		
+		if(!(attribute instanceof LoggingContext)) {
+			chain.doFilter(request, response);
+			return;
+		}
+		
+		LoggingContext loggingContext = (LoggingContext) attribute;
+		BodyCapture capture = loggingContext.getPayloadLogModel().getResponseBodyCapture();
+		
+		if(capture != null && capture.isActive()) {
+			response = new LoggingResponseWrapper((HttpServletResponse) response, capture);
+		}
+		
+		LoggingContextScope scope = LoggingContextHolder.abrirEscopo(loggingContext);
+		
+		try {
+			chain.doFilter(request, response);
+		}
+		finally {
+			scope.close();
+		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.logging.filter;
+
+import java.io.IOException;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import com.logging.model.BodyCapture;
+
+/**
+ * Wrapper de request que copia os bytes lidos da {@link ServletInputStream}
+ * para a {@link BodyCapture} do contexto, à medida que a aplicação consome o
+ * body. Diferente do {@code ContentCachingRequestWrapper}, o body não é
+ * armazenado por completo: a cópia é interrompida no limite da captura.
+ * <p>
+ * Bodies lidos através de {@link #getReader()} não são capturados.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LoggingRequestWrapper extends HttpServletRequestWrapper {
+	
+	private final BodyCapture capture;
+	
+	private ServletInputStream inputStream;
+
+	/**
+	 * Construtor do wrapper.
+	 * 
+	 * @param request ({@link HttpServletRequest}) - request original
+	 * @param capture ({@link BodyCapture}) - captura do body de request
+	 */
+	LoggingRequestWrapper(HttpServletRequest request, BodyCapture capture) {
+		super(request);
+		this.capture = capture;
+		capture.reserve(request.getContentLengthLong());
+	}
+	
+	@Override
+	public ServletInputStream getInputStream() throws IOException {
+		if(inputStream == null) {
+			inputStream = new TeeInputStream(super.getInputStream(), capture);
+		}
+		
+		return inputStream;
+	}
+	
+	/**
+	 * {@link ServletInputStream} que copia os bytes lidos para a captura.
+	 */
+	private static final class TeeInputStream extends ServletInputStream {
+		
+		private final ServletInputStream delegate;
+		
+		private final BodyCapture capture;
+		
+		TeeInputStream(ServletInputStream delegate, BodyCapture capture) {
+			this.delegate = delegate;
+			this.capture = capture;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b = delegate.read();
+			
+			if(b >= 0) {
+				capture.write(b);
+			}
+			
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = delegate.read(b, off, len);
+			
+			if(read > 0) {
+				capture.write(b, off, read);
+			}
+			
+			return read;
+		}
+		
+		@Override
+		public int available() throws IOException {
+			return delegate.available();
+		}
+		
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+		
+		@Override
+		public boolean isFinished() {
+			return delegate.isFinished();
+		}
+		
+		@Override
+		public boolean isReady() {
+			return delegate.isReady();
+		}
+		
+		@Override
+		public void setReadListener(ReadListener readListener) {
+			delegate.setReadListener(readListener);
+		}
+	}
+}
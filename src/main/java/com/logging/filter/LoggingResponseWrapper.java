@@ -0,0 +1,115 @@
+package com.logging.filter;
+
+import java.io.IOException;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.http.HttpHeaders;
+
+import com.logging.model.BodyCapture;
+
+/**
+ * Wrapper de response que copia os bytes escritos na
+ * {@link ServletOutputStream} para a {@link BodyCapture} do contexto. Os bytes
+ * são repassados imediatamente ao response original, sem armazenamento do body
+ * completo.
+ * <p>
+ * O content type é verificado na primeira escrita, desabilitando a captura de
+ * responses não suportados pela política. Bodies escritos através de
+ * {@link #getWriter()} não são capturados.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LoggingResponseWrapper extends HttpServletResponseWrapper {
+	
+	private final BodyCapture capture;
+	
+	private ServletOutputStream outputStream;
+
+	/**
+	 * Construtor do wrapper.
+	 * 
+	 * @param response ({@link HttpServletResponse}) - response original
+	 * @param capture  ({@link BodyCapture}) - captura do body de response
+	 */
+	LoggingResponseWrapper(HttpServletResponse response, BodyCapture capture) {
+		super(response);
+		this.capture = capture;
+	}
+	
+	@Override
+	public ServletOutputStream getOutputStream() throws IOException {
+		if(outputStream == null) {
+			outputStream = new TeeOutputStream(super.getOutputStream());
+		}
+		
+		return outputStream;
+	}
+	
+	/**
+	 * Verifica na primeira escrita se o content type do response é suportado.
+	 */
+	private boolean accept() {
+		if(capture.isActive() && capture.getTotalBytes() == 0L
+				&& !capture.getPolicy().isCapturable(getContentType(), getHeader(HttpHeaders.CONTENT_ENCODING))) {
+			capture.disable();
+		}
+		
+		return capture.isActive();
+	}
+	
+	/**
+	 * {@link ServletOutputStream} que copia os bytes escritos para a captura.
+	 */
+	private final class TeeOutputStream extends ServletOutputStream {
+		
+		private final ServletOutputStream delegate;
+		
+		TeeOutputStream(ServletOutputStream delegate) {
+			this.delegate = delegate;
+		}
+		
+		@Override
+		public void write(int b) throws IOException {
+			delegate.write(b);
+			
+			if(accept()) {
+				capture.write(b);
+			}
+		}
+		
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			delegate.write(b, off, len);
+			
+			if(len > 0 && accept()) {
+				capture.write(b, off, len);
+			}
+		}
+		
+		@Override
+		public void flush() throws IOException {
+			delegate.flush();
+		}
+		
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+		
+		@Override
+		public boolean isReady() {
+			return delegate.isReady();
+		}
+		
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			delegate.setWriteListener(writeListener);
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.logging.interceptor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.logging.model.BodyCapture;
+
+/**
+ * Response de chamada externa que copia os bytes lidos do body para a
+ * {@link BodyCapture} do step, à medida que a aplicação consome o response e
+ * até o limite da captura.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LoggingClientHttpResponse implements ClientHttpResponse {
+	
+	private final ClientHttpResponse delegate;
+	
+	private final BodyCapture capture;
+	
+	private InputStream body;
+
+	/**
+	 * Construtor do response.
+	 * 
+	 * @param delegate ({@link ClientHttpResponse}) - response original
+	 * @param capture  ({@link BodyCapture}) - captura do body de response
+	 */
+	LoggingClientHttpResponse(ClientHttpResponse delegate, BodyCapture capture) {
+		this.delegate = delegate;
+		this.capture = capture;
+	}
+
+	@Override
+	public InputStream getBody() throws IOException {
+		if(body == null) {
+			body = new TeeInputStream(delegate.getBody(), capture);
+		}
+		
+		return body;
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		return delegate.getHeaders();
+	}
+
+	@Override
+	public HttpStatus getStatusCode() throws IOException {
+		return delegate.getStatusCode();
+	}
+
+	@Override
+	public int getRawStatusCode() throws IOException {
+		return delegate.getRawStatusCode();
+	}
+
+	@Override
+	public String getStatusText() throws IOException {
+		return delegate.getStatusText();
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+	
+	/**
+	 * {@link InputStream} que copia os bytes lidos para a captura.
+	 */
+	private static final class TeeInputStream extends FilterInputStream {
+		
+		private final BodyCapture capture;
+		
+		TeeInputStream(InputStream in, BodyCapture capture) {
+			super(in);
+			this.capture = capture;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			
+			if(b >= 0) {
+				capture.write(b);
+			}
+			
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			
+			if(read > 0) {
+				capture.write(b, off, read);
+			}
+			
+			return read;
+		}
+		
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+}
@@ -1,21 +1,33 @@
 package com.logging.interceptor;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.time.LocalDateTime;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.stereotype.Component;
 
+import com.logging.component.LoggingBodyPolicy;
 import com.logging.component.LoggingComponent;
+import com.logging.metrics.LatencyHistogramRegistry;
+import com.logging.model.BodyCapture;
 import com.logging.model.ExternalStepLogModel;
 
 /**
- * Interceptor de chamadas HTTP para registro de logs de chamadas externas.
+ * Interceptor de chamadas HTTP para registro de logs de chamadas externas. A
+ * latência é gravada no histograma do host de destino.
+ * <p>
+ * Chamadas interrompidas por exceção (ex.: timeout ou conexão recusada) são
+ * registradas como steps com falha, com status {@code 0} seguido do tipo da
+ * exceção, permitindo sua consideração na amostragem de cauda.
+ * <p>
+ * Com a captura de bodies habilitada, os bodies JSON enviados e recebidos são
+ * embutidos no step sem conversão para objetos: o body enviado é referenciado
+ * sem cópia e o body recebido é copiado, até o limite da captura, à medida que
+ * a aplicação consome o response.
  * 
  * @author Mauricio Souza Couto
  * @since 2021-06-13
@@ -27,26 +39,91 @@ public class LoggingHttpRequestInterceptor implements ClientHttpRequestIntercept
 	@Autowired
 	private LoggingComponent loggingComponent;
 	
+	@Autowired
+	private LatencyHistogramRegistry latencyHistogramRegistry;
+	
 	@Override
 	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
 			throws IOException {
 		
-		LocalDateTime startTime = LocalDateTime.now();
+		long startNanos = System.nanoTime();
+		ClientHttpResponse clientHttpResponse;
 		
-		ClientHttpResponse clientHttpResponse = execution.execute(request, body);
+		try {
+			clientHttpResponse = execution.execute(request, body);
+		}
+		catch (IOException | RuntimeException e) {
+			long endNanos = System.nanoTime();
+			latencyHistogramRegistry.recordStep(request.getURI().getHost(), endNanos - startNanos, true);
+			loggingComponent.addExternalStepLog(buildExternalStepLog(request, startNanos, endNanos, "0 " + e.getClass().getSimpleName(), true));
+			throw e;
+		}
 		
-		LocalDateTime endTime = LocalDateTime.now();
-		long duration = Duration.between(startTime, endTime).toMillis();
+		long endNanos = System.nanoTime();
+		boolean failed = clientHttpResponse.getStatusCode().isError();
+		latencyHistogramRegistry.recordStep(request.getURI().getHost(), endNanos - startNanos, failed);
 			
-		ExternalStepLogModel externalStepLogModel = new ExternalStepLogModel();
-		externalStepLogModel.setStartTime(startTime);
-		externalStepLogModel.setEndTime(endTime);
-		externalStepLogModel.setDuration(duration);
-		externalStepLogModel.setStepId(request.getURI().toString());
-		externalStepLogModel.setStatus(clientHttpResponse.getStatusCode().toString());
+		ExternalStepLogModel externalStepLogModel = buildExternalStepLog(request, startNanos, endNanos, clientHttpResponse.getStatusCode().toString(), failed);
+		
+		if(loggingComponent.isBodyCaptureEnabled()) {
+			clientHttpResponse = captureBodies(externalStepLogModel, request, body, clientHttpResponse);
+		}
 		
 		loggingComponent.addExternalStepLog(externalStepLogModel);
 		
 		return clientHttpResponse;
 	}
+	
+	/**
+	 * Monta o step da chamada externa.
+	 * 
+	 * @param request    ({@link HttpRequest}) - request enviado
+	 * @param startNanos ({@code long}) - início da chamada em nanossegundos
+	 * @param endNanos   ({@code long}) - fim da chamada em nanossegundos
+	 * @param status     ({@link String}) - status de retorno da chamada
+	 * @param failed     ({@code boolean}) - <b>true</b> caso a chamada tenha falhado
+	 * @return {@code ExternalStepLogModel} - step da chamada
+	 */
+	private ExternalStepLogModel buildExternalStepLog(HttpRequest request, long startNanos, long endNanos, String status, boolean failed) {
+		ExternalStepLogModel externalStepLogModel = new ExternalStepLogModel();
+		externalStepLogModel.setTiming(startNanos, endNanos);
+		externalStepLogModel.setStepId(request.getURI().toString());
+		externalStepLogModel.setStatus(status);
+		externalStepLogModel.setFailed(failed);
+		return externalStepLogModel;
+	}
+	
+	/**
+	 * Adiciona ao step os bodies JSON da chamada, encapsulando o response para
+	 * captura do body recebido.
+	 * 
+	 * @param externalStepLogModel ({@link ExternalStepLogModel}) - step da chamada
+	 * @param request              ({@link HttpRequest}) - request enviado
+	 * @param body                 ({@code byte[]}) - body enviado
+	 * @param clientHttpResponse   ({@link ClientHttpResponse}) - response recebido
+	 * @return {@code ClientHttpResponse} - response a ser repassado à aplicação
+	 */
+	private ClientHttpResponse captureBodies(ExternalStepLogModel externalStepLogModel, HttpRequest request, byte[] body,
+			ClientHttpResponse clientHttpResponse) {
+		LoggingBodyPolicy bodyPolicy = loggingComponent.getBodyPolicy();
+		HttpHeaders requestHeaders = request.getHeaders();
+		
+		if(body.length > 0 && bodyPolicy.isCapturable(requestHeaders.getFirst(HttpHeaders.CONTENT_TYPE),
+				requestHeaders.getFirst(HttpHeaders.CONTENT_ENCODING))) {
+			externalStepLogModel.setRequestBody(BodyCapture.forContent(body, bodyPolicy));
+		}
+		
+		HttpHeaders responseHeaders = clientHttpResponse.getHeaders();
+		
+		if(!bodyPolicy.isCapturable(responseHeaders.getFirst(HttpHeaders.CONTENT_TYPE),
+				responseHeaders.getFirst(HttpHeaders.CONTENT_ENCODING))) {
+			return clientHttpResponse;
+		}
+		
+		BodyCapture responseCapture = BodyCapture.forStream(bodyPolicy);
+		responseCapture.reserve(responseHeaders.getContentLength());
+		externalStepLogModel.setResponseBody(responseCapture);
+		
+		return new LoggingClientHttpResponse(clientHttpResponse, responseCapture);
+	}
 }
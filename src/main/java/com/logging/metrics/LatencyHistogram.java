@@ -0,0 +1,276 @@
+package com.logging.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências log-linear, sem locks e sem alocação na gravação.
+ * <p>
+ * Os valores são gravados em microssegundos: até {@code 16 µs} cada valor tem
+ * seu próprio bucket e, a partir daí, cada potência de dois é dividida em
+ * {@link #SUB_BUCKETS} buckets lineares, limitando o erro relativo a 12,5%.
+ * <p>
+ * As gravações ocorrem na janela ativa. A cada {@link #rotate()}, a janela
+ * anterior é zerada e passa a ser a ativa, enquanto a janela encerrada fica
+ * disponível para leitura (double buffering). Gravações concorrentes com a
+ * troca podem ser contabilizadas na janela encerrada.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LatencyHistogram implements LatencyHistogramMBean {
+	
+	private static final int SUB_BUCKET_BITS = 3;
+	
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	
+	private static final int LINEAR_LIMIT = SUB_BUCKETS << 1;
+	
+	private static final int LINEAR_LIMIT_BITS = SUB_BUCKET_BITS + 1;
+	
+	private static final int MAX_EXPONENT = 40;
+	
+	private static final int BUCKETS = LINEAR_LIMIT + (MAX_EXPONENT - LINEAR_LIMIT_BITS + 1) * SUB_BUCKETS;
+	
+	private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+	
+	private final String name;
+	
+	private final LongAdder totalCount = new LongAdder();
+	
+	private final LongAdder totalErrors = new LongAdder();
+	
+	private volatile Window active = new Window();
+	
+	private volatile Window completed = new Window();
+
+	/**
+	 * Construtor do histograma.
+	 * 
+	 * @param name ({@link String}) - rota ou step medido
+	 */
+	public LatencyHistogram(String name) {
+		this.name = name;
+	}
+	
+	/**
+	 * Grava uma latência.
+	 * 
+	 * @param nanos ({@code long}) - latência em nanossegundos
+	 * @param error ({@code boolean}) - indica se a operação falhou
+	 */
+	public void record(long nanos, boolean error) {
+		long micros = Math.min(Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos)), MAX_VALUE);
+		
+		active.record(micros, error);
+		totalCount.increment();
+		
+		if(error) {
+			totalErrors.increment();
+		}
+	}
+	
+	/**
+	 * Encerra a janela ativa, tornando-a disponível para leitura, e inicia uma
+	 * nova janela reutilizando os contadores da janela encerrada anteriormente.
+	 */
+	public void rotate() {
+		Window recycled = completed;
+		recycled.reset();
+		
+		completed = active;
+		active = recycled;
+	}
+	
+	@Override
+	public String getName() {
+		return name;
+	}
+	
+	@Override
+	public long getCount() {
+		return completed.count.sum();
+	}
+	
+	@Override
+	public long getErrorCount() {
+		return completed.errors.sum();
+	}
+	
+	@Override
+	public long getTotalCount() {
+		return totalCount.sum();
+	}
+	
+	@Override
+	public long getTotalErrorCount() {
+		return totalErrors.sum();
+	}
+	
+	@Override
+	public double getMean() {
+		Window window = completed;
+		long count = window.count.sum();
+		
+		return count == 0 ? 0d : toMillis(window.sum.sum()) / count;
+	}
+	
+	@Override
+	public double getMax() {
+		return toMillis(completed.max.get());
+	}
+	
+	@Override
+	public double getP50() {
+		return percentile(0.50d);
+	}
+	
+	@Override
+	public double getP90() {
+		return percentile(0.90d);
+	}
+	
+	@Override
+	public double getP99() {
+		return percentile(0.99d);
+	}
+	
+	@Override
+	public double getP999() {
+		return percentile(0.999d);
+	}
+	
+	/**
+	 * Calcula o percentil indicado sobre a janela encerrada.
+	 * 
+	 * @param percentile ({@code double}) - percentil entre 0 e 1
+	 * @return {@code double} - limite superior do bucket do percentil, em
+	 *         milissegundos
+	 */
+	public double percentile(double percentile) {
+		Window window = completed;
+		long total = 0L;
+		
+		for (int i = 0; i < BUCKETS; i++) {
+			total += window.buckets.get(i);
+		}
+		
+		if(total == 0L) {
+			return 0d;
+		}
+		
+		long target = Math.max(1L, (long) Math.ceil(percentile * total));
+		long accumulated = 0L;
+		
+		for (int i = 0; i < BUCKETS; i++) {
+			accumulated += window.buckets.get(i);
+			
+			if(accumulated >= target) {
+				return toMillis(Math.min(upperBound(i), window.max.get()));
+			}
+		}
+		
+		return toMillis(window.max.get());
+	}
+	
+	/**
+	 * Retorna o bucket do valor indicado.
+	 * 
+	 * @param micros ({@code long}) - valor em microssegundos
+	 * @return {@code int} - índice do bucket
+	 */
+	static int bucketIndex(long micros) {
+		if(micros < LINEAR_LIMIT) {
+			return (int) micros;
+		}
+		
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+		
+		return LINEAR_LIMIT + (exponent - LINEAR_LIMIT_BITS) * SUB_BUCKETS + subBucket;
+	}
+	
+	/**
+	 * Retorna o maior valor contido no bucket indicado.
+	 * 
+	 * @param index ({@code int}) - índice do bucket
+	 * @return {@code long} - valor em microssegundos
+	 */
+	static long upperBound(int index) {
+		if(index < LINEAR_LIMIT) {
+			return index;
+		}
+		
+		int exponent = (index - LINEAR_LIMIT) / SUB_BUCKETS + LINEAR_LIMIT_BITS;
+		int subBucket = (index - LINEAR_LIMIT) % SUB_BUCKETS;
+		long lowerBound = (long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS);
+		
+		return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+	}
+	
+	/**
+	 * Converte o valor indicado de microssegundos para milissegundos.
+	 * 
+	 * @param micros ({@code long}) - valor em microssegundos
+	 * @return {@code double} - valor em milissegundos
+	 */
+	private static double toMillis(long micros) {
+		return micros / 1_000d;
+	}
+	
+	/**
+	 * Contadores de uma janela do histograma.
+	 */
+	private static final class Window {
+		
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+		
+		private final LongAdder count = new LongAdder();
+		
+		private final LongAdder errors = new LongAdder();
+		
+		private final LongAdder sum = new LongAdder();
+		
+		private final AtomicLong max = new AtomicLong();
+		
+		/**
+		 * Grava o valor no bucket correspondente e atualiza os contadores e o
+		 * máximo da janela.
+		 * 
+		 * @param micros ({@code long}) - valor em microssegundos
+		 * @param error  ({@code boolean}) - indica se a operação falhou
+		 */
+		private void record(long micros, boolean error) {
+			buckets.incrementAndGet(bucketIndex(micros));
+			count.increment();
+			sum.add(micros);
+			
+			if(error) {
+				errors.increment();
+			}
+			
+			long current = max.get();
+			
+			while(micros > current && !max.compareAndSet(current, micros)) {
+				current = max.get();
+			}
+		}
+		
+		/**
+		 * Zera os buckets e contadores para reutilização da janela.
+		 */
+		private void reset() {
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets.set(i, 0L);
+			}
+			
+			count.reset();
+			errors.reset();
+			sum.reset();
+			max.set(0L);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.logging.metrics;
+
+/**
+ * Interface de gerenciamento JMX de um {@link LatencyHistogram}. Os
+ * percentis, a média, o máximo e as contagens de janela referem-se à última
+ * janela encerrada; as latências são expressas em milissegundos.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public interface LatencyHistogramMBean {
+	
+	String getName();
+	
+	long getCount();
+	
+	long getErrorCount();
+	
+	long getTotalCount();
+	
+	long getTotalErrorCount();
+	
+	double getMean();
+	
+	double getMax();
+	
+	double getP50();
+	
+	double getP90();
+	
+	double getP99();
+	
+	double getP999();
+}
@@ -0,0 +1,232 @@
+package com.logging.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registro dos histogramas de latência por rota de entrada e por step externo
+ * ({@code stepId} ou host de destino), expostos como MBeans JMX no domínio
+ * {@code com.logging}.
+ * <p>
+ * Após a criação do histograma de uma chave, a gravação não aloca objetos. A
+ * quantidade de chaves por tipo é limitada; as excedentes são agrupadas em
+ * {@link #OTHER_KEY}. As janelas são encerradas no intervalo configurado.
+ * <p>
+ * No encerramento são removidos apenas os MBeans registrados por esta
+ * instância, preservando os de outros contextos de aplicação na mesma JVM
+ * (ex.: testes ou reinícios do devtools).
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@Component
+public class LatencyHistogramRegistry {
+	
+	private static final Logger LOGGER = LoggerFactory.getLogger(LatencyHistogramRegistry.class);
+	
+	public static final String OTHER_KEY = "_other";
+	
+	private static final String ROUTE_TYPE = "RouteLatency";
+	
+	private static final String STEP_TYPE = "StepLatency";
+	
+	@Value("${app.logging.histogramas.habilitado:true}")
+	private boolean enabled;
+	
+	@Value("${app.logging.histogramas.janela-segundos:60}")
+	private long windowSeconds;
+	
+	@Value("${app.logging.histogramas.max-chaves:500}")
+	private int maxKeys;
+	
+	private final ConcurrentMap<String, LatencyHistogram> routes = new ConcurrentHashMap<>();
+	
+	private final ConcurrentMap<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+	
+	private final Set<ObjectName> registeredNames = ConcurrentHashMap.newKeySet();
+	
+	private ScheduledExecutorService scheduler;
+	
+	/**
+	 * Inicia a thread de encerramento das janelas.
+	 */
+	@PostConstruct
+	public void start() {
+		if(!enabled) {
+			return;
+		}
+		
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "logging-histogram-rotation");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+		scheduler.scheduleAtFixedRate(this::rotate, windowSeconds, windowSeconds, TimeUnit.SECONDS);
+	}
+	
+	/**
+	 * Encerra a thread de rotação e remove os MBeans registrados.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if(scheduler != null) {
+			scheduler.shutdownNow();
+		}
+		
+		unregister();
+	}
+	
+	/**
+	 * Grava a latência de uma requisição de entrada.
+	 * 
+	 * @param route ({@link String}) - padrão da rota atendida
+	 * @param nanos ({@code long}) - latência em nanossegundos
+	 * @param error ({@code boolean}) - indica se a requisição falhou
+	 */
+	public void recordRoute(String route, long nanos, boolean error) {
+		if(enabled && route != null) {
+			histogram(ROUTE_TYPE, routes, route).record(nanos, error);
+		}
+	}
+	
+	/**
+	 * Grava a latência de uma chamada externa.
+	 * 
+	 * @param step  ({@link String}) - stepId ou host de destino
+	 * @param nanos ({@code long}) - latência em nanossegundos
+	 * @param error ({@code boolean}) - indica se a chamada falhou
+	 */
+	public void recordStep(String step, long nanos, boolean error) {
+		if(enabled && step != null) {
+			histogram(STEP_TYPE, steps, step).record(nanos, error);
+		}
+	}
+	
+	/**
+	 * Retorna o histograma da rota indicada.
+	 * 
+	 * @param route ({@link String}) - padrão da rota
+	 * @return {@code LatencyHistogram} - histograma ou <b>null</b> caso não exista
+	 */
+	public LatencyHistogram getRoute(String route) {
+		return routes.get(route);
+	}
+	
+	/**
+	 * Retorna o histograma do step indicado.
+	 * 
+	 * @param step ({@link String}) - stepId ou host de destino
+	 * @return {@code LatencyHistogram} - histograma ou <b>null</b> caso não exista
+	 */
+	public LatencyHistogram getStep(String step) {
+		return steps.get(step);
+	}
+	
+	/**
+	 * Encerra a janela de todos os histogramas.
+	 */
+	public void rotate() {
+		routes.values().forEach(LatencyHistogram::rotate);
+		steps.values().forEach(LatencyHistogram::rotate);
+	}
+	
+	/**
+	 * Retorna o histograma da chave indicada, criando e registrando um novo
+	 * histograma caso não exista. Ao atingir a quantidade máxima de chaves, as
+	 * novas chaves são agrupadas em {@link #OTHER_KEY}.
+	 * 
+	 * @param type       ({@link String}) - tipo do MBean
+	 * @param histograms ({@link ConcurrentMap}) - histogramas do tipo
+	 * @param key        ({@link String}) - rota ou step
+	 * @return {@code LatencyHistogram} - histograma da chave
+	 */
+	private LatencyHistogram histogram(String type, ConcurrentMap<String, LatencyHistogram> histograms, String key) {
+		LatencyHistogram histogram = histograms.get(key);
+		
+		if(histogram == null && histograms.size() >= maxKeys) {
+			key = OTHER_KEY;
+			histogram = histograms.get(OTHER_KEY);
+		}
+		
+		if(histogram == null) {
+			histogram = histograms.computeIfAbsent(key, k -> register(type, new LatencyHistogram(k)));
+		}
+		
+		return histogram;
+	}
+	
+	/**
+	 * Registra o histograma como MBean, caso o nome ainda não esteja registrado
+	 * na JVM, mantendo o nome para remoção no encerramento.
+	 * 
+	 * @param type      ({@link String}) - tipo do MBean
+	 * @param histogram ({@link LatencyHistogram}) - histograma a ser registrado
+	 * @return {@code LatencyHistogram} - histograma indicado
+	 */
+	private LatencyHistogram register(String type, LatencyHistogram histogram) {
+		try {
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = objectName(type, histogram.getName());
+			
+			if(!mBeanServer.isRegistered(objectName)) {
+				mBeanServer.registerMBean(histogram, objectName);
+				registeredNames.add(objectName);
+			}
+		}
+		catch (JMException e) {
+			LOGGER.warn("Falha no registro JMX do histograma {}.", histogram.getName(), e);
+		}
+		
+		return histogram;
+	}
+	
+	/**
+	 * Remove os MBeans registrados por esta instância.
+	 */
+	private void unregister() {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		
+		for (ObjectName objectName : registeredNames) {
+			try {
+				if(mBeanServer.isRegistered(objectName)) {
+					mBeanServer.unregisterMBean(objectName);
+				}
+			}
+			catch (JMException e) {
+				LOGGER.warn("Falha na remoção JMX do histograma {}.", objectName, e);
+			}
+		}
+		
+		registeredNames.clear();
+	}
+	
+	/**
+	 * Monta o nome do MBean do histograma.
+	 * 
+	 * @param type ({@link String}) - tipo do MBean
+	 * @param key  ({@link String}) - rota ou step
+	 * @return {@code ObjectName} - nome do MBean
+	 * @throws JMException lançada caso o nome seja inválido.
+	 */
+	private static ObjectName objectName(String type, String key) throws JMException {
+		return new ObjectName("com.logging:type=" + type + ",name=" + ObjectName.quote(key));
+	}
+}
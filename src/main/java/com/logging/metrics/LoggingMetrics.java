@@ -0,0 +1,374 @@
+package com.logging.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Centraliza os contadores internos da biblioteca, incluindo o custo da própria
+ * instrumentação (contextos, captura, mascaramento, serialização e emissão).
+ * Os contadores são {@link LongAdder}s, sem contenção entre threads.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingMetrics {
+	
+	private static final LongAdder TRUNCATED_INTERNAL_STEPS = new LongAdder();
+	
+	private static final LongAdder TRUNCATED_EXTERNAL_STEPS = new LongAdder();
+	
+	private static final LongAdder TRUNCATED_HEADERS = new LongAdder();
+	
+	private static final LongAdder TRUNCATED_BODIES = new LongAdder();
+	
+	private static final LongAdder TRUNCATED_BODY_BYTES = new LongAdder();
+	
+	private static final LongAdder SERIALIZED_PAYLOADS = new LongAdder();
+	
+	private static final LongAdder SERIALIZATION_NANOS = new LongAdder();
+	
+	private static final LongAdder SERIALIZED_BYTES = new LongAdder();
+	
+	private static final LongAdder CONTEXTS_CREATED = new LongAdder();
+	
+	private static final LongAdder CONTEXTS_RELEASED = new LongAdder();
+	
+	private static final LongAdder CONTEXTS_LEAKED = new LongAdder();
+	
+	private static final LongAdder MASKING_OPERATIONS = new LongAdder();
+	
+	private static final LongAdder CAPTURE_NANOS = new LongAdder();
+	
+	private static final LongAdder FILTER_NANOS = new LongAdder();
+	
+	private static final LongAdder EMITTED_PAYLOADS = new LongAdder();
+	
+	private static final LongAdder EMISSION_NANOS = new LongAdder();
+	
+	private static final LongAdder POOL_REUSED = new LongAdder();
+	
+	private static final LongAdder POOL_ALLOCATED = new LongAdder();
+	
+	private static final LongAdder POOL_RECYCLED = new LongAdder();
+	
+	private static final LongAdder STALE_PAYLOADS = new LongAdder();
+
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private LoggingMetrics() {}
+	
+	/**
+	 * Registra um log interno descartado por exceder o limite do contexto.
+	 */
+	public static void truncatedInternalStep() {
+		TRUNCATED_INTERNAL_STEPS.increment();
+	}
+	
+	/**
+	 * Registra uma chamada externa descartada por exceder o limite do contexto.
+	 */
+	public static void truncatedExternalStep() {
+		TRUNCATED_EXTERNAL_STEPS.increment();
+	}
+	
+	/**
+	 * Registra um header descartado por exceder o limite do contexto.
+	 */
+	public static void truncatedHeader() {
+		TRUNCATED_HEADERS.increment();
+	}
+	
+	/**
+	 * Registra um body descartado por exceder o limite de bytes do contexto.
+	 * 
+	 * @param bytes ({@code long}) - tamanho do body descartado
+	 */
+	public static void truncatedBody(long bytes) {
+		TRUNCATED_BODIES.increment();
+		TRUNCATED_BODY_BYTES.add(bytes);
+	}
+	
+	/**
+	 * Registra a serialização de um payload.
+	 * 
+	 * @param nanos ({@code long}) - duração da serialização em nanossegundos
+	 * @param bytes ({@code long}) - tamanho do payload serializado
+	 */
+	public static void serializedPayload(long nanos, long bytes) {
+		SERIALIZED_PAYLOADS.increment();
+		SERIALIZATION_NANOS.add(nanos);
+		SERIALIZED_BYTES.add(bytes);
+	}
+	
+	/**
+	 * Registra a criação de um contexto de log.
+	 */
+	public static void contextCreated() {
+		CONTEXTS_CREATED.increment();
+	}
+	
+	/**
+	 * Registra a liberação de um contexto de log.
+	 */
+	public static void contextReleased() {
+		CONTEXTS_RELEASED.increment();
+	}
+	
+	/**
+	 * Registra contextos removidos do registro por não terem sido liberados
+	 * dentro do prazo.
+	 * 
+	 * @param count ({@code long}) - quantidade de contextos
+	 */
+	public static void contextsLeaked(long count) {
+		CONTEXTS_LEAKED.add(count);
+	}
+	
+	/**
+	 * Registra uma operação de mascaramento.
+	 */
+	public static void maskingOperation() {
+		MASKING_OPERATIONS.increment();
+	}
+	
+	/**
+	 * Registra o tempo de captura de dados de request ou response.
+	 * 
+	 * @param nanos ({@code long}) - duração da captura em nanossegundos
+	 */
+	public static void capture(long nanos) {
+		CAPTURE_NANOS.add(nanos);
+	}
+	
+	/**
+	 * Registra o tempo gasto pelo filter fora da cadeia de filtros.
+	 * 
+	 * @param nanos ({@code long}) - duração em nanossegundos
+	 */
+	public static void filter(long nanos) {
+		FILTER_NANOS.add(nanos);
+	}
+	
+	/**
+	 * Registra a entrega de um payload ao logger.
+	 * 
+	 * @param nanos ({@code long}) - duração da entrega, incluindo os appenders
+	 *              síncronos, em nanossegundos
+	 */
+	public static void emittedPayload(long nanos) {
+		EMITTED_PAYLOADS.increment();
+		EMISSION_NANOS.add(nanos);
+	}
+	
+	/**
+	 * Registra a obtenção de um contexto com o pool habilitado.
+	 * 
+	 * @param reused ({@code boolean}) - <b>true</b> caso o contexto tenha sido
+	 *               reutilizado, <b>false</b> caso alocado
+	 */
+	public static void pooledContext(boolean reused) {
+		if(reused) {
+			POOL_REUSED.increment();
+		}
+		else {
+			POOL_ALLOCATED.increment();
+		}
+	}
+	
+	/**
+	 * Registra a devolução de um contexto ao pool.
+	 */
+	public static void recycledContext() {
+		POOL_RECYCLED.increment();
+	}
+	
+	/**
+	 * Registra um payload descartado pelo encoder por ter sido liberado ou
+	 * reutilizado durante a escrita.
+	 */
+	public static void stalePayload() {
+		STALE_PAYLOADS.increment();
+	}
+	
+	/**
+	 * Retorna a quantidade de logs internos descartados.
+	 * 
+	 * @return {@code long} - logs internos descartados
+	 */
+	public static long getTruncatedInternalSteps() {
+		return TRUNCATED_INTERNAL_STEPS.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de chamadas externas descartadas.
+	 * 
+	 * @return {@code long} - chamadas externas descartadas
+	 */
+	public static long getTruncatedExternalSteps() {
+		return TRUNCATED_EXTERNAL_STEPS.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de headers descartados.
+	 * 
+	 * @return {@code long} - headers descartados
+	 */
+	public static long getTruncatedHeaders() {
+		return TRUNCATED_HEADERS.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de bodies descartados.
+	 * 
+	 * @return {@code long} - bodies descartados
+	 */
+	public static long getTruncatedBodies() {
+		return TRUNCATED_BODIES.sum();
+	}
+	
+	/**
+	 * Retorna o total de bytes de bodies descartados.
+	 * 
+	 * @return {@code long} - bytes descartados
+	 */
+	public static long getTruncatedBodyBytes() {
+		return TRUNCATED_BODY_BYTES.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads serializados.
+	 * 
+	 * @return {@code long} - payloads serializados
+	 */
+	public static long getSerializedPayloads() {
+		return SERIALIZED_PAYLOADS.sum();
+	}
+	
+	/**
+	 * Retorna o tempo total de serialização de payloads.
+	 * 
+	 * @return {@code long} - tempo de serialização em nanossegundos
+	 */
+	public static long getSerializationNanos() {
+		return SERIALIZATION_NANOS.sum();
+	}
+	
+	/**
+	 * Retorna o total de bytes de payloads serializados.
+	 * 
+	 * @return {@code long} - bytes serializados
+	 */
+	public static long getSerializedBytes() {
+		return SERIALIZED_BYTES.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de contextos criados.
+	 * 
+	 * @return {@code long} - contextos criados
+	 */
+	public static long getContextsCreated() {
+		return CONTEXTS_CREATED.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de contextos liberados.
+	 * 
+	 * @return {@code long} - contextos liberados
+	 */
+	public static long getContextsReleased() {
+		return CONTEXTS_RELEASED.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de contextos removidos por vazamento.
+	 * 
+	 * @return {@code long} - contextos vazados
+	 */
+	public static long getContextsLeaked() {
+		return CONTEXTS_LEAKED.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de operações de mascaramento.
+	 * 
+	 * @return {@code long} - operações de mascaramento
+	 */
+	public static long getMaskingOperations() {
+		return MASKING_OPERATIONS.sum();
+	}
+	
+	/**
+	 * Retorna o tempo total de captura de requests e responses.
+	 * 
+	 * @return {@code long} - tempo de captura em nanossegundos
+	 */
+	public static long getCaptureNanos() {
+		return CAPTURE_NANOS.sum();
+	}
+	
+	/**
+	 * Retorna o tempo total gasto pelo filter fora da cadeia de filtros.
+	 * 
+	 * @return {@code long} - tempo em nanossegundos
+	 */
+	public static long getFilterNanos() {
+		return FILTER_NANOS.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads entregues ao logger.
+	 * 
+	 * @return {@code long} - payloads entregues
+	 */
+	public static long getEmittedPayloads() {
+		return EMITTED_PAYLOADS.sum();
+	}
+	
+	/**
+	 * Retorna o tempo total de entrega de payloads ao logger.
+	 * 
+	 * @return {@code long} - tempo de entrega em nanossegundos
+	 */
+	public static long getEmissionNanos() {
+		return EMISSION_NANOS.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de contextos reutilizados do pool.
+	 * 
+	 * @return {@code long} - contextos reutilizados
+	 */
+	public static long getPoolReused() {
+		return POOL_REUSED.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de contextos alocados com o pool vazio.
+	 * 
+	 * @return {@code long} - contextos alocados
+	 */
+	public static long getPoolAllocated() {
+		return POOL_ALLOCATED.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de contextos devolvidos ao pool.
+	 * 
+	 * @return {@code long} - contextos devolvidos
+	 */
+	public static long getPoolRecycled() {
+		return POOL_RECYCLED.sum();
+	}
+	
+	/**
+	 * Retorna a quantidade de payloads descartados por reutilização durante a
+	 * escrita.
+	 * 
+	 * @return {@code long} - payloads descartados
+	 */
+	public static long getStalePayloads() {
+		return STALE_PAYLOADS.sum();
+	}
+}
@@ -0,0 +1,56 @@
+package com.logging.metrics;
+
+/**
+ * Interface de gerenciamento JMX dos contadores internos da biblioteca. Tempos
+ * são expressos em milissegundos acumulados desde o início da aplicação.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public interface LoggingMetricsMBean {
+	
+	long getContextsCreated();
+	
+	long getContextsReleased();
+	
+	long getContextsLeaked();
+	
+	int getRegisteredContexts();
+	
+	long getSerializedPayloads();
+	
+	long getSerializedBytes();
+	
+	double getSerializationTime();
+	
+	long getEmittedPayloads();
+	
+	double getEmissionTime();
+	
+	long getDroppedPayloads();
+	
+	int getPendingPayloads();
+	
+	long getMaskingOperations();
+	
+	double getCaptureTime();
+	
+	double getFilterTime();
+	
+	long getTruncatedInternalSteps();
+	
+	long getTruncatedExternalSteps();
+	
+	long getTruncatedHeaders();
+	
+	long getTruncatedBodies();
+	
+	long getPoolReused();
+	
+	long getPoolAllocated();
+	
+	long getPoolRecycled();
+	
+	long getStalePayloads();
+}
@@ -0,0 +1,313 @@
+package com.logging.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.logging.context.LoggingContextMap;
+import com.logging.emitter.PayloadLogEmitter;
+import com.logging.enumerator.ContextMode;
+import com.logging.utils.ClockUtils;
+
+/**
+ * Componente responsável pela exposição dos contadores de
+ * {@link LoggingMetrics} através do MBean {@code com.logging:type=LoggingMetrics}
+ * e, opcionalmente, de uma linha de resumo periódica.
+ * <p>
+ * A cada intervalo, os contextos registrados no {@link LoggingContextMap} há
+ * mais tempo que o limite configurado ({@code app.logging.metricas.vazamento-segundos})
+ * são removidos e contabilizados como vazados, exceto os contextos em
+ * processamento assíncrono. A verificação depende do registro de contextos,
+ * desabilitado no modo {@link ContextMode#LIGHTWEIGHT} ou com
+ * {@code app.logging.registro-contextos=false}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@Component
+public class LoggingMetricsReporter implements LoggingMetricsMBean {
+	
+	private static final Logger LOGGER = LoggerFactory.getLogger(LoggingMetricsReporter.class);
+	
+	private static final String OBJECT_NAME = "com.logging:type=LoggingMetrics";
+	
+	@Autowired
+	private PayloadLogEmitter payloadLogEmitter;
+	
+	@Value("${app.logging.metricas.intervalo-segundos:60}")
+	private long intervalSeconds;
+	
+	@Value("${app.logging.metricas.resumo:false}")
+	private boolean summaryEnabled;
+	
+	@Value("${app.logging.metricas.vazamento-segundos:300}")
+	private long leakSeconds;
+	
+	@Value("${app.logging.registro-contextos:true}")
+	private boolean registrarContextos;
+	
+	@Value("${app.logging.contexto.modo:THREAD_LOCAL}")
+	private ContextMode contextMode;
+	
+	private ScheduledExecutorService scheduler;
+	
+	private boolean registered;
+	
+	/**
+	 * Registra o MBean e inicia a tarefa periódica de verificação de vazamentos e
+	 * de resumo. Caso a verificação de vazamentos esteja desabilitada, um aviso
+	 * é registrado com o motivo.
+	 */
+	@PostConstruct
+	public void start() {
+		register();
+		
+		if(leakSeconds > 0 && !registrarContextos) {
+			LOGGER.warn("Verificação de vazamentos de contextos de log desabilitada: registro de contextos desabilitado (app.logging.registro-contextos=false).");
+			leakSeconds = 0;
+		}
+		else if(leakSeconds > 0 && contextMode == ContextMode.LIGHTWEIGHT) {
+			LOGGER.warn("Verificação de vazamentos de contextos de log desabilitada: contextos não são registrados no modo LIGHTWEIGHT.");
+			leakSeconds = 0;
+		}
+		else if(leakSeconds <= 0 || intervalSeconds <= 0) {
+			LOGGER.warn("Verificação de vazamentos de contextos de log desabilitada (app.logging.metricas.vazamento-segundos={}, app.logging.metricas.intervalo-segundos={}).", leakSeconds, intervalSeconds);
+		}
+		
+		if(intervalSeconds <= 0 || (!summaryEnabled && leakSeconds <= 0)) {
+			return;
+		}
+		
+		scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "logging-metrics-reporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		
+		scheduler.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+	}
+	
+	/**
+	 * Encerra a tarefa periódica e remove o MBean, caso registrado por esta
+	 * instância.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		if(scheduler != null) {
+			scheduler.shutdownNow();
+		}
+		
+		if(!registered) {
+			return;
+		}
+		
+		registered = false;
+		
+		try {
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(OBJECT_NAME);
+			
+			if(mBeanServer.isRegistered(objectName)) {
+				mBeanServer.unregisterMBean(objectName);
+			}
+		}
+		catch (JMException e) {
+			LOGGER.warn("Falha na remoção JMX das métricas de logging.", e);
+		}
+	}
+	
+	/**
+	 * Remove os contextos vazados e escreve a linha de resumo, caso habilitada.
+	 */
+	public void report() {
+		if(leakSeconds > 0) {
+			int leaked = LoggingContextMap.removerContextosExpirados(TimeUnit.SECONDS.toNanos(leakSeconds));
+			
+			if(leaked > 0) {
+				LoggingMetrics.contextsLeaked(leaked);
+				LOGGER.warn("{} contextos de log não liberados foram removidos do registro.", leaked);
+			}
+		}
+		
+		if(summaryEnabled) {
+			LOGGER.info(summary());
+		}
+	}
+	
+	/**
+	 * Monta a linha de resumo dos contadores.
+	 * 
+	 * @return {@code String} - resumo dos contadores
+	 */
+	public String summary() {
+		return new StringBuilder(320)
+				.append("logging-metrics contexts[created=").append(getContextsCreated())
+				.append(" released=").append(getContextsReleased())
+				.append(" leaked=").append(getContextsLeaked())
+				.append(" registered=").append(getRegisteredContexts())
+				.append("] payloads[serialized=").append(getSerializedPayloads())
+				.append(" bytes=").append(getSerializedBytes())
+				.append(" serializationMs=").append(getSerializationTime())
+				.append(" emitted=").append(getEmittedPayloads())
+				.append(" emissionMs=").append(getEmissionTime())
+				.append(" dropped=").append(getDroppedPayloads())
+				.append(" pending=").append(getPendingPayloads())
+				.append("] maskingOps=").append(getMaskingOperations())
+				.append(" captureMs=").append(getCaptureTime())
+				.append(" filterMs=").append(getFilterTime())
+				.append(" truncated[internalSteps=").append(getTruncatedInternalSteps())
+				.append(" externalSteps=").append(getTruncatedExternalSteps())
+				.append(" headers=").append(getTruncatedHeaders())
+				.append(" bodies=").append(getTruncatedBodies())
+				.append("] pool[reused=").append(getPoolReused())
+				.append(" allocated=").append(getPoolAllocated())
+				.append(" recycled=").append(getPoolRecycled())
+				.append(" stale=").append(getStalePayloads())
+				.append(']')
+				.toString();
+	}
+	
+	@Override
+	public long getContextsCreated() {
+		return LoggingMetrics.getContextsCreated();
+	}
+	
+	@Override
+	public long getContextsReleased() {
+		return LoggingMetrics.getContextsReleased();
+	}
+	
+	@Override
+	public long getContextsLeaked() {
+		return LoggingMetrics.getContextsLeaked();
+	}
+	
+	@Override
+	public int getRegisteredContexts() {
+		return LoggingContextMap.quantidadeContextos();
+	}
+	
+	@Override
+	public long getSerializedPayloads() {
+		return LoggingMetrics.getSerializedPayloads();
+	}
+	
+	@Override
+	public long getSerializedBytes() {
+		return LoggingMetrics.getSerializedBytes();
+	}
+	
+	@Override
+	public double getSerializationTime() {
+		return ClockUtils.toMillis(LoggingMetrics.getSerializationNanos());
+	}
+	
+	@Override
+	public long getEmittedPayloads() {
+		return LoggingMetrics.getEmittedPayloads();
+	}
+	
+	@Override
+	public double getEmissionTime() {
+		return ClockUtils.toMillis(LoggingMetrics.getEmissionNanos());
+	}
+	
+	@Override
+	public long getDroppedPayloads() {
+		return payloadLogEmitter.getDroppedCount();
+	}
+	
+	@Override
+	public int getPendingPayloads() {
+		return payloadLogEmitter.getPendingCount();
+	}
+	
+	@Override
+	public long getMaskingOperations() {
+		return LoggingMetrics.getMaskingOperations();
+	}
+	
+	@Override
+	public double getCaptureTime() {
+		return ClockUtils.toMillis(LoggingMetrics.getCaptureNanos());
+	}
+	
+	@Override
+	public double getFilterTime() {
+		return ClockUtils.toMillis(LoggingMetrics.getFilterNanos());
+	}
+	
+	@Override
+	public long getTruncatedInternalSteps() {
+		return LoggingMetrics.getTruncatedInternalSteps();
+	}
+	
+	@Override
+	public long getTruncatedExternalSteps() {
+		return LoggingMetrics.getTruncatedExternalSteps();
+	}
+	
+	@Override
+	public long getTruncatedHeaders() {
+		return LoggingMetrics.getTruncatedHeaders();
+	}
+	
+	@Override
+	public long getTruncatedBodies() {
+		return LoggingMetrics.getTruncatedBodies();
+	}
+	
+	@Override
+	public long getPoolReused() {
+		return LoggingMetrics.getPoolReused();
+	}
+	
+	@Override
+	public long getPoolAllocated() {
+		return LoggingMetrics.getPoolAllocated();
+	}
+	
+	@Override
+	public long getPoolRecycled() {
+		return LoggingMetrics.getPoolRecycled();
+	}
+	
+	@Override
+	public long getStalePayloads() {
+		return LoggingMetrics.getStalePayloads();
+	}
+	
+	/**
+	 * Registra o MBean das métricas, caso o nome ainda não esteja registrado na
+	 * JVM (ex.: por outro contexto de aplicação).
+	 */
+	private void register() {
+		try {
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(OBJECT_NAME);
+			
+			if(!mBeanServer.isRegistered(objectName)) {
+				mBeanServer.registerMBean(new StandardMBean(this, LoggingMetricsMBean.class), objectName);
+				registered = true;
+			}
+		}
+		catch (JMException e) {
+			LOGGER.warn("Falha no registro JMX das métricas de logging.", e);
+		}
+	}
+}
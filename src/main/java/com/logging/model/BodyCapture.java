@@ -0,0 +1,704 @@
+package com.logging.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.logging.component.LoggingBodyPolicy;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.enumerator.MaskingStrategy;
+import com.logging.utils.MaskingUtils;
+
+/**
+ * Buffer de captura dos bytes de um body, alimentado pelas streams da
+ * requisição. A cópia é interrompida ao atingir o limite da
+ * {@link LoggingBodyPolicy}, mantendo apenas a contagem dos bytes excedentes.
+ * <p>
+ * O buffer cresce sob demanda até o limite e é mantido entre reutilizações do
+ * payload pelo pool de contextos. O conteúdo é mascarado e embutido apenas na
+ * emissão do payload, sem conversão para objetos.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@JsonSerialize(using = BodyCapture.BodyCaptureSerializer.class)
+public final class BodyCapture {
+	
+	private static final int INITIAL_CAPACITY = 512;
+	
+	private static final byte[] EMPTY = new byte[0];
+	
+	private byte[] buffer = EMPTY;
+	
+	private int length;
+	
+	private long totalBytes;
+	
+	private int limit;
+	
+	private boolean active;
+	
+	private LoggingBodyPolicy policy;
+	
+	/**
+	 * Cria uma captura vazia, alimentada por uma stream (ex.: body de response de
+	 * uma chamada externa).
+	 * 
+	 * @param policy ({@link LoggingBodyPolicy}) - política de captura
+	 * @return {@code BodyCapture} - captura habilitada
+	 */
+	public static BodyCapture forStream(LoggingBodyPolicy policy) {
+		BodyCapture capture = new BodyCapture();
+		capture.open(policy);
+		
+		return capture;
+	}
+	
+	/**
+	 * Cria uma captura sobre o JSON já serializado, mantido por referência e sem
+	 * cópia. O array não deve ser alterado após a captura.
+	 * 
+	 * @param content ({@code byte[]}) - JSON serializado em UTF-8
+	 * @param policy  ({@link LoggingBodyPolicy}) - política de captura
+	 * @return {@code BodyCapture} - captura do conteúdo
+	 */
+	public static BodyCapture forContent(byte[] content, LoggingBodyPolicy policy) {
+		BodyCapture capture = forStream(policy);
+		capture.buffer = content;
+		capture.length = Math.min(content.length, capture.limit);
+		capture.totalBytes = content.length;
+		
+		return capture;
+	}
+	
+	/**
+	 * Habilita a captura com a política indicada, descartando o conteúdo anterior.
+	 * 
+	 * @param policy ({@link LoggingBodyPolicy}) - política de captura
+	 */
+	void open(LoggingBodyPolicy policy) {
+		this.policy = policy;
+		this.limit = policy.getLimitBytes();
+		this.length = 0;
+		this.totalBytes = 0L;
+		this.active = true;
+	}
+	
+	/**
+	 * Reserva o buffer para o tamanho esperado do body (ex.: header
+	 * {@code Content-Length}), limitado ao limite de captura.
+	 * 
+	 * @param expectedBytes ({@code long}) - tamanho esperado do body ou valor
+	 *                      negativo caso desconhecido
+	 */
+	public void reserve(long expectedBytes) {
+		int expected = (int) Math.min(expectedBytes, limit);
+		
+		if(expected > buffer.length) {
+			byte[] expanded = new byte[expected];
+			System.arraycopy(buffer, 0, expanded, 0, length);
+			buffer = expanded;
+		}
+	}
+	
+	/**
+	 * Indica se a captura está habilitada.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso a captura esteja habilitada
+	 */
+	public boolean isActive() {
+		return active;
+	}
+	
+	/**
+	 * Desabilita a captura, descartando o conteúdo copiado (ex.: content type do
+	 * response não suportado).
+	 */
+	public void disable() {
+		active = false;
+		length = 0;
+		totalBytes = 0L;
+	}
+	
+	/**
+	 * Retorna a política de captura.
+	 * 
+	 * @return {@code LoggingBodyPolicy} - política de captura
+	 */
+	public LoggingBodyPolicy getPolicy() {
+		return policy;
+	}
+	
+	/**
+	 * Copia o byte indicado, caso o limite não tenha sido atingido.
+	 * 
+	 * @param b ({@code int}) - byte lido ou escrito
+	 */
+	public void write(int b) {
+		if(!active) {
+			return;
+		}
+		
+		totalBytes++;
+		
+		if(length < limit) {
+			ensureCapacity(1);
+			buffer[length++] = (byte) b;
+		}
+	}
+	
+	/**
+	 * Copia o trecho indicado até o limite de captura.
+	 * 
+	 * @param b   ({@code byte[]}) - bytes lidos ou escritos
+	 * @param off ({@code int}) - posição inicial
+	 * @param len ({@code int}) - quantidade de bytes
+	 */
+	public void write(byte[] b, int off, int len) {
+		if(!active || len <= 0) {
+			return;
+		}
+		
+		totalBytes += len;
+		int copied = Math.min(len, limit - length);
+		
+		if(copied > 0) {
+			ensureCapacity(copied);
+			System.arraycopy(b, off, buffer, length, copied);
+			length += copied;
+		}
+	}
+	
+	/**
+	 * Indica se nenhum byte foi capturado.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso a captura esteja vazia
+	 */
+	public boolean isEmpty() {
+		return !active || totalBytes == 0L;
+	}
+	
+	/**
+	 * Indica se o body excedeu o limite de captura.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso bytes tenham sido descartados
+	 */
+	public boolean isTruncated() {
+		return totalBytes > length;
+	}
+	
+	/**
+	 * Retorna a quantidade total de bytes do body, incluindo os não copiados.
+	 * 
+	 * @return {@code long} - tamanho do body
+	 */
+	public long getTotalBytes() {
+		return totalBytes;
+	}
+	
+	/**
+	 * Limpa a captura para reutilização, mantendo o buffer alocado.
+	 */
+	void reset() {
+		disable();
+		policy = null;
+	}
+	
+	/**
+	 * Amplia o buffer para a quantidade adicional de bytes, dobrando a
+	 * capacidade sem ultrapassar o limite da captura.
+	 * 
+	 * @param additional ({@code int}) - quantidade de bytes a serem escritos
+	 */
+	private void ensureCapacity(int additional) {
+		int required = length + additional;
+		
+		if(required <= buffer.length) {
+			return;
+		}
+		
+		int capacity = Math.max(INITIAL_CAPACITY, buffer.length * 2);
+		
+		while(capacity < required) {
+			capacity *= 2;
+		}
+		
+		byte[] expanded = new byte[Math.max(required, Math.min(capacity, limit))];
+		System.arraycopy(buffer, 0, expanded, 0, length);
+		buffer = expanded;
+	}
+	
+	/**
+	 * Serializador da captura. O JSON capturado é escrito sem conversão para
+	 * objetos: sem campos sensíveis, os bytes são validados e embutidos
+	 * diretamente com {@link JsonGenerator#writeRawValue(SerializableString)};
+	 * caso contrário, os tokens são copiados do parser para um buffer da thread,
+	 * mascarando os valores dos campos sensíveis, e a validação ocorre durante a
+	 * própria cópia. Capturas truncadas são escritas com o marcador de
+	 * {@link TruncationLogModel#writeBodyMarker(JsonGenerator, long)} e capturas
+	 * inválidas com um marcador com o tamanho do body.
+	 * <p>
+	 * Geradores de outros formatos (ex.: Smile) recebem os tokens diretamente,
+	 * após a validação, pois uma cópia interrompida não pode ser desfeita no
+	 * gerador.
+	 */
+	static class BodyCaptureSerializer extends StdSerializer<BodyCapture> {
+		
+		private static final long serialVersionUID = -3906172893467601543L;
+		
+		private static final ThreadLocal<char[]> MASK_BUFFER = ThreadLocal.withInitial(() -> new char[64]);
+		
+		private static final int MAX_RETAINED_BUFFER = 4096;
+		
+		private static final int MAX_RETAINED_COPY_BUFFER = 64 * 1024;
+		
+		private static final ThreadLocal<CopyBuffer> COPY_BUFFER = ThreadLocal.withInitial(CopyBuffer::new);
+
+		public BodyCaptureSerializer() {
+			super(BodyCapture.class);
+		}
+		
+		@Override
+		public void serialize(BodyCapture capture, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			if(capture.isTruncated()) {
+				TruncationLogModel.writeBodyMarker(gen, capture.limit);
+				return;
+			}
+			
+			JsonFactory jsonFactory = LoggingObjectWriters.reader().getFactory();
+			
+			if(capture.policy.hasSensitiveFields() && gen instanceof JsonGeneratorImpl) {
+				writeMaskedCopy(jsonFactory, capture, gen, provider);
+				return;
+			}
+			
+			if(!isValid(jsonFactory, capture)) {
+				writeInvalid(capture, gen, provider);
+				return;
+			}
+			
+			if(gen instanceof JsonGeneratorImpl) {
+				RawJson.write(gen, capture.buffer, capture.length);
+				return;
+			}
+			
+			try (JsonParser parser = jsonFactory.createParser(capture.buffer, 0, capture.length)) {
+				copy(parser, gen, capture.policy);
+			}
+		}
+		
+		@Override
+		public boolean isEmpty(SerializerProvider provider, BodyCapture capture) {
+			return capture.isEmpty();
+		}
+		
+		/**
+		 * Copia os tokens da captura com mascaramento para o buffer da thread em
+		 * uma única leitura, embutindo o resultado no gerador caso a captura
+		 * contenha um único valor JSON válido. Caso contrário, o marcador de
+		 * captura inválida é escrito.
+		 */
+		private static void writeMaskedCopy(JsonFactory jsonFactory, BodyCapture capture, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			CopyBuffer buffer = COPY_BUFFER.get();
+			COPY_BUFFER.remove();
+			boolean valid;
+			
+			try {
+				buffer.reset();
+				
+				try (JsonParser parser = jsonFactory.createParser(capture.buffer, 0, capture.length);
+						JsonGenerator copyGen = jsonFactory.createGenerator(buffer)) {
+					valid = copy(parser, copyGen, capture.policy);
+				}
+				catch (JsonProcessingException e) {
+					valid = false;
+				}
+				
+				if(valid) {
+					RawJson.write(gen, buffer.buffer, buffer.length);
+				}
+				else {
+					writeInvalid(capture, gen, provider);
+				}
+			}
+			finally {
+				if(buffer.buffer.length <= MAX_RETAINED_COPY_BUFFER) {
+					COPY_BUFFER.set(buffer);
+				}
+			}
+		}
+		
+		/**
+		 * Escreve o marcador de captura que não contém um único valor JSON válido.
+		 */
+		private static void writeInvalid(BodyCapture capture, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			provider.defaultSerializeValue(Collections.singletonMap("invalid", capture.length + " bytes"), gen);
+		}
+		
+		/**
+		 * Verifica se a captura contém um único valor JSON válido, sem
+		 * materializar os valores lidos.
+		 */
+		private static boolean isValid(JsonFactory jsonFactory, BodyCapture capture) throws IOException {
+			try (JsonParser parser = jsonFactory.createParser(capture.buffer, 0, capture.length)) {
+				if(parser.nextToken() == null) {
+					return false;
+				}
+				
+				parser.skipChildren();
+				return parser.nextToken() == null;
+			}
+			catch (JsonProcessingException e) {
+				return false;
+			}
+		}
+		
+		/**
+		 * Copia o primeiro valor do parser para o gerador. Valores de campos
+		 * sensíveis, incluindo todos os valores contidos em objetos e arrays
+		 * sensíveis, são mascarados.
+		 * 
+		 * @return {@code boolean} - <b>true</b> caso o parser contenha exatamente um
+		 *         valor JSON
+		 * @throws JsonProcessingException lançada caso o conteúdo não seja um JSON
+		 *                                 válido.
+		 */
+		private static boolean copy(JsonParser parser, JsonGenerator gen, LoggingBodyPolicy policy) throws IOException {
+			int depth = 0;
+			int maskedDepth = 0;
+			boolean maskNext = false;
+			JsonToken token = parser.nextToken();
+			
+			if(token == null) {
+				return false;
+			}
+			
+			do {
+				switch (token) {
+				case FIELD_NAME:
+					gen.writeFieldName(parser.getCurrentName());
+					maskNext = maskedDepth == 0 && policy.isSensitive(parser.getCurrentName());
+					break;
+					
+				case START_OBJECT:
+				case START_ARRAY:
+					gen.copyCurrentEvent(parser);
+					depth++;
+					
+					if(maskNext) {
+						maskedDepth = depth;
+						maskNext = false;
+					}
+					break;
+					
+				case END_OBJECT:
+				case END_ARRAY:
+					gen.copyCurrentEvent(parser);
+					
+					if(depth == maskedDepth) {
+						maskedDepth = 0;
+					}
+					
+					depth--;
+					break;
+					
+				case VALUE_NULL:
+					gen.writeNull();
+					maskNext = false;
+					break;
+					
+				case VALUE_NUMBER_INT:
+				case VALUE_NUMBER_FLOAT:
+					if(maskNext || maskedDepth > 0) {
+						writeMasked(parser, gen);
+					}
+					else {
+						gen.writeNumber(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+					}
+					
+					maskNext = false;
+					break;
+
+				default:
+					if(maskNext || maskedDepth > 0) {
+						writeMasked(parser, gen);
+					}
+					else {
+						gen.copyCurrentEvent(parser);
+					}
+					
+					maskNext = false;
+					break;
+				}
+			}
+			while(depth > 0 && (token = parser.nextToken()) != null);
+			
+			return depth == 0 && parser.nextToken() == null;
+		}
+		
+		/**
+		 * Escreve o valor corrente do parser totalmente mascarado, sem construção de
+		 * {@link String}s.
+		 */
+		private static void writeMasked(JsonParser parser, JsonGenerator gen) throws IOException {
+			int length = parser.getTextLength();
+			char[] buffer = MASK_BUFFER.get();
+			
+			if(buffer.length < length) {
+				buffer = new char[Math.max(length, buffer.length * 2)];
+				
+				if(buffer.length <= MAX_RETAINED_BUFFER) {
+					MASK_BUFFER.set(buffer);
+				}
+			}
+			
+			MaskingUtils.mask(buffer, 0, length, MaskingStrategy.FULL, 0);
+			gen.writeString(buffer, 0, length);
+		}
+	}
+	
+	/**
+	 * Buffer de bytes da cópia mascarada, sem sincronização e com acesso direto
+	 * ao array para escrita sem cópia adicional.
+	 */
+	private static final class CopyBuffer extends OutputStream {
+		
+		private byte[] buffer = new byte[INITIAL_CAPACITY];
+		
+		private int length;
+		
+		/**
+		 * Descarta o conteúdo, mantendo o buffer alocado.
+		 */
+		void reset() {
+			length = 0;
+		}
+		
+		@Override
+		public void write(int b) {
+			ensureCapacity(1);
+			buffer[length++] = (byte) b;
+		}
+		
+		@Override
+		public void write(byte[] b, int off, int len) {
+			ensureCapacity(len);
+			System.arraycopy(b, off, buffer, length, len);
+			length += len;
+		}
+		
+		/**
+		 * Amplia o buffer para a quantidade adicional de bytes.
+		 * 
+		 * @param additional ({@code int}) - quantidade de bytes a serem escritos
+		 */
+		private void ensureCapacity(int additional) {
+			if(length + additional > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+			}
+		}
+	}
+	
+	/**
+	 * Trecho de JSON em UTF-8 embutido sem cópia para {@link String} nos
+	 * geradores de bytes. Nos geradores UTF-8 o conteúdo é escrito em janelas de
+	 * até {@link #CHUNK_SIZE} bytes, de forma que cada janela caiba no buffer do
+	 * gerador sem a cópia do conteúdo completo; geradores de caracteres recebem
+	 * o conteúdo inteiro, evitando a divisão de caracteres multibyte. As formas
+	 * entre aspas são obtidas pelo {@link JsonStringEncoder}, como em
+	 * {@link com.fasterxml.jackson.core.io.SerializedString}.
+	 */
+	static final class RawJson implements SerializableString {
+		
+		private static final int CHUNK_SIZE = 512;
+		
+		private final byte[] content;
+		
+		private int offset;
+		
+		private int length;
+		
+		/**
+		 * Construtor do trecho com o conteúdo completo do array.
+		 * 
+		 * @param content ({@code byte[]}) - JSON em UTF-8
+		 */
+		RawJson(byte[] content) {
+			this.content = content;
+			this.length = content.length;
+		}
+		
+		/**
+		 * Escreve o JSON indicado como valor no gerador.
+		 * 
+		 * @param gen     ({@link JsonGenerator}) - gerador JSON
+		 * @param content ({@code byte[]}) - JSON em UTF-8
+		 * @param length  ({@code int}) - quantidade de bytes do JSON
+		 * @throws IOException lançada em caso de falha na escrita.
+		 */
+		static void write(JsonGenerator gen, byte[] content, int length) throws IOException {
+			RawJson window = new RawJson(content);
+			window.length = gen instanceof UTF8JsonGenerator ? Math.min(length, CHUNK_SIZE) : length;
+			gen.writeRawValue(window);
+			window.append(gen, window.length, length);
+		}
+		
+		/**
+		 * Continua a escrita de um valor iniciado por
+		 * {@link #write(JsonGenerator, byte[], int)} com o trecho seguinte do
+		 * JSON. Destinado apenas a geradores UTF-8.
+		 * 
+		 * @param gen     ({@link UTF8JsonGenerator}) - gerador JSON de bytes
+		 * @param content ({@code byte[]}) - trecho do JSON em UTF-8
+		 * @param length  ({@code int}) - quantidade de bytes do trecho
+		 * @throws IOException lançada em caso de falha na escrita.
+		 */
+		static void append(UTF8JsonGenerator gen, byte[] content, int length) throws IOException {
+			new RawJson(content).append(gen, 0, length);
+		}
+		
+		/**
+		 * Escreve o intervalo indicado do conteúdo como JSON bruto, em janelas de
+		 * até {@link #CHUNK_SIZE} bytes.
+		 * 
+		 * @param gen  ({@link JsonGenerator}) - gerador JSON
+		 * @param from ({@code int}) - posição inicial do intervalo
+		 * @param to   ({@code int}) - posição final (exclusiva) do intervalo
+		 * @throws IOException lançada em caso de falha na escrita.
+		 */
+		private void append(JsonGenerator gen, int from, int to) throws IOException {
+			for (int position = from; position < to; position += length) {
+				offset = position;
+				length = Math.min(to - position, CHUNK_SIZE);
+				gen.writeRaw(this);
+			}
+		}
+		
+		@Override
+		public String getValue() {
+			return new String(content, offset, length, StandardCharsets.UTF_8);
+		}
+		
+		@Override
+		public int charLength() {
+			return getValue().length();
+		}
+		
+		@Override
+		public byte[] asUnquotedUTF8() {
+			return Arrays.copyOfRange(content, offset, offset + length);
+		}
+		
+		@Override
+		public int appendUnquotedUTF8(byte[] buffer, int offset) {
+			if(offset + length > buffer.length) {
+				return -1;
+			}
+			
+			System.arraycopy(content, this.offset, buffer, offset, length);
+			return length;
+		}
+		
+		@Override
+		public int appendUnquoted(char[] buffer, int offset) {
+			String value = getValue();
+			
+			if(offset + value.length() > buffer.length) {
+				return -1;
+			}
+			
+			value.getChars(0, value.length(), buffer, offset);
+			return value.length();
+		}
+		
+		@Override
+		public int writeUnquotedUTF8(OutputStream out) throws IOException {
+			out.write(content, offset, length);
+			return length;
+		}
+		
+		@Override
+		public int putUnquotedUTF8(ByteBuffer buffer) {
+			if(buffer.remaining() < length) {
+				return -1;
+			}
+			
+			buffer.put(content, offset, length);
+			return length;
+		}
+		
+		@Override
+		public char[] asQuotedChars() {
+			return JsonStringEncoder.getInstance().quoteAsString(getValue());
+		}
+		
+		@Override
+		public byte[] asQuotedUTF8() {
+			return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+		}
+		
+		@Override
+		public int appendQuotedUTF8(byte[] buffer, int offset) {
+			byte[] quoted = asQuotedUTF8();
+			
+			if(offset + quoted.length > buffer.length) {
+				return -1;
+			}
+			
+			System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+			return quoted.length;
+		}
+		
+		@Override
+		public int appendQuoted(char[] buffer, int offset) {
+			char[] quoted = asQuotedChars();
+			
+			if(offset + quoted.length > buffer.length) {
+				return -1;
+			}
+			
+			System.arraycopy(quoted, 0, buffer, offset, quoted.length);
+			return quoted.length;
+		}
+		
+		@Override
+		public int writeQuotedUTF8(OutputStream out) throws IOException {
+			byte[] quoted = asQuotedUTF8();
+			out.write(quoted);
+			return quoted.length;
+		}
+		
+		@Override
+		public int putQuotedUTF8(ByteBuffer buffer) {
+			byte[] quoted = asQuotedUTF8();
+			
+			if(buffer.remaining() < quoted.length) {
+				return -1;
+			}
+			
+			buffer.put(quoted);
+			return quoted.length;
+		}
+		
+		@Override
+		public String toString() {
+			return getValue();
+		}
+	}
+}
@@ -0,0 +1,306 @@
+package com.logging.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.metrics.LoggingMetrics;
+
+/**
+ * Modelo para mapeamento de bodies capturados. O objeto original é mantido por
+ * referência e serializado apenas na emissão do payload, aplicando o
+ * mascaramento de campos sensíveis e o limite de bytes do contexto.
+ * <p>
+ * Com limite definido, o body é serializado uma única vez por emissão em um
+ * buffer limitado da thread, interrompido assim que o limite é excedido. O
+ * JSON resultante é embutido diretamente no payload; bodies interrompidos são
+ * substituídos por um marcador.
+ * <p>
+ * Como a conversão é adiada, o objeto não deve ser alterado pela aplicação após
+ * a captura.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@JsonSerialize(using = BodyLogModel.BodyLogSerializer.class)
+public final class BodyLogModel {
+	
+	private final Object value;
+	
+	private final int maxBytes;
+	
+	private static final ThreadLocal<BoundedOutputStream> BUFFERS = ThreadLocal.withInitial(BoundedOutputStream::new);
+	
+	private final TruncationLogModel truncation;
+	
+	private volatile boolean truncated;
+	
+	private final AtomicBoolean truncationRecorded = new AtomicBoolean();
+
+	/**
+	 * Construtor do modelo.
+	 * 
+	 * @param value      ({@link Object}) - body capturado
+	 * @param maxBytes   ({@code int}) - tamanho máximo do body serializado. Valores
+	 *                   menores ou iguais a zero indicam ausência de limite.
+	 * @param truncation ({@link TruncationLogModel}) - registro de descartes do
+	 *                   payload
+	 */
+	BodyLogModel(Object value, int maxBytes, TruncationLogModel truncation) {
+		this.value = value;
+		this.maxBytes = maxBytes;
+		this.truncation = truncation;
+	}
+	
+	/**
+	 * Retorna o body capturado.
+	 * 
+	 * @return {@code Object} - body capturado
+	 */
+	public Object getValue() {
+		return value;
+	}
+	
+	/**
+	 * Serializa o body em JSON compacto no buffer indicado, interrompendo a
+	 * escrita ao exceder {@code maxBytes}. A serialização não utiliza locks,
+	 * evitando a fixação de virtual threads; em caso de serialização
+	 * concorrente, o descarte é registrado no payload e nas métricas uma única
+	 * vez e as emissões seguintes escrevem o marcador sem nova serialização.
+	 * <p>
+	 * Como a escrita é interrompida ao exceder o limite, o tamanho registrado
+	 * para bodies descartados corresponde aos bytes escritos até a interrupção,
+	 * sendo um limite inferior do tamanho real.
+	 * 
+	 * @param buffer ({@link BoundedOutputStream}) - buffer de destino
+	 * @return {@code boolean} - <b>true</b> caso o body caiba no limite
+	 * @throws IOException lançada em caso de falha na serialização.
+	 */
+	private boolean serializeWithinLimit(BoundedOutputStream buffer) throws IOException {
+		if(truncated) {
+			return false;
+		}
+		
+		buffer.reset(maxBytes);
+		
+		try {
+			LoggingObjectWriters.compactWriter().writeValue(buffer, value);
+			return true;
+		}
+		catch (LimitExceededException e) {
+			truncated = true;
+			
+			if(truncationRecorded.compareAndSet(false, true)) {
+				truncation.addBodyBytes(e.bytes);
+				LoggingMetrics.truncatedBody(e.bytes);
+			}
+			
+			return false;
+		}
+	}
+	
+	/**
+	 * Serializador do body. Sem limite, o objeto original é escrito diretamente
+	 * no gerador; com limite, o JSON serializado no buffer limitado da thread é
+	 * embutido nos geradores JSON ou um marcador com o limite excedido é
+	 * escrito. Geradores de outros formatos (ex.: Smile) recebem o objeto
+	 * original após a verificação do limite.
+	 */
+	static class BodyLogSerializer extends StdSerializer<BodyLogModel> {
+		
+		private static final long serialVersionUID = 4210930384717652513L;
+
+		public BodyLogSerializer() {
+			super(BodyLogModel.class);
+		}
+		
+		@Override
+		public void serialize(BodyLogModel body, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			if(body.maxBytes <= 0) {
+				provider.defaultSerializeValue(body.value, gen);
+				return;
+			}
+			
+			BoundedOutputStream buffer = BUFFERS.get();
+			BUFFERS.remove();
+			
+			try {
+				if(!body.serializeWithinLimit(buffer)) {
+					TruncationLogModel.writeBodyMarker(gen, body.maxBytes);
+				}
+				else if(gen instanceof JsonGeneratorImpl) {
+					buffer.writeTo(gen);
+				}
+				else {
+					provider.defaultSerializeValue(body.value, gen);
+				}
+			}
+			finally {
+				buffer.trim();
+				BUFFERS.set(buffer);
+			}
+		}
+		
+		@Override
+		public boolean isEmpty(SerializerProvider provider, BodyLogModel body) {
+			return body.value == null;
+		}
+	}
+	
+	/**
+	 * {@link OutputStream} em memória que interrompe a escrita ao exceder o
+	 * limite de bytes. Os bytes são gravados em blocos de tamanho fixo, evitando
+	 * cópias no crescimento; os primeiros blocos são mantidos para reutilização
+	 * pela thread. Retirado do {@link ThreadLocal} durante o uso, de forma que
+	 * serializações aninhadas utilizam buffers próprios.
+	 */
+	private static final class BoundedOutputStream extends OutputStream {
+		
+		private static final int BLOCK_SIZE = 8 * 1024;
+		
+		private static final int MAX_RETAINED_BLOCKS = 8;
+		
+		private final List<byte[]> blocks = new ArrayList<>();
+		
+		private int limit;
+		
+		private int length;
+		
+		/**
+		 * Prepara o buffer para uma nova serialização, mantendo os blocos retidos.
+		 * 
+		 * @param limit ({@code int}) - limite de bytes da serialização
+		 */
+		void reset(int limit) {
+			this.limit = limit;
+			this.length = 0;
+		}
+		
+		@Override
+		public void write(int b) throws IOException {
+			checkLimit(1);
+			block(length / BLOCK_SIZE)[length % BLOCK_SIZE] = (byte) b;
+			length++;
+		}
+		
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			checkLimit(len);
+			
+			while(len > 0) {
+				int position = length % BLOCK_SIZE;
+				int count = Math.min(len, BLOCK_SIZE - position);
+				System.arraycopy(b, off, block(length / BLOCK_SIZE), position, count);
+				off += count;
+				len -= count;
+				length += count;
+			}
+		}
+		
+		/**
+		 * Escreve o conteúdo como valor JSON no gerador. Nos geradores UTF-8 os
+		 * blocos são escritos diretamente; nos demais, o conteúdo é copiado para
+		 * um único array.
+		 * 
+		 * @param gen ({@link JsonGenerator}) - gerador de destino
+		 * @throws IOException lançada em caso de falha na escrita.
+		 */
+		void writeTo(JsonGenerator gen) throws IOException {
+			if(length <= BLOCK_SIZE) {
+				BodyCapture.RawJson.write(gen, blocks.get(0), length);
+				return;
+			}
+			
+			if(!(gen instanceof UTF8JsonGenerator)) {
+				BodyCapture.RawJson.write(gen, toByteArray(), length);
+				return;
+			}
+			
+			BodyCapture.RawJson.write(gen, blocks.get(0), BLOCK_SIZE);
+			
+			for (int index = 1; index * BLOCK_SIZE < length; index++) {
+				BodyCapture.RawJson.append((UTF8JsonGenerator) gen, blocks.get(index), Math.min(BLOCK_SIZE, length - index * BLOCK_SIZE));
+			}
+		}
+		
+		/**
+		 * Descarta os blocos excedentes ao limite de retenção.
+		 */
+		void trim() {
+			for (int index = blocks.size() - 1; index >= MAX_RETAINED_BLOCKS; index--) {
+				blocks.remove(index);
+			}
+		}
+		
+		/**
+		 * Copia o conteúdo dos blocos para um único array.
+		 * 
+		 * @return {@code byte[]} - conteúdo escrito no buffer
+		 */
+		private byte[] toByteArray() {
+			byte[] content = new byte[length];
+			
+			for (int index = 0; index * BLOCK_SIZE < length; index++) {
+				System.arraycopy(blocks.get(index), 0, content, index * BLOCK_SIZE, Math.min(BLOCK_SIZE, length - index * BLOCK_SIZE));
+			}
+			
+			return content;
+		}
+		
+		/**
+		 * Retorna o bloco indicado, alocando-o caso seja o próximo bloco do buffer.
+		 * 
+		 * @param index ({@code int}) - índice do bloco
+		 * @return {@code byte[]} - bloco de bytes
+		 */
+		private byte[] block(int index) {
+			if(index == blocks.size()) {
+				blocks.add(new byte[BLOCK_SIZE]);
+			}
+			
+			return blocks.get(index);
+		}
+		
+		/**
+		 * Verifica se a escrita da quantidade de bytes indicada excede o limite.
+		 * 
+		 * @param len ({@code int}) - quantidade de bytes a serem escritos
+		 * @throws LimitExceededException lançada caso o limite seja excedido.
+		 */
+		private void checkLimit(int len) throws LimitExceededException {
+			if(len > limit - length) {
+				throw new LimitExceededException((long) length + len);
+			}
+		}
+	}
+	
+	/**
+	 * Sinaliza a interrupção da serialização ao exceder o limite de bytes.
+	 */
+	private static final class LimitExceededException extends IOException {
+		
+		private static final long serialVersionUID = -6032461950427155203L;
+		
+		private final long bytes;
+		
+		LimitExceededException(long bytes) {
+			super("Limite de bytes do body excedido.");
+			this.bytes = bytes;
+		}
+		
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package com.logging.model;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -10,9 +13,14 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.logging.utils.ClockUtils;
 
 /**
  * Modelo para mapeamento de logs relacionados à chamadas externas.
+ * <p>
+ * A medição é feita preferencialmente com {@link #setTiming(long, long)}, em
+ * nanossegundos monotônicos. As datas são derivadas na serialização a partir
+ * do relógio de parede do payload ao qual o step é adicionado.
  * 
  * @author Mauricio Souza Couto
  * @since 2021-06-13
@@ -30,12 +38,36 @@ public class ExternalStepLogModel {
 	@JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss:SSS")
 	private LocalDateTime endTime;
 	
-	@JsonProperty("duration (ms)")
-	private Long duration;
+	@JsonIgnore
+	private long durationNanos = -1L;
+	
+	@JsonIgnore
+	private long startNanos;
+	
+	@JsonIgnore
+	private long endNanos;
+	
+	@JsonIgnore
+	private boolean timed;
+	
+	@JsonIgnore
+	private volatile long anchorNanos;
+	
+	@JsonIgnore
+	private volatile long anchorEpochNanos;
 		
 	private String stepId;
 	
 	private String status;
+	
+	@JsonInclude(Include.NON_EMPTY)
+	private BodyCapture requestBody;
+	
+	@JsonInclude(Include.NON_EMPTY)
+	private BodyCapture responseBody;
+	
+	@JsonIgnore
+	private boolean failed;
 
 	/**
 	 * Retorna a data de início da chamada do step.
@@ -43,6 +75,10 @@ public class ExternalStepLogModel {
 	 * @return {@code LocalDateTime} - data de início da chamada
 	 */
 	public LocalDateTime getStartTime() {
+		if(startTime == null && timed && anchorEpochNanos != 0L) {
+			return ClockUtils.toLocalDateTime(startNanos, anchorNanos, anchorEpochNanos);
+		}
+		
 		return startTime;
 	}
 
@@ -61,6 +97,10 @@ public class ExternalStepLogModel {
 	 * @return {@code LocalDateTime} - data de término da chamada
 	 */
 	public LocalDateTime getEndTime() {
+		if(endTime == null && timed && anchorEpochNanos != 0L) {
+			return ClockUtils.toLocalDateTime(endNanos, anchorNanos, anchorEpochNanos);
+		}
+		
 		return endTime;
 	}
 
@@ -74,21 +114,80 @@ public class ExternalStepLogModel {
 	}
 
 	/**
-	 * Retorna a duração da chamada do step em milisegundos.
+	 * Retorna a duração da chamada do step em milisegundos fracionários.
 	 * 
-	 * @return {@code Long} - duração da chamada
+	 * @return {@code Double} - duração da chamada ou <b>null</b> caso não
+	 *         informada
 	 */
-	public Long getDuration() {
-		return duration;
+	@JsonProperty("duration (ms)")
+	public Double getDuration() {
+		return durationNanos < 0 ? null : ClockUtils.toMillis(durationNanos);
 	}
 
 	/**
-	 * Adiciona a duração da chamada do step.
+	 * Adiciona a duração da chamada do step em milisegundos.
 	 * 
 	 * @param duration ({@link Long}) - duração da chamada
 	 */
 	public void setDuration(Long duration) {
-		this.duration = duration;
+		this.durationNanos = duration == null ? -1L : duration * 1_000_000L;
+	}
+	
+	/**
+	 * Retorna a duração da chamada do step em nanossegundos.
+	 * 
+	 * @return {@code long} - duração da chamada ou <b>-1</b> caso não informada
+	 */
+	@JsonIgnore
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+	
+	/**
+	 * Adiciona o início e o término da chamada do step, obtidos por
+	 * {@link System#nanoTime()}.
+	 * 
+	 * @param startNanos ({@code long}) - início da chamada
+	 * @param endNanos   ({@code long}) - término da chamada
+	 */
+	public void setTiming(long startNanos, long endNanos) {
+		this.startNanos = startNanos;
+		this.endNanos = endNanos;
+		this.durationNanos = endNanos - startNanos;
+		this.timed = true;
+	}
+	
+	/**
+	 * Retorna o início da chamada em nanossegundos desde a epoch, utilizado na
+	 * ordenação dos steps.
+	 * 
+	 * @return {@code long} - início da chamada ou {@link Long#MAX_VALUE} caso
+	 *         desconhecido
+	 */
+	@JsonIgnore
+	public long getStartEpochNanos() {
+		if(startTime != null) {
+			ZonedDateTime zonedStartTime = startTime.atZone(ZoneId.systemDefault());
+			return zonedStartTime.toEpochSecond() * 1_000_000_000L + zonedStartTime.getNano();
+		}
+		
+		if(timed && anchorEpochNanos != 0L) {
+			return anchorEpochNanos + (startNanos - anchorNanos);
+		}
+		
+		return Long.MAX_VALUE;
+	}
+	
+	/**
+	 * Associa o relógio de parede do payload ao step, permitindo derivar as
+	 * datas de início e término.
+	 * 
+	 * @param anchorNanos      ({@code long}) - {@link System#nanoTime()} da âncora
+	 * @param anchorEpochNanos ({@code long}) - relógio de parede da âncora
+	 */
+	void anchor(long anchorNanos, long anchorEpochNanos) {
+		this.anchorNanos = anchorNanos;
+		this.anchorEpochNanos = anchorEpochNanos;
 	}
 
 	/**
@@ -126,4 +225,59 @@ public class ExternalStepLogModel {
 	public void setStepId(String stepId) {
 		this.stepId = stepId;
 	}
+
+	/**
+	 * Indica se a chamada do step falhou.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso a chamada tenha falhado
+	 */
+	public boolean isFailed() {
+		return failed;
+	}
+
+	/**
+	 * Indica se a chamada do step falhou.
+	 * 
+	 * @param failed ({@code boolean}) - <b>true</b> caso a chamada tenha falhado
+	 */
+	public void setFailed(boolean failed) {
+		this.failed = failed;
+	}
+
+	/**
+	 * Retorna o body JSON enviado na chamada do step.
+	 * 
+	 * @return {@code BodyCapture} - body enviado
+	 */
+	public BodyCapture getRequestBody() {
+		return requestBody;
+	}
+
+	/**
+	 * Adiciona o body JSON enviado na chamada do step.
+	 * 
+	 * @param requestBody ({@link BodyCapture}) - body enviado
+	 */
+	public void setRequestBody(BodyCapture requestBody) {
+		this.requestBody = requestBody;
+	}
+
+	/**
+	 * Retorna o body JSON recebido na chamada do step.
+	 * 
+	 * @return {@code BodyCapture} - body recebido
+	 */
+	public BodyCapture getResponseBody() {
+		return responseBody;
+	}
+
+	/**
+	 * Adiciona o body JSON recebido na chamada do step, preenchido à medida que
+	 * a aplicação consome o response.
+	 * 
+	 * @param responseBody ({@link BodyCapture}) - body recebido
+	 */
+	public void setResponseBody(BodyCapture responseBody) {
+		this.responseBody = responseBody;
+	}
 }
@@ -1,11 +1,13 @@
 package com.logging.model;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.logging.component.LoggingBodyPolicy;
 
 /**
  * Modelo base para requisições HTTP(S).
@@ -17,53 +19,105 @@ import com.fasterxml.jackson.annotation.JsonInclude.Include;
 @JsonInclude(Include.NON_EMPTY)
 public abstract class HttpLogModel {
 
-	private Map<String, String> headers = new HashMap<>();
+	private Map<String, Object> headers = new HashMap<>();
 		
-	private Map<String, Object> body = new HashMap<>();
+	private BodyLogModel body;
+	
+	private BodyCapture bodyCapture;
 		
 	/**
-	 * Retorna o body mapeado.
+	 * Retorna o body capturado.
 	 * 
-	 * @return {@code Map} - body mapeado
+	 * @return {@code BodyLogModel} - body capturado
 	 */
-	public Map<String, Object> getBody() {
+	public BodyLogModel getBody() {
 		return body;
 	}
 
 	/**
-	 * Adiciona o body descomposto em um {@link Map}.
+	 * Adiciona o body capturado, serializado apenas na emissão do payload.
 	 * 
-	 * @param body ({@link Map}) - body mapeado.
+	 * @param body ({@link BodyLogModel}) - body capturado.
 	 */
-	public void setBody(Map<String, Object> body) {
+	public void setBody(BodyLogModel body) {
 		this.body = body;
 	}
 
 	/**
-	 * Retorna os headers mapeados.
+	 * Retorna os headers mapeados. Headers de valor único são mapeados para a
+	 * {@link String} do valor e headers de múltiplos valores (ex.:
+	 * {@code Set-Cookie}) para a {@link List} dos valores, na ordem recebida.
 	 * 
 	 * @return {@code Map} - headers mapeados
 	 */
-	public Map<String, String> getHeaders() {
+	public Map<String, Object> getHeaders() {
 		return headers;
 	}
 
 	/**
-	 * Adiciona um header no modelo.
+	 * Adiciona um valor de header no modelo. Caso o header já exista, os valores
+	 * são mantidos em uma lista, sem concatenação, preservando valores que
+	 * contêm vírgulas. Valores nulos são ignorados.
 	 * 
 	 * @param key ({@link String}) - nome do header
 	 * @param value ({@link String}) - valor do header
 	 */
+	@SuppressWarnings("unchecked")
 	public void addHeader(String key, String value) {
-		String header = this.headers.get(key);
+		if(value == null) {
+			return;
+		}
+		
+		Object header = headers.get(key);
 		
-		if(Objects.isNull(headers)) {
-			header = value;
+		if(header == null) {
+			headers.put(key, value);
+		}
+		else if(header instanceof List) {
+			((List<String>) header).add(value);
 		}
 		else {
-			header = String.format("%s,%s", header, value);
+			List<String> values = new ArrayList<>(2);
+			values.add((String) header);
+			values.add(value);
+			headers.put(key, values);
+		}
+	}
+	
+	/**
+	 * Habilita a captura automática do body com a política indicada. A captura é
+	 * mantida entre reutilizações do modelo.
+	 * 
+	 * @param policy ({@link LoggingBodyPolicy}) - política de captura
+	 * @return {@code BodyCapture} - captura habilitada
+	 */
+	BodyCapture openBodyCapture(LoggingBodyPolicy policy) {
+		if(bodyCapture == null) {
+			bodyCapture = new BodyCapture();
 		}
 		
-		headers.put(key, value);
+		bodyCapture.open(policy);
+		return bodyCapture;
+	}
+	
+	/**
+	 * Retorna a captura automática do body.
+	 * 
+	 * @return {@code BodyCapture} - captura ou <b>null</b> caso nunca habilitada
+	 */
+	BodyCapture bodyCapture() {
+		return bodyCapture;
+	}
+	
+	/**
+	 * Limpa os dados mapeados para reutilização do modelo.
+	 */
+	void reset() {
+		headers.clear();
+		body = null;
+		
+		if(bodyCapture != null) {
+			bodyCapture.reset();
+		}
 	}
 }
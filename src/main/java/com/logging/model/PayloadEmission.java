@@ -0,0 +1,63 @@
+package com.logging.model;
+
+/**
+ * Registro imutável da emissão de um {@link PayloadLogModel}, repassado como
+ * argumento adicional do evento de log. Preserva o id do contexto e a geração
+ * do payload no momento da emissão, permitindo que encoders e appenders que
+ * processam o evento posteriormente (ex.: {@code AsyncAppender} ou emissão
+ * assíncrona) detectem payloads reutilizados pelo pool de contextos.
+ *
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class PayloadEmission {
+
+	private final String contextId;
+
+	private final int generation;
+
+	/**
+	 * Construtor da classe com os dados do payload no momento da emissão.
+	 *
+	 * @param payloadLogModel ({@link PayloadLogModel}) - payload emitido
+	 */
+	public PayloadEmission(PayloadLogModel payloadLogModel) {
+		this.contextId = payloadLogModel.getContextId();
+		this.generation = payloadLogModel.getGeneration();
+	}
+
+	/**
+	 * Retorna o id do contexto no momento da emissão.
+	 *
+	 * @return {@code String} - id do contexto
+	 */
+	public String getContextId() {
+		return contextId;
+	}
+
+	/**
+	 * Retorna a geração do payload no momento da emissão.
+	 *
+	 * @return {@code int} - geração do payload
+	 */
+	public int getGeneration() {
+		return generation;
+	}
+
+	/**
+	 * Indica se o payload ainda corresponde à emissão, ou seja, se não foi
+	 * liberado ou reutilizado pelo pool de contextos desde então.
+	 *
+	 * @param payloadLogModel ({@link PayloadLogModel}) - payload do evento
+	 * @return {@code boolean} - <b>true</b> caso o payload seja o emitido
+	 */
+	public boolean matches(PayloadLogModel payloadLogModel) {
+		return !payloadLogModel.isReleased() && payloadLogModel.getGeneration() == generation;
+	}
+
+	@Override
+	public String toString() {
+		return contextId;
+	}
+}
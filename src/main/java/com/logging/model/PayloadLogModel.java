@@ -1,52 +1,82 @@
 package com.logging.model;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
-import com.logging.component.LoggingObjectMapper;
+import com.logging.component.LoggingBodyPolicy;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.concurrent.ConcurrentAppendList;
+import com.logging.context.LoggingContextLimits;
 import com.logging.enumerator.MaskingStrategy;
+import com.logging.metrics.LoggingMetrics;
+import com.logging.utils.ClockUtils;
 import com.logging.utils.MaskingUtils;
 
 /**
+ * Modelo para mapeamento do payload de log de uma requisição.
+ * <p>
+ * Os steps podem ser adicionados concorrentemente por múltiplas threads. Eles
+ * são acumulados em {@link ConcurrentAppendList}s e consolidados em
+ * {@link #finish()}, com as chamadas externas ordenadas pela data de início.
+ * <p>
+ * Os tempos são medidos com {@link System#nanoTime()}; o relógio de parede é
+ * lido uma única vez na criação do payload e as datas são derivadas apenas na
+ * serialização.
+ * 
  * @author Mauricio Souza Couto
  * @since 2021-06-12
  *
  */
 @JsonNaming(SnakeCaseStrategy.class)
 @JsonPropertyOrder({
+	"contextId",
 	"startTime",
 	"endTime",
 	"duration",
+	"phases",
 	"threadName",
 	"request",
 	"response",
 	"internalSteps",
-	"externalSteps"
+	"externalSteps",
+	"truncated"
 })
 @JsonIgnoreProperties(ignoreUnknown = true)
 @JsonInclude(Include.NON_EMPTY)
 public class PayloadLogModel {
 	
-	@JsonSerialize(using = LocalDateTimeSerializer.class)
-	private LocalDateTime startTime;
-
-	@JsonSerialize(using = LocalDateTimeSerializer.class)
-	private LocalDateTime endTime;
+	@JsonIgnore
+	private long startEpochNanos;
 	
-	@JsonProperty("duration (ms)")
-	private long duration;
+	@JsonIgnore
+	private long startNanos;
+	
+	@JsonIgnore
+	private volatile long chainStartNanos;
+	
+	@JsonIgnore
+	private volatile long chainEndNanos;
+	
+	@JsonIgnore
+	private volatile long endNanos;
+	
+	private String contextId;
+	
+	@JsonProperty("phases")
+	private final PhaseLogModel phases;
 
 	private String threadName;
 	
@@ -57,30 +87,171 @@ public class PayloadLogModel {
 	private ResponseLogModel response;
 	
 	@JsonProperty("externalSteps")
-	private List<ExternalStepLogModel> externalStepLogModelList;
+	private volatile List<ExternalStepLogModel> externalStepLogModelList;
 	
 	@JsonProperty("internalSteps")
-	private List<InternalStepLogModel> internalStepLogModelList;
+	private volatile List<InternalStepLogModel> internalStepLogModelList;
+	
+	@JsonIgnore
+	private final ConcurrentAppendList<ExternalStepLogModel> externalSteps;
+	
+	@JsonIgnore
+	private final ConcurrentAppendList<InternalStepLogModel> internalSteps;
+	
+	@JsonProperty("truncated")
+	private TruncationLogModel truncation;
+	
+	private final LoggingContextLimits limits;
+	
+	@JsonIgnore
+	private volatile int generation;
+	
+	@JsonIgnore
+	private volatile boolean released;
 		
 	/**
-	 * Construtor responsável pela inicialização dos componentes do modelo.
-	 * @param objectMapper 
+	 * Construtor responsável pela inicialização dos componentes do modelo, sem
+	 * limites de memória.
 	 */
 	public PayloadLogModel() {
-		startTime = LocalDateTime.now();
+		this(LoggingContextLimits.UNLIMITED);
+	}
+	
+	/**
+	 * Construtor responsável pela inicialização dos componentes do modelo.
+	 * 
+	 * @param limits ({@link LoggingContextLimits}) - limites de memória do payload
+	 */
+	public PayloadLogModel(LoggingContextLimits limits) {
+		this(null, limits);
+	}
+	
+	/**
+	 * Construtor responsável pela inicialização dos componentes do modelo com o
+	 * id do contexto, escrito no payload para a localização da requisição.
+	 * 
+	 * @param contextId ({@link String}) - id do contexto
+	 * @param limits    ({@link LoggingContextLimits}) - limites de memória do payload
+	 */
+	public PayloadLogModel(String contextId, LoggingContextLimits limits) {
+		this.contextId = contextId;
+		this.limits = limits;
+		truncation = new TruncationLogModel();
+		startEpochNanos = ClockUtils.epochNanos();
+		startNanos = System.nanoTime();
+		phases = new PhaseLogModel();
 		threadName = Thread.currentThread().getName();
-		internalStepLogModelList = new ArrayList<>();
+		internalSteps = new ConcurrentAppendList<>(limits.getMaxInternalSteps());
 		request = new RequestLogModel();
 		response = new ResponseLogModel();
-		externalStepLogModelList = new ArrayList<>();
+		externalSteps = new ConcurrentAppendList<>(limits.getMaxExternalSteps());
+	}
+	
+	/**
+	 * Limpa os dados do payload para reutilização, mantendo as estruturas
+	 * alocadas. Deve ser chamado apenas quando nenhuma outra thread referencia o
+	 * payload; a geração é incrementada para que escritores com referências
+	 * antigas detectem a reutilização.
+	 */
+	public void reset() {
+		released = true;
+		generation++;
+		
+		contextId = null;
+		chainStartNanos = 0L;
+		chainEndNanos = 0L;
+		endNanos = 0L;
+		phases.reset();
+		threadName = null;
+		request.reset();
+		response.reset();
+		externalStepLogModelList = null;
+		internalStepLogModelList = null;
+		externalSteps.clear();
+		internalSteps.clear();
+		truncation.reset();
+	}
+	
+	/**
+	 * Reinicia um payload previamente limpo por {@link #reset()} para uma nova
+	 * requisição.
+	 * 
+	 * @param contextId ({@link String}) - id do novo contexto
+	 */
+	public void restart(String contextId) {
+		this.contextId = contextId;
+		startEpochNanos = ClockUtils.epochNanos();
+		startNanos = System.nanoTime();
+		threadName = Thread.currentThread().getName();
+		released = false;
 	}
 	
 	/**
-	 * Método responsável por finalizar a adição de dados base do modelo.
+	 * Retorna a geração do payload, incrementada a cada reutilização.
+	 * 
+	 * @return {@code int} - geração do payload
+	 */
+	@JsonIgnore
+	public int getGeneration() {
+		return generation;
+	}
+	
+	/**
+	 * Indica se o payload foi liberado para reutilização.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso o payload esteja liberado
+	 */
+	@JsonIgnore
+	public boolean isReleased() {
+		return released;
+	}
+	
+	/**
+	 * Método responsável por finalizar a adição de dados base do modelo,
+	 * consolidando os steps acumulados.
 	 */
 	public void finish() {
-		endTime = LocalDateTime.now();
-		duration = Duration.between(startTime, endTime).toMillis();
+		long now = System.nanoTime();
+		endNanos = now;
+		
+		if(chainEndNanos != 0L) {
+			phases.setResponseCapture(now - chainEndNanos);
+		}
+		
+		internalStepLogModelList = internalSteps.toList();
+		externalStepLogModelList = mergeExternalSteps();
+	}
+	
+	/**
+	 * Registra o início da cadeia de filtros, encerrando a fase de captura prévia.
+	 */
+	public void markChainStart() {
+		long now = System.nanoTime();
+		chainStartNanos = now;
+		phases.setPreChainCapture(now - startNanos);
+	}
+	
+	/**
+	 * Registra o término do handler. Apenas a primeira chamada é considerada.
+	 */
+	public void markChainEnd() {
+		if(chainEndNanos != 0L || chainStartNanos == 0L) {
+			return;
+		}
+		
+		long now = System.nanoTime();
+		chainEndNanos = now;
+		phases.setHandler(now - chainStartNanos);
+	}
+	
+	/**
+	 * Registra a entrega do payload para escrita, encerrando a fase de espera
+	 * pela emissão.
+	 */
+	public void markEmission() {
+		if(endNanos != 0L) {
+			phases.setEmission(System.nanoTime() - endNanos);
+		}
 	}
 	
 	/**
@@ -88,26 +259,73 @@ public class PayloadLogModel {
 	 * 
 	 * @return {@code LocalDateTime} - data de início da chamada
 	 */
+	@JsonSerialize(using = LocalDateTimeSerializer.class)
 	public LocalDateTime getStartTime() {
-		return startTime;
+		return ClockUtils.toLocalDateTime(startNanos, startNanos, startEpochNanos);
 	}
 
 	/**
 	 * Retorna a data de término da chamada.
 	 * 
-	 * @return {@code LocalDateTime} - data de término da chamada
+	 * @return {@code LocalDateTime} - data de término da chamada ou <b>null</b>
+	 *         caso o payload não tenha sido finalizado
 	 */
+	@JsonSerialize(using = LocalDateTimeSerializer.class)
 	public LocalDateTime getEndTime() {
-		return endTime;
+		long end = endNanos;
+		return end == 0L ? null : ClockUtils.toLocalDateTime(end, startNanos, startEpochNanos);
+	}
+
+	/**
+	 * Retorna a duração da chamada em milisegundos fracionários.
+	 * 
+	 * @return {@code Double} - duração da chamada ou <b>null</b> caso o payload
+	 *         não tenha sido finalizado
+	 */
+	@JsonProperty("duration (ms)")
+	public Double getDuration() {
+		long end = endNanos;
+		return end == 0L ? null : ClockUtils.toMillis(end - startNanos);
+	}
+	
+	/**
+	 * Retorna a duração da chamada em nanossegundos.
+	 * 
+	 * @return {@code long} - duração da chamada ou <b>-1</b> caso o payload não
+	 *         tenha sido finalizado
+	 */
+	@JsonIgnore
+	public long getDurationNanos() {
+		long end = endNanos;
+		return end == 0L ? -1L : end - startNanos;
+	}
+	
+	/**
+	 * Retorna o início da chamada obtido por {@link System#nanoTime()}.
+	 * 
+	 * @return {@code long} - início da chamada em nanossegundos
+	 */
+	@JsonIgnore
+	public long getStartNanos() {
+		return startNanos;
+	}
+	
+	/**
+	 * Retorna a duração das fases da chamada.
+	 * 
+	 * @return {@code PhaseLogModel} - fases da chamada
+	 */
+	public PhaseLogModel getPhases() {
+		return phases;
 	}
 
 	/**
-	 * Retorna a duração da chamada em milisegundos.
+	 * Retorna o id do contexto da chamada.
 	 * 
-	 * @return {@code Long} - duração da chamada
+	 * @return {@code String} - id do contexto ou <b>null</b> caso não informado
 	 */
-	public Long getDuration() {
-		return duration;
+	public String getContextId() {
+		return contextId;
 	}
 
 	/**
@@ -143,7 +361,14 @@ public class PayloadLogModel {
 	 * @return {@code List} - lista de logs internos da chamada
 	 */
 	public List<InternalStepLogModel> getInternalSteps() {
-		return internalStepLogModelList;
+		List<InternalStepLogModel> merged = internalStepLogModelList;
+		
+		if(merged == null || merged.size() != internalSteps.size()) {
+			merged = internalSteps.toList();
+			internalStepLogModelList = merged;
+		}
+		
+		return merged;
 	}
 	
 	/**
@@ -152,7 +377,24 @@ public class PayloadLogModel {
 	 * @return {@code List} - lista de logs das chamadas externas.
 	 */
 	public List<ExternalStepLogModel> getExternalSteps() {
-		return externalStepLogModelList;
+		List<ExternalStepLogModel> merged = externalStepLogModelList;
+		
+		if(merged == null || merged.size() != externalSteps.size()) {
+			merged = mergeExternalSteps();
+			externalStepLogModelList = merged;
+		}
+		
+		return merged;
+	}
+	
+	/**
+	 * Retorna os itens descartados por excederem os limites do contexto.
+	 * 
+	 * @return {@code TruncationLogModel} - itens descartados ou <b>null</b> caso
+	 *         nenhum item tenha sido descartado.
+	 */
+	public TruncationLogModel getTruncated() {
+		return truncation.isEmpty() ? null : truncation;
 	}
 
 	/**
@@ -161,7 +403,10 @@ public class PayloadLogModel {
 	 * @param internalStepLogModel ({@link InternalStepLogModel}) - dados do log interno. 
 	 */
 	public void addInternalStepLog(InternalStepLogModel internalStepLogModel) {
-		this.internalStepLogModelList.add(internalStepLogModel);
+		if(!internalSteps.add(internalStepLogModel)) {
+			truncation.addInternalStep();
+			LoggingMetrics.truncatedInternalStep();
+		}
 	}
 	
 	/**
@@ -171,7 +416,9 @@ public class PayloadLogModel {
 	 * @param value ({@link String}) - valor do header
 	 */
 	public void addRequestHeader(String key, String value) {
-		request.addHeader(key, value);	
+		if(acceptHeader(request, key)) {
+			request.addHeader(key, value);
+		}
 	}
 
 	/**
@@ -211,7 +458,7 @@ public class PayloadLogModel {
 	 */
 	@SuppressWarnings("unchecked")
 	public void addRequestParameters(Object parameters) {
-		Map<String, Object> parametersMap = new LoggingObjectMapper().convertValue(parameters, Map.class);
+		Map<String, Object> parametersMap = LoggingObjectWriters.convertValue(parameters, Map.class);
 		request.setParameters(parametersMap);
 	}
 	
@@ -220,10 +467,8 @@ public class PayloadLogModel {
 	 * 
 	 * @param body ({@link Object}) - objeto contendo o body do request.
 	 */
-	@SuppressWarnings("unchecked")
 	public void addRequestBody(Object body) {
-		Map<String, Object> bodyMap = new LoggingObjectMapper().convertValue(body, Map.class);		
-		request.setBody(bodyMap);
+		request.setBody(new BodyLogModel(body, limits.getMaxBodyBytes(), truncation));
 	}
 
 	/**
@@ -231,10 +476,67 @@ public class PayloadLogModel {
 	 * 
 	 * @param body ({@link Object}) - objeto contendo o body do response.
 	 */
-	@SuppressWarnings("unchecked")
 	public void addResponseBody(Object body) {
-		Map<String, Object> bodyMap = new LoggingObjectMapper().convertValue(body, Map.class);		
-		response.setBody(bodyMap);
+		response.setBody(new BodyLogModel(body, limits.getMaxBodyBytes(), truncation));
+	}
+	
+	/**
+	 * Adiciona o body de request capturado em JSON, embutido sem conversão.
+	 * 
+	 * @param capture ({@link BodyCapture}) - body de request capturado
+	 */
+	public void addRequestBody(BodyCapture capture) {
+		setCapturedBody(request, capture);
+	}
+	
+	/**
+	 * Adiciona o body de response capturado em JSON, embutido sem conversão.
+	 * 
+	 * @param capture ({@link BodyCapture}) - body de response capturado
+	 */
+	public void addResponseBody(BodyCapture capture) {
+		setCapturedBody(response, capture);
+	}
+	
+	/**
+	 * Habilita a captura automática do body de request.
+	 * 
+	 * @param policy ({@link LoggingBodyPolicy}) - política de captura
+	 * @return {@code BodyCapture} - captura alimentada pela stream de request
+	 */
+	public BodyCapture openRequestBodyCapture(LoggingBodyPolicy policy) {
+		return request.openBodyCapture(policy);
+	}
+	
+	/**
+	 * Habilita a captura automática do body de response.
+	 * 
+	 * @param policy ({@link LoggingBodyPolicy}) - política de captura
+	 * @return {@code BodyCapture} - captura alimentada pela stream de response
+	 */
+	public BodyCapture openResponseBodyCapture(LoggingBodyPolicy policy) {
+		return response.openBodyCapture(policy);
+	}
+	
+	/**
+	 * Retorna a captura automática do body de response, utilizada nos dispatches
+	 * assíncronos da requisição.
+	 * 
+	 * @return {@code BodyCapture} - captura ou <b>null</b> caso não habilitada
+	 */
+	@JsonIgnore
+	public BodyCapture getResponseBodyCapture() {
+		return response.bodyCapture();
+	}
+	
+	/**
+	 * Adiciona os bodies capturados automaticamente aos modelos de request e
+	 * response que não possuem body informado pela aplicação. Bodies que
+	 * excederam o limite de captura são registrados como truncados.
+	 */
+	public void addCapturedBodies() {
+		addCapturedBody(request);
+		addCapturedBody(response);
 	}
 	
 	/**
@@ -244,7 +546,9 @@ public class PayloadLogModel {
 	 * @param value ({@link String}) - valor do header
 	 */
 	public void addResponseHeader(String key, String value) {
-		response.addHeader(key, value);	
+		if(acceptHeader(response, key)) {
+			response.addHeader(key, value);
+		}
 	}
 
 	/**
@@ -275,6 +579,92 @@ public class PayloadLogModel {
 	 *                             externa.
 	 */
 	public void addExternalStepLog(ExternalStepLogModel externalStepLogModel) {
-		this.externalStepLogModelList.add(externalStepLogModel);
+		externalStepLogModel.anchor(startNanos, startEpochNanos);
+		
+		if(!externalSteps.add(externalStepLogModel)) {
+			truncation.addExternalStep();
+			LoggingMetrics.truncatedExternalStep();
+		}
 	}	
+
+	/**
+	 * Consolida as chamadas externas acumuladas, ordenadas pela data de início.
+	 * 
+	 * @return {@code List} - chamadas externas ordenadas
+	 */
+	private List<ExternalStepLogModel> mergeExternalSteps() {
+		List<ExternalStepLogModel> merged = externalSteps.toList();
+		merged.sort(Comparator.comparingLong(ExternalStepLogModel::getStartEpochNanos));
+		
+		return merged;
+	}
+	
+	/**
+	 * Verifica se o header pode ser adicionado sem exceder o limite do contexto,
+	 * registrando o descarte caso contrário.
+	 * 
+	 * @param httpLogModel ({@link HttpLogModel}) - request ou response
+	 * @param key          ({@link String}) - nome do header
+	 * @return {@code boolean} - <b>true</b> caso o header possa ser adicionado
+	 */
+	private boolean acceptHeader(HttpLogModel httpLogModel, String key) {
+		Map<String, Object> headers = httpLogModel.getHeaders();
+		
+		if(LoggingContextLimits.reached(headers.size(), limits.getMaxHeaders()) && !headers.containsKey(key)) {
+			truncation.addHeader();
+			LoggingMetrics.truncatedHeader();
+			return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Adiciona o body capturado ao modelo indicado.
+	 * 
+	 * @param httpLogModel ({@link HttpLogModel}) - modelo de request ou response
+	 */
+	private void addCapturedBody(HttpLogModel httpLogModel) {
+		BodyCapture capture = httpLogModel.bodyCapture();
+		
+		if(capture == null || capture.isEmpty() || httpLogModel.getBody() != null) {
+			return;
+		}
+		
+		setCapturedBody(httpLogModel, capture);
+	}
+	
+	/**
+	 * Define o body capturado no modelo indicado, registrando o descarte caso a
+	 * captura tenha excedido o limite.
+	 * 
+	 * @param httpLogModel ({@link HttpLogModel}) - modelo de request ou response
+	 * @param capture      ({@link BodyCapture}) - body capturado
+	 */
+	private void setCapturedBody(HttpLogModel httpLogModel, BodyCapture capture) {
+		if(capture.isEmpty()) {
+			return;
+		}
+		
+		if(capture.isTruncated()) {
+			truncation.addBodyBytes(capture.getTotalBytes());
+			LoggingMetrics.truncatedBody(capture.getTotalBytes());
+		}
+		
+		httpLogModel.setBody(new BodyLogModel(capture, 0, truncation));
+	}
+	
+	/**
+	 * Retorna o payload serializado em JSON compacto. Utilizado apenas quando o
+	 * payload é escrito por appenders que não utilizam o encoder de payload.
+	 */
+	@Override
+	public String toString() {
+		try {
+			return LoggingObjectWriters.compactWriter().writeValueAsString(this);
+		}
+		catch (JsonProcessingException e) {
+			return super.toString();
+		}
+	}
 }
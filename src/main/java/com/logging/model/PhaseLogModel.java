@@ -0,0 +1,145 @@
+package com.logging.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.logging.utils.ClockUtils;
+
+/**
+ * Modelo para mapeamento da duração das fases de uma requisição:
+ * 
+ * <ul>
+ * <li>captura prévia à cadeia de filtros (request e headers);</li>
+ * <li>execução do handler;</li>
+ * <li>captura do response;</li>
+ * <li>espera até a emissão do payload, incluindo a fila do emissor
+ * assíncrono.</li>
+ * </ul>
+ * 
+ * O tempo de serialização não integra o payload, pois ocorre durante sua
+ * escrita, sendo registrado em {@link com.logging.metrics.LoggingMetrics}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@JsonInclude(Include.NON_NULL)
+@JsonPropertyOrder({
+	"pre_chain_capture (ms)",
+	"handler (ms)",
+	"response_capture (ms)",
+	"emission (ms)"
+})
+public class PhaseLogModel {
+	
+	private volatile long preChainCapture = -1L;
+	
+	private volatile long handler = -1L;
+	
+	private volatile long responseCapture = -1L;
+	
+	private volatile long emission = -1L;
+
+	/**
+	 * Retorna a duração da captura prévia à cadeia de filtros.
+	 * 
+	 * @return {@code Double} - duração em milissegundos ou <b>null</b> caso não
+	 *         medida
+	 */
+	@JsonProperty("pre_chain_capture (ms)")
+	public Double getPreChainCapture() {
+		return toMillis(preChainCapture);
+	}
+
+	/**
+	 * Retorna a duração da execução do handler.
+	 * 
+	 * @return {@code Double} - duração em milissegundos ou <b>null</b> caso não
+	 *         medida
+	 */
+	@JsonProperty("handler (ms)")
+	public Double getHandler() {
+		return toMillis(handler);
+	}
+
+	/**
+	 * Retorna a duração da captura do response.
+	 * 
+	 * @return {@code Double} - duração em milissegundos ou <b>null</b> caso não
+	 *         medida
+	 */
+	@JsonProperty("response_capture (ms)")
+	public Double getResponseCapture() {
+		return toMillis(responseCapture);
+	}
+
+	/**
+	 * Retorna a espera entre a finalização do payload e sua emissão.
+	 * 
+	 * @return {@code Double} - duração em milissegundos ou <b>null</b> caso não
+	 *         medida
+	 */
+	@JsonProperty("emission (ms)")
+	public Double getEmission() {
+		return toMillis(emission);
+	}
+	
+	/**
+	 * Define a duração da captura prévia à cadeia de filtros.
+	 * 
+	 * @param nanos ({@code long}) - duração em nanossegundos
+	 */
+	void setPreChainCapture(long nanos) {
+		preChainCapture = nanos;
+	}
+	
+	/**
+	 * Define a duração do processamento pelo handler.
+	 * 
+	 * @param nanos ({@code long}) - duração em nanossegundos
+	 */
+	void setHandler(long nanos) {
+		handler = nanos;
+	}
+	
+	/**
+	 * Define a duração da captura do response.
+	 * 
+	 * @param nanos ({@code long}) - duração em nanossegundos
+	 */
+	void setResponseCapture(long nanos) {
+		responseCapture = nanos;
+	}
+	
+	/**
+	 * Define a espera entre a finalização do payload e sua emissão.
+	 * 
+	 * @param nanos ({@code long}) - duração em nanossegundos
+	 */
+	void setEmission(long nanos) {
+		emission = nanos;
+	}
+	
+	/**
+	 * Limpa as durações para reutilização do payload.
+	 */
+	void reset() {
+		preChainCapture = -1L;
+		handler = -1L;
+		responseCapture = -1L;
+		emission = -1L;
+	}
+	
+	/**
+	 * Converte a duração para milissegundos.
+	 * 
+	 * @param nanos ({@code long}) - duração em nanossegundos, negativa caso não
+	 *              medida
+	 * @return {@code Double} - duração em milissegundos ou <b>null</b> caso não
+	 *         medida
+	 */
+	private static Double toMillis(long nanos) {
+		return nanos < 0 ? null : ClockUtils.toMillis(nanos);
+	}
+}
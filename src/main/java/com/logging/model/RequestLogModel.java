@@ -72,4 +72,20 @@ public class RequestLogModel extends HttpLogModel {
 	public void setMethod(String method) {
 		this.method = method;
 	}
+	
+	/**
+	 * Limpa os dados mapeados para reutilização do modelo. Os parâmetros são
+	 * substituídos, e não limpos, pois o mapa pode ter sido informado
+	 * externamente.
+	 */
+	@Override
+	void reset() {
+		super.reset();
+		uri = null;
+		method = null;
+		
+		if(!parameters.isEmpty()) {
+			parameters = new HashMap<>();
+		}
+	}
 }
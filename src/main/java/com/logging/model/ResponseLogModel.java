@@ -35,4 +35,13 @@ public class ResponseLogModel extends HttpLogModel {
 	public void setStatusCode(Integer statusCode) {
 		this.statusCode = statusCode;
 	}
+	
+	/**
+	 * Limpa os dados mapeados para reutilização do modelo.
+	 */
+	@Override
+	void reset() {
+		super.reset();
+		statusCode = null;
+	}
 }
@@ -0,0 +1,137 @@
+package com.logging.model;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * Modelo para mapeamento dos itens descartados do payload por excederem os
+ * limites do contexto de log. Os contadores podem ser atualizados
+ * concorrentemente.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@JsonNaming(SnakeCaseStrategy.class)
+@JsonInclude(Include.NON_DEFAULT)
+public class TruncationLogModel {
+	
+	private static final String BODY_MARKER_FIELD = "truncated";
+	
+	private final AtomicInteger internalSteps = new AtomicInteger();
+	
+	private final AtomicInteger externalSteps = new AtomicInteger();
+	
+	private final AtomicInteger headers = new AtomicInteger();
+	
+	private final AtomicLong bodyBytes = new AtomicLong();
+
+	/**
+	 * Retorna a quantidade de logs internos descartados.
+	 * 
+	 * @return {@code int} - logs internos descartados
+	 */
+	public int getInternalSteps() {
+		return internalSteps.get();
+	}
+
+	/**
+	 * Retorna a quantidade de chamadas externas descartadas.
+	 * 
+	 * @return {@code int} - chamadas externas descartadas
+	 */
+	public int getExternalSteps() {
+		return externalSteps.get();
+	}
+
+	/**
+	 * Retorna a quantidade de headers descartados.
+	 * 
+	 * @return {@code int} - headers descartados
+	 */
+	public int getHeaders() {
+		return headers.get();
+	}
+
+	/**
+	 * Retorna o total de bytes de bodies descartados.
+	 * 
+	 * @return {@code long} - bytes descartados
+	 */
+	public long getBodyBytes() {
+		return bodyBytes.get();
+	}
+	
+	/**
+	 * Indica se algum item foi descartado.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso algum item tenha sido descartado
+	 */
+	@JsonIgnore
+	public boolean isEmpty() {
+		return internalSteps.get() == 0 && externalSteps.get() == 0 && headers.get() == 0 && bodyBytes.get() == 0;
+	}
+	
+	/**
+	 * Contabiliza um internal step descartado.
+	 */
+	void addInternalStep() {
+		internalSteps.incrementAndGet();
+	}
+	
+	/**
+	 * Contabiliza um external step descartado.
+	 */
+	void addExternalStep() {
+		externalSteps.incrementAndGet();
+	}
+	
+	/**
+	 * Contabiliza um header descartado.
+	 */
+	void addHeader() {
+		headers.incrementAndGet();
+	}
+	
+	/**
+	 * Contabiliza bytes de body descartados.
+	 * 
+	 * @param bytes ({@code long}) - quantidade de bytes descartados
+	 */
+	void addBodyBytes(long bytes) {
+		bodyBytes.addAndGet(bytes);
+	}
+	
+	/**
+	 * Zera os contadores para reutilização do payload.
+	 */
+	void reset() {
+		internalSteps.set(0);
+		externalSteps.set(0);
+		headers.set(0);
+		bodyBytes.set(0);
+	}
+	
+	/**
+	 * Escreve o marcador de um body descartado por exceder o limite de bytes, no
+	 * formato {@code {"truncated":"> N bytes"}}, em que N é o limite aplicado. O
+	 * tamanho do body descartado é contabilizado em {@link #getBodyBytes()}.
+	 * 
+	 * @param gen        ({@link JsonGenerator}) - gerador do payload
+	 * @param limitBytes ({@code long}) - limite de bytes aplicado ao body
+	 * @throws IOException lançada em caso de falha na escrita.
+	 */
+	static void writeBodyMarker(JsonGenerator gen, long limitBytes) throws IOException {
+		gen.writeStartObject();
+		gen.writeStringField(BODY_MARKER_FIELD, "> " + limitBytes + " bytes");
+		gen.writeEndObject();
+	}
+}
@@ -0,0 +1,81 @@
+package com.logging.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+
+import com.logging.metrics.LatencyHistogramRegistry;
+import com.logging.model.ExternalStepLogModel;
+import com.logging.model.PayloadLogModel;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Filtro de chamadas do {@code WebClient} para registro de logs de chamadas
+ * externas. O payload é obtido do {@link reactor.util.context.Context} da
+ * subscrição, preenchido pelo {@link LoggingWebFilter}. A latência é gravada
+ * no histograma do host de destino mesmo sem contexto amostrado.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@Component
+@ConditionalOnClass(name = "org.springframework.web.reactive.function.client.ExchangeFilterFunction")
+public class LoggingExchangeFilterFunction implements ExchangeFilterFunction {
+	
+	@Autowired
+	private LatencyHistogramRegistry latencyHistogramRegistry;
+
+	@Override
+	public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+		return Mono.deferContextual(contextView -> {
+			PayloadLogModel payloadLogModel = LoggingReactiveContext.recuperarPayload(contextView);
+			long startNanos = System.nanoTime();
+			
+			return next.exchange(request)
+					.doOnSuccess(clientResponse -> {
+						int statusCode = clientResponse.rawStatusCode();
+						latencyHistogramRegistry.recordStep(request.url().getHost(), System.nanoTime() - startNanos, statusCode >= 400);
+						
+						if(payloadLogModel != null) {
+							HttpStatus httpStatus = HttpStatus.resolve(statusCode);
+							String status = httpStatus != null ? httpStatus.toString() : String.valueOf(statusCode);
+							
+							payloadLogModel.addExternalStepLog(buildStep(request, startNanos, status, statusCode >= 400));
+						}
+					})
+					.doOnError(e -> {
+						latencyHistogramRegistry.recordStep(request.url().getHost(), System.nanoTime() - startNanos, true);
+						
+						if(payloadLogModel != null) {
+							payloadLogModel.addExternalStepLog(buildStep(request, startNanos, "Failed", true));
+						}
+					});
+		});
+	}
+	
+	/**
+	 * Monta o log da chamada externa.
+	 * 
+	 * @param request    ({@link ClientRequest}) - dados da chamada
+	 * @param startNanos ({@code long}) - início da chamada em nanossegundos
+	 * @param status     ({@link String}) - status da chamada
+	 * @param failed     ({@code boolean}) - indica se a chamada falhou
+	 * @return {@code ExternalStepLogModel} - log da chamada externa
+	 */
+	private static ExternalStepLogModel buildStep(ClientRequest request, long startNanos, String status, boolean failed) {
+		ExternalStepLogModel externalStepLogModel = new ExternalStepLogModel();
+		externalStepLogModel.setTiming(startNanos, System.nanoTime());
+		externalStepLogModel.setStepId(request.url().toString());
+		externalStepLogModel.setStatus(status);
+		externalStepLogModel.setFailed(failed);
+		
+		return externalStepLogModel;
+	}
+}
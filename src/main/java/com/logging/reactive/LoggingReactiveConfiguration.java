@@ -0,0 +1,28 @@
+package com.logging.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Configuração dos componentes reativos, carregada apenas quando o
+ * {@code spring-webflux} está presente no classpath. O {@code loggingWebClient}
+ * depende do conector do Reactor Netty.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@Configuration
+@ConditionalOnClass(name = "org.springframework.web.reactive.function.client.WebClient")
+public class LoggingReactiveConfiguration {
+
+	@Bean(name="loggingWebClient")
+	@ConditionalOnClass(name = "reactor.netty.http.client.HttpClient")
+	public WebClient getWebClient(LoggingExchangeFilterFunction loggingExchangeFilterFunction) {
+		return WebClient.builder()
+				.filter(loggingExchangeFilterFunction)
+				.build();
+	}
+}
@@ -0,0 +1,103 @@
+package com.logging.reactive;
+
+import org.slf4j.event.Level;
+
+import com.logging.context.LoggingContext;
+import com.logging.model.InternalStepLogModel;
+import com.logging.model.PayloadLogModel;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Mantém o {@link LoggingContext} no {@link Context} do Reactor, substituindo o
+ * vínculo por thread/MDC utilizado na stack servlet. Threads de event loop são
+ * compartilhadas entre requisições, portanto o contexto nunca é vinculado a
+ * elas.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class LoggingReactiveContext {
+	
+	/**
+	 * Chave do contexto de log no {@link Context} do Reactor.
+	 */
+	public static final Class<LoggingContext> CONTEXT_KEY = LoggingContext.class;
+
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private LoggingReactiveContext() {}
+	
+	/**
+	 * Vincula o contexto de log ao {@link Context} indicado.
+	 * 
+	 * @param context        ({@link Context}) - contexto do Reactor
+	 * @param loggingContext ({@link LoggingContext}) - contexto de log
+	 * @return {@code Context} - contexto do Reactor contendo o contexto de log
+	 */
+	public static Context vincularContexto(Context context, LoggingContext loggingContext) {
+		return context.put(CONTEXT_KEY, loggingContext);
+	}
+	
+	/**
+	 * Retorna o contexto de log presente no {@link ContextView} indicado.
+	 * 
+	 * @param contextView ({@link ContextView}) - contexto do Reactor
+	 * @return {@code LoggingContext} - contexto de log ou <b>null</b> caso não
+	 *         exista.
+	 */
+	public static LoggingContext recuperarContexto(ContextView contextView) {
+		return contextView.getOrDefault(CONTEXT_KEY, null);
+	}
+	
+	/**
+	 * Retorna o payload do contexto de log presente no {@link ContextView}
+	 * indicado.
+	 * 
+	 * @param contextView ({@link ContextView}) - contexto do Reactor
+	 * @return {@code PayloadLogModel} - payload do contexto ou <b>null</b> caso
+	 *         não exista contexto ou o contexto não tenha sido amostrado.
+	 */
+	public static PayloadLogModel recuperarPayload(ContextView contextView) {
+		LoggingContext loggingContext = recuperarContexto(contextView);
+		
+		if(loggingContext == null || !loggingContext.isSampled()) {
+			return null;
+		}
+		
+		return loggingContext.getPayloadLogModel();
+	}
+	
+	/**
+	 * Retorna o contexto de log da subscrição corrente.
+	 * 
+	 * @return {@code Mono} - contexto de log, vazio caso não exista.
+	 */
+	public static Mono<LoggingContext> contextoAtual() {
+		return Mono.deferContextual(contextView -> Mono.justOrEmpty(recuperarContexto(contextView)));
+	}
+	
+	/**
+	 * Adiciona um log interno ao payload da subscrição corrente.
+	 * 
+	 * @param message ({@link String}) - mensagem do log
+	 * @param level   ({@link Level}) - level do log
+	 * @param caller  ({@link Class}) - classe geradora do log
+	 * @return {@code Mono} - completado após a adição do log
+	 */
+	public static Mono<Void> addInternalStepLog(String message, Level level, Class<?> caller) {
+		return Mono.deferContextual(contextView -> {
+			PayloadLogModel payloadLogModel = recuperarPayload(contextView);
+			
+			if(payloadLogModel != null) {
+				payloadLogModel.addInternalStepLog(new InternalStepLogModel(message, level, caller));
+			}
+			
+			return Mono.empty();
+		});
+	}
+}
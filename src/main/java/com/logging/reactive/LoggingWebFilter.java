@@ -0,0 +1,187 @@
+package com.logging.reactive;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+
+import com.logging.component.LoggingComponent;
+import com.logging.component.LoggingSamplingComponent;
+import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextLimits;
+import com.logging.emitter.PayloadLogEmitter;
+import com.logging.metrics.LatencyHistogramRegistry;
+import com.logging.metrics.LoggingMetrics;
+import com.logging.model.InternalStepLogModel;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * WebFilter responsável pelo mapeamento de dados para log em aplicações
+ * WebFlux, produzindo o mesmo {@link com.logging.model.PayloadLogModel} do
+ * {@link com.logging.filter.LoggingFilter}.
+ * <p>
+ * O contexto é propagado pelo {@link reactor.util.context.Context} (ver
+ * {@link LoggingReactiveContext}) e não é registrado no
+ * {@link com.logging.context.LoggingContextMap}. Os dados de response são
+ * capturados imediatamente antes do commit do response, inclusive quando o
+ * erro é tratado por um {@code WebExceptionHandler}. A emissão nunca bloqueia
+ * o event loop: sem o modo assíncrono habilitado, o payload é escrito no
+ * scheduler {@code boundedElastic}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@Component
+@Order(value = Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnClass(name = "org.springframework.web.server.WebFilter")
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class LoggingWebFilter implements WebFilter {
+	
+	@Autowired
+	private LoggingComponent loggingComponent;
+	
+	@Autowired
+	private LoggingSamplingComponent loggingSamplingComponent;
+	
+	@Autowired
+	private PayloadLogEmitter payloadLogEmitter;
+	
+	@Autowired
+	private LatencyHistogramRegistry latencyHistogramRegistry;
+	
+	@Value("${app.logging.limites.internal-steps:0}")
+	private int maxInternalSteps;
+	
+	@Value("${app.logging.limites.external-steps:0}")
+	private int maxExternalSteps;
+	
+	@Value("${app.logging.limites.headers:0}")
+	private int maxHeaders;
+	
+	@Value("${app.logging.limites.body-bytes:0}")
+	private int maxBodyBytes;
+	
+	private LoggingContextLimits limits;
+	
+	/**
+	 * Monta os limites de memória aplicados a cada contexto de log.
+	 */
+	@PostConstruct
+	public void init() {
+		limits = new LoggingContextLimits(maxInternalSteps, maxExternalSteps, maxHeaders, maxBodyBytes);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ServerHttpRequest request = exchange.getRequest();
+		String uri = request.getPath().value();
+		
+		ServerHttpResponse response = exchange.getResponse();
+		
+		if(!loggingSamplingComponent.sampleHead(uri)) {
+			long startNanos = System.nanoTime();
+			
+			response.beforeCommit(() -> {
+				recordRoute(exchange, startNanos);
+				return Mono.empty();
+			});
+			return chain.filter(exchange);
+		}
+		
+		LoggingContext loggingContext = new LoggingContext(UUID.randomUUID().toString(), limits);
+		LoggingMetrics.contextCreated();
+		loggingComponent.addRequest(loggingContext.getPayloadLogModel(), request.getMethodValue(), uri, request.getHeaders());
+		loggingContext.getPayloadLogModel().markChainStart();
+		
+		AtomicBoolean completed = new AtomicBoolean();
+		
+		response.beforeCommit(() -> {
+			complete(loggingContext, exchange, completed);
+			return Mono.empty();
+		});
+		
+		return chain.filter(exchange)
+				.doOnError(e -> loggingContext.getPayloadLogModel().addInternalStepLog(
+						new InternalStepLogModel(e.toString(), Level.ERROR, LoggingWebFilter.class)))
+				.doFinally(signal -> {
+					if(signal == SignalType.CANCEL) {
+						loggingContext.getPayloadLogModel().addInternalStepLog(
+								new InternalStepLogModel("Requisição cancelada pelo cliente.", Level.WARN, LoggingWebFilter.class));
+						complete(loggingContext, exchange, completed);
+					}
+				})
+				.contextWrite(context -> LoggingReactiveContext.vincularContexto(context, loggingContext));
+	}
+	
+	/**
+	 * Finaliza o contexto com os dados de response e emite o payload caso
+	 * amostrado. Executado uma única vez por requisição.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto da requisição
+	 * @param exchange       ({@link ServerWebExchange}) - requisição e response
+	 * @param completed      ({@link AtomicBoolean}) - indica se o contexto já foi
+	 *                       finalizado
+	 */
+	private void complete(LoggingContext loggingContext, ServerWebExchange exchange, AtomicBoolean completed) {
+		if(!completed.compareAndSet(false, true)) {
+			return;
+		}
+		
+		ServerHttpResponse response = exchange.getResponse();
+		loggingContext.getPayloadLogModel().markChainEnd();
+		loggingComponent.addResponse(loggingContext.getPayloadLogModel(), response.getRawStatusCode(), response.getHeaders());
+		recordRoute(exchange, loggingContext.getPayloadLogModel().getStartNanos());
+		LoggingMetrics.contextReleased();
+		
+		if(loggingSamplingComponent.sampleTail(loggingContext.getPayloadLogModel())) {
+			emit(loggingContext);
+		}
+	}
+	
+	/**
+	 * Grava a latência da requisição no histograma da rota atendida. Requisições
+	 * sem rota mapeada são agrupadas em {@link LatencyHistogramRegistry#OTHER_KEY}.
+	 * 
+	 * @param exchange   ({@link ServerWebExchange}) - requisição e response
+	 * @param startNanos ({@code long}) - início da requisição em nanossegundos
+	 */
+	private void recordRoute(ServerWebExchange exchange, long startNanos) {
+		Object pattern = exchange.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String route = pattern instanceof PathPattern ? ((PathPattern) pattern).getPatternString() : LatencyHistogramRegistry.OTHER_KEY;
+		Integer status = exchange.getResponse().getRawStatusCode();
+		
+		latencyHistogramRegistry.recordRoute(route, System.nanoTime() - startNanos, status != null && status >= 500);
+	}
+	
+	/**
+	 * Emite o payload sem bloquear o event loop.
+	 * 
+	 * @param loggingContext ({@link LoggingContext}) - contexto finalizado
+	 */
+	private void emit(LoggingContext loggingContext) {
+		if(!payloadLogEmitter.tryEmit(loggingContext)) {
+			Schedulers.boundedElastic().schedule(() -> payloadLogEmitter.emit(loggingContext));
+		}
+	}
+}
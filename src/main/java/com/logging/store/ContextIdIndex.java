@@ -0,0 +1,213 @@
+package com.logging.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Índice em disco do id do contexto para a posição do registro no segmento,
+ * mapeado em memória.
+ * <p>
+ * Tabela hash de endereçamento aberto (sondagem linear) com capacidade fixa em
+ * potência de 2. Cada entrada ocupa {@value #SLOT_SIZE} bytes: os 128 bits do
+ * UUID e a posição do registro somada de 1, de forma que a posição zero
+ * identifica uma entrada livre. A posição é escrita por último, tornando a
+ * entrada visível apenas quando completa. Ids que não são UUIDs são convertidos
+ * por {@link UUID#nameUUIDFromBytes(byte[])}.
+ * <p>
+ * A inserção é sincronizada; a leitura não utiliza locks. O índice é
+ * considerado cheio ao atingir 75% de ocupação, sinalizando a troca de
+ * segmento; a margem restante absorve inserções concorrentes à troca.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class ContextIdIndex implements Closeable {
+	
+	/**
+	 * Tamanho de cada entrada do índice.
+	 */
+	public static final int SLOT_SIZE = 20;
+	
+	private final FileChannel channel;
+	
+	private final MappedByteBuffer buffer;
+	
+	private final int mask;
+	
+	private final int maxEntries;
+	
+	private int entries;
+	
+	/**
+	 * Construtor privado. Utilizar {@link #open(Path, int, boolean)}.
+	 */
+	private ContextIdIndex(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+		this.channel = channel;
+		this.buffer = buffer;
+		this.mask = capacity - 1;
+		this.maxEntries = capacity / 4 * 3;
+	}
+	
+	/**
+	 * Abre (ou cria) o índice indicado.
+	 * 
+	 * @param path     ({@link Path}) - arquivo do índice
+	 * @param capacity ({@code int}) - quantidade de entradas, arredondada para
+	 *                 potência de 2. Ignorada caso o arquivo já exista.
+	 * @param readOnly ({@code boolean}) - abre o índice apenas para leitura
+	 * @return {@code ContextIdIndex} - índice aberto
+	 * @throws IOException lançada em caso de falha ao abrir ou mapear o arquivo.
+	 */
+	public static ContextIdIndex open(Path path, int capacity, boolean readOnly) throws IOException {
+		FileChannel channel = readOnly
+				? FileChannel.open(path, StandardOpenOption.READ)
+				: FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			int slots = channel.size() > 0 ? (int) (channel.size() / SLOT_SIZE) : Integer.highestOneBit(Math.max(capacity, 16) - 1) << 1;
+			
+			if(Integer.bitCount(slots) != 1) {
+				throw new IOException("Índice com tamanho inválido: " + path);
+			}
+			
+			MappedByteBuffer buffer = channel.map(readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, 0, (long) slots * SLOT_SIZE);
+			ContextIdIndex index = new ContextIdIndex(channel, buffer, slots);
+			
+			if(!readOnly) {
+				index.entries = index.countEntries();
+			}
+			
+			return index;
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Insere a posição do registro do contexto indicado.
+	 * 
+	 * @param contextId ({@link String}) - id do contexto
+	 * @param offset    ({@code int}) - posição do registro no segmento
+	 * @return {@code boolean} - <b>false</b> caso o índice esteja cheio
+	 */
+	public synchronized boolean put(String contextId, int offset) {
+		if(entries >= mask) {
+			return false;
+		}
+		
+		UUID id = toUuid(contextId);
+		int slot = slotOf(id);
+		
+		while (buffer.getInt(slot * SLOT_SIZE + 16) != 0) {
+			slot = (slot + 1) & mask;
+		}
+		
+		int position = slot * SLOT_SIZE;
+		buffer.putLong(position, id.getMostSignificantBits());
+		buffer.putLong(position + 8, id.getLeastSignificantBits());
+		buffer.putInt(position + 16, offset + 1);
+		entries++;
+		
+		return true;
+	}
+	
+	/**
+	 * Retorna a posição do último registro do contexto indicado.
+	 * 
+	 * @param contextId ({@link String}) - id do contexto
+	 * @return {@code int} - posição do registro ou <b>-1</b> caso não exista
+	 */
+	public int get(String contextId) {
+		UUID id = toUuid(contextId);
+		int slot = slotOf(id);
+		int found = -1;
+		
+		for (int probes = 0; probes <= mask; probes++) {
+			int position = slot * SLOT_SIZE;
+			int offset = buffer.getInt(position + 16);
+			
+			if(offset == 0) {
+				break;
+			}
+			
+			if(buffer.getLong(position) == id.getMostSignificantBits() && buffer.getLong(position + 8) == id.getLeastSignificantBits()) {
+				found = offset - 1;
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		return found;
+	}
+	
+	/**
+	 * Indica se o índice atingiu a ocupação máxima.
+	 * 
+	 * @return {@code boolean} - <b>true</b> caso o índice esteja cheio
+	 */
+	public synchronized boolean isFull() {
+		return entries >= maxEntries;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+	
+	/**
+	 * Calcula o slot inicial do id, misturando os bits do UUID.
+	 * 
+	 * @param id ({@link UUID}) - id do contexto
+	 * @return {@code int} - índice do slot
+	 */
+	private int slotOf(UUID id) {
+		long hash = id.getMostSignificantBits() ^ id.getLeastSignificantBits();
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		
+		return (int) hash & mask;
+	}
+	
+	/**
+	 * Conta os slots ocupados do arquivo.
+	 * 
+	 * @return {@code int} - quantidade de entradas
+	 */
+	private int countEntries() {
+		int count = 0;
+		
+		for (int slot = 0; slot <= mask; slot++) {
+			if(buffer.getInt(slot * SLOT_SIZE + 16) != 0) {
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Converte o id do contexto para os 128 bits utilizados no índice.
+	 * 
+	 * @param contextId ({@link String}) - id do contexto
+	 * @return {@code UUID} - id convertido
+	 */
+	static UUID toUuid(String contextId) {
+		try {
+			return UUID.fromString(contextId);
+		}
+		catch (IllegalArgumentException e) {
+			return UUID.nameUUIDFromBytes(contextId.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+}
@@ -0,0 +1,248 @@
+package com.logging.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import com.logging.appender.MappedSegment;
+import com.logging.appender.SegmentFiles;
+
+/**
+ * Consulta ao repositório local escrito pelo {@link PayloadStoreAppender},
+ * através de leituras mapeadas em memória. Pode ser utilizada com o appender
+ * em execução.
+ * <p>
+ * A busca por id percorre os segmentos do mais recente para o mais antigo,
+ * consultando apenas o índice de ids de cada um. A busca por intervalo parte
+ * da entrada do índice de tempo anterior ao início do intervalo e encerra ao
+ * encontrar um registro posterior ao fim. Como a ordem de escrita pode diferir
+ * levemente da ordem dos timestamps entre threads, ambos os limites são
+ * estendidos em um intervalo do índice de tempo.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class PayloadStore {
+	
+	/**
+	 * Intervalo padrão entre entradas do índice de tempo.
+	 */
+	public static final long DEFAULT_TIME_INDEX_INTERVAL_MS = 1000L;
+	
+	private final Path directory;
+	
+	private final String prefix;
+	
+	private final long timeIndexIntervalMs;
+
+	/**
+	 * Construtor da consulta ao repositório.
+	 * 
+	 * @param directory           ({@link Path}) - diretório do repositório
+	 * @param prefix              ({@link String}) - prefixo dos segmentos
+	 * @param timeIndexIntervalMs ({@code long}) - intervalo do índice de tempo
+	 *                            configurado no appender
+	 */
+	public PayloadStore(Path directory, String prefix, long timeIndexIntervalMs) {
+		this.directory = directory;
+		this.prefix = prefix;
+		this.timeIndexIntervalMs = timeIndexIntervalMs;
+	}
+	
+	/**
+	 * Busca o payload do contexto indicado.
+	 * 
+	 * @param contextId ({@link String}) - id do contexto
+	 * @return {@code ByteBuffer} - payload codificado ou <b>null</b> caso não
+	 *         encontrado
+	 * @throws IOException lançada em caso de falha de leitura.
+	 */
+	public ByteBuffer findByContextId(String contextId) throws IOException {
+		List<Path> segments = SegmentFiles.list(directory, prefix, StoreSegment.DATA_SUFFIX);
+		UUID id = ContextIdIndex.toUuid(contextId);
+		CRC32 crc = new CRC32();
+		
+		for (int i = segments.size() - 1; i >= 0; i--) {
+			long sequence = SegmentFiles.sequenceOf(segments.get(i), prefix, StoreSegment.DATA_SUFFIX);
+			Path idIndexFile = SegmentFiles.path(directory, prefix, sequence, StoreSegment.ID_INDEX_SUFFIX);
+			
+			if(!Files.exists(idIndexFile)) {
+				continue;
+			}
+			
+			int offset;
+			
+			try (ContextIdIndex ids = ContextIdIndex.open(idIndexFile, 0, true)) {
+				offset = ids.get(contextId);
+			}
+			
+			if(offset < 0) {
+				continue;
+			}
+			
+			ByteBuffer content = MappedSegment.readFrame(map(segments.get(i)), offset, crc);
+			
+			if(content != null && content.getLong(8) == id.getMostSignificantBits() && content.getLong(16) == id.getLeastSignificantBits()) {
+				return payloadOf(content);
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Percorre os payloads com timestamp no intervalo informado, em ordem de
+	 * escrita.
+	 * 
+	 * @param from    ({@code long}) - início do intervalo (epoch ms, inclusivo)
+	 * @param to      ({@code long}) - fim do intervalo (epoch ms, inclusivo)
+	 * @param visitor ({@link RecordVisitor}) - visitante dos registros
+	 * @return {@code long} - quantidade de registros visitados
+	 * @throws IOException lançada em caso de falha de leitura.
+	 */
+	public long scan(long from, long to, RecordVisitor visitor) throws IOException {
+		List<Path> segments = SegmentFiles.list(directory, prefix, StoreSegment.DATA_SUFFIX);
+		long[] firstTimestamps = new long[segments.size()];
+		
+		for (int i = 0; i < segments.size(); i++) {
+			firstTimestamps[i] = firstTimestamp(segments.get(i));
+		}
+		
+		long seekFrom = from > Long.MIN_VALUE + timeIndexIntervalMs ? from - timeIndexIntervalMs : Long.MIN_VALUE;
+		long seekTo = to < Long.MAX_VALUE - timeIndexIntervalMs ? to + timeIndexIntervalMs : Long.MAX_VALUE;
+		CRC32 crc = new CRC32();
+		long count = 0;
+		
+		for (int i = 0; i < segments.size(); i++) {
+			if(firstTimestamps[i] > seekTo) {
+				break;
+			}
+			
+			if(i + 1 < segments.size() && firstTimestamps[i + 1] >= 0 && firstTimestamps[i + 1] < seekFrom) {
+				continue;
+			}
+			
+			int offset = seekOffset(segments.get(i), seekFrom);
+			ByteBuffer buffer = map(segments.get(i));
+			ByteBuffer content;
+			
+			while ((content = MappedSegment.readFrame(buffer, offset, crc)) != null) {
+				long timestamp = content.getLong(0);
+				
+				if(timestamp > seekTo) {
+					break;
+				}
+				
+				if(timestamp >= from && timestamp <= to) {
+					visitor.visit(timestamp, payloadOf(content));
+					count++;
+				}
+				
+				offset += MappedSegment.FRAME_HEADER_SIZE + content.remaining();
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Retorna o menor timestamp do segmento pelo índice de tempo.
+	 * 
+	 * @param dataFile ({@link Path}) - arquivo de dados do segmento
+	 * @return {@code long} - menor timestamp ou {@code -1} caso não indexado
+	 * @throws IOException lançada em caso de falha na leitura do índice.
+	 */
+	private long firstTimestamp(Path dataFile) throws IOException {
+		Path timeIndexFile = timeIndexFile(dataFile);
+		
+		if(!Files.exists(timeIndexFile)) {
+			return -1L;
+		}
+		
+		try (TimeIndex times = TimeIndex.open(timeIndexFile, 0, timeIndexIntervalMs, true)) {
+			return times.firstTimestamp();
+		}
+	}
+	
+	/**
+	 * Retorna a posição a partir da qual o segmento deve ser lido para o
+	 * timestamp indicado.
+	 * 
+	 * @param dataFile  ({@link Path}) - arquivo de dados do segmento
+	 * @param timestamp ({@code long}) - início do intervalo em epoch ms
+	 * @return {@code int} - posição inicial da leitura
+	 * @throws IOException lançada em caso de falha na leitura do índice.
+	 */
+	private int seekOffset(Path dataFile, long timestamp) throws IOException {
+		Path timeIndexFile = timeIndexFile(dataFile);
+		
+		if(!Files.exists(timeIndexFile)) {
+			return 0;
+		}
+		
+		try (TimeIndex times = TimeIndex.open(timeIndexFile, 0, timeIndexIntervalMs, true)) {
+			return times.seek(timestamp);
+		}
+	}
+	
+	/**
+	 * Monta o caminho do índice de tempo do segmento.
+	 * 
+	 * @param dataFile ({@link Path}) - arquivo de dados do segmento
+	 * @return {@link Path} - arquivo do índice de tempo
+	 */
+	private Path timeIndexFile(Path dataFile) {
+		long sequence = SegmentFiles.sequenceOf(dataFile, prefix, StoreSegment.DATA_SUFFIX);
+		return SegmentFiles.path(directory, prefix, sequence, StoreSegment.TIME_INDEX_SUFFIX);
+	}
+	
+	/**
+	 * Retorna o payload do registro, sem o cabeçalho.
+	 * 
+	 * @param content ({@link ByteBuffer}) - conteúdo do registro
+	 * @return {@link ByteBuffer} - payload do registro
+	 */
+	private static ByteBuffer payloadOf(ByteBuffer content) {
+		ByteBuffer payload = content.duplicate();
+		payload.position(StoreSegment.RECORD_HEADER_SIZE);
+		return payload.slice();
+	}
+	
+	/**
+	 * Mapeia o arquivo de dados para leitura.
+	 * 
+	 * @param dataFile ({@link Path}) - arquivo de dados do segmento
+	 * @return {@link MappedByteBuffer} - conteúdo mapeado
+	 * @throws IOException lançada em caso de falha no mapeamento.
+	 */
+	private static MappedByteBuffer map(Path dataFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+			return channel.map(MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+	
+	/**
+	 * Visitante dos payloads consultados.
+	 */
+	@FunctionalInterface
+	public interface RecordVisitor {
+		
+		/**
+		 * Recebe um payload.
+		 * 
+		 * @param timestamp ({@code long}) - timestamp do evento (epoch ms)
+		 * @param payload   ({@link ByteBuffer}) - payload codificado
+		 * @throws IOException lançada pelo visitante em caso de falha.
+		 */
+		void visit(long timestamp, ByteBuffer payload) throws IOException;
+	}
+}
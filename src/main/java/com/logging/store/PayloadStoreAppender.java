@@ -0,0 +1,253 @@
+package com.logging.store;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.logging.appender.SegmentFiles;
+import com.logging.encoder.PayloadLogEncoder;
+import com.logging.model.PayloadEmission;
+import com.logging.model.PayloadLogModel;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+/**
+ * Appender Logback que mantém um repositório local de payloads consultável por
+ * id do contexto ({@code context_id}) e por intervalo de tempo, através do
+ * {@link PayloadStore}.
+ * <p>
+ * Os registros são escritos em segmentos mapeados em memória, como no
+ * {@link com.logging.appender.MappedSegmentAppender}, e indexados no momento
+ * da escrita: o {@link ContextIdIndex} associa o id do contexto à posição do
+ * registro e o {@link TimeIndex} guarda uma entrada a cada
+ * {@code timeIndexIntervalMs}. O segmento é trocado quando o arquivo de dados
+ * ou o índice de ids ficam cheios.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public class PayloadStoreAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+	
+	private static final int MIN_SEGMENT_SIZE = 64 * 1024;
+	
+	private Encoder<ILoggingEvent> encoder;
+	
+	private String directory = "logs/store";
+	
+	private String prefix = "payload";
+	
+	private int segmentSize = 64 * 1024 * 1024;
+	
+	private int maxSegments;
+	
+	private long timeIndexIntervalMs = PayloadStore.DEFAULT_TIME_INDEX_INTERVAL_MS;
+	
+	private final Object rollLock = new Object();
+	
+	private volatile StoreSegment segment;
+	
+	private long sequence;
+	
+	private final LongAdder dropped = new LongAdder();
+
+	@Override
+	public void start() {
+		if(encoder == null) {
+			addError("Nenhum encoder configurado para o appender \"" + name + "\".");
+			return;
+		}
+		
+		segmentSize = Math.max(segmentSize, MIN_SEGMENT_SIZE);
+		
+		try {
+			Path directoryPath = Paths.get(directory);
+			Files.createDirectories(directoryPath);
+			
+			List<Path> segments = SegmentFiles.list(directoryPath, prefix, StoreSegment.DATA_SUFFIX);
+			sequence = segments.isEmpty() ? 1 : SegmentFiles.sequenceOf(segments.get(segments.size() - 1), prefix, StoreSegment.DATA_SUFFIX);
+			segment = StoreSegment.open(directoryPath, prefix, sequence, segmentSize, timeIndexIntervalMs);
+			
+			if(segment.getData().getRecoveredBytes() > 0) {
+				addWarn("Segmento " + segment.getData().getPath() + " recuperado: " + segment.getData().getRecoveredBytes()
+						+ " byte(s) de registros incompletos descartados.");
+			}
+		}
+		catch (IOException e) {
+			addError("Falha ao abrir o repositório de payloads em \"" + directory + "\".", e);
+			return;
+		}
+		
+		encoder.start();
+		super.start();
+	}
+
+	@Override
+	public void stop() {
+		if(!isStarted()) {
+			return;
+		}
+		
+		super.stop();
+		
+		synchronized (rollLock) {
+			closeSegment(segment);
+		}
+		
+		encoder.stop();
+	}
+
+	@Override
+	protected void append(ILoggingEvent event) {
+		byte[] payload = encoder.encode(event);
+		
+		if(payload == null || payload.length == 0) {
+			return;
+		}
+		
+		if(payload.length > segmentSize - StoreSegment.RECORD_HEADER_SIZE - 8) {
+			dropped.increment();
+			addWarn("Registro de " + payload.length + " byte(s) excede o tamanho do segmento e foi descartado.");
+			return;
+		}
+		
+		String contextId = findContextId(event);
+		
+		StoreSegment current = segment;
+		
+		while (current.append(event.getTimeStamp(), contextId, payload) < 0) {
+			current = roll(current);
+			
+			if(current == null) {
+				dropped.increment();
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Retorna o id do contexto do evento, priorizando o registrado na emissão
+	 * por não ser afetado pela reutilização do payload.
+	 */
+	private static String findContextId(ILoggingEvent event) {
+		PayloadEmission emission = PayloadLogEncoder.findPayloadEmission(event);
+		
+		if(emission != null) {
+			return emission.getContextId();
+		}
+		
+		PayloadLogModel payloadLogModel = PayloadLogEncoder.findPayloadLogModel(event);
+		return payloadLogModel != null ? payloadLogModel.getContextId() : null;
+	}
+	
+	/**
+	 * Substitui o segmento cheio por um novo, caso outra thread ainda não o tenha
+	 * feito.
+	 */
+	private StoreSegment roll(StoreSegment full) {
+		synchronized (rollLock) {
+			if(segment != full) {
+				return segment;
+			}
+			
+			if(!isStarted()) {
+				return null;
+			}
+			
+			try {
+				Path directoryPath = Paths.get(directory);
+				StoreSegment next = StoreSegment.open(directoryPath, prefix, ++sequence, segmentSize, timeIndexIntervalMs);
+				segment = next;
+				closeSegment(full);
+				
+				if(maxSegments > 0) {
+					for (String suffix : new String[] { StoreSegment.DATA_SUFFIX, StoreSegment.ID_INDEX_SUFFIX, StoreSegment.TIME_INDEX_SUFFIX }) {
+						SegmentFiles.deleteOldest(SegmentFiles.list(directoryPath, prefix, suffix), maxSegments);
+					}
+				}
+				
+				return next;
+			}
+			catch (IOException e) {
+				addError("Falha ao criar o segmento do repositório " + sequence + ".", e);
+				return null;
+			}
+		}
+	}
+	
+	/**
+	 * Fecha o segmento indicado, registrando a falha no status do Logback.
+	 * 
+	 * @param storeSegment ({@link StoreSegment}) - segmento a ser fechado
+	 */
+	private void closeSegment(StoreSegment storeSegment) {
+		try {
+			storeSegment.close();
+		}
+		catch (IOException e) {
+			addError("Falha ao fechar o segmento do repositório.", e);
+		}
+	}
+
+	public Encoder<ILoggingEvent> getEncoder() {
+		return encoder;
+	}
+
+	public void setEncoder(Encoder<ILoggingEvent> encoder) {
+		this.encoder = encoder;
+	}
+
+	public String getDirectory() {
+		return directory;
+	}
+
+	public void setDirectory(String directory) {
+		this.directory = directory;
+	}
+
+	public String getPrefix() {
+		return prefix;
+	}
+
+	public void setPrefix(String prefix) {
+		this.prefix = prefix;
+	}
+
+	public int getSegmentSize() {
+		return segmentSize;
+	}
+
+	public void setSegmentSize(int segmentSize) {
+		this.segmentSize = segmentSize;
+	}
+
+	public int getMaxSegments() {
+		return maxSegments;
+	}
+
+	public void setMaxSegments(int maxSegments) {
+		this.maxSegments = maxSegments;
+	}
+
+	public long getTimeIndexIntervalMs() {
+		return timeIndexIntervalMs;
+	}
+
+	public void setTimeIndexIntervalMs(long timeIndexIntervalMs) {
+		this.timeIndexIntervalMs = timeIndexIntervalMs;
+	}
+	
+	/**
+	 * Retorna a quantidade de registros descartados.
+	 * 
+	 * @return {@code long} - registros descartados
+	 */
+	public long getDropped() {
+		return dropped.sum();
+	}
+}
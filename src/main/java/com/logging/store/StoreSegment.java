@@ -0,0 +1,140 @@
+package com.logging.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import com.logging.appender.MappedSegment;
+import com.logging.appender.SegmentFiles;
+
+/**
+ * Segmento do {@link PayloadStoreAppender}: arquivo de dados
+ * ({@link MappedSegment}) acompanhado do índice por id do contexto e do índice
+ * esparso de tempo.
+ * <p>
+ * O conteúdo de cada frame é {@code [long timestamp][long id][long id][payload]},
+ * com o id do contexto em 128 bits (zero quando ausente), permitindo validar
+ * a entrada do índice contra o registro.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+final class StoreSegment implements Closeable {
+	
+	static final String DATA_SUFFIX = ".seg";
+	
+	static final String ID_INDEX_SUFFIX = ".ids";
+	
+	static final String TIME_INDEX_SUFFIX = ".tim";
+	
+	static final int RECORD_HEADER_SIZE = 24;
+	
+	private static final int BYTES_PER_ID_SLOT = 256;
+	
+	private static final int TIME_INDEX_CAPACITY = 64 * 1024;
+	
+	private final MappedSegment data;
+	
+	private final ContextIdIndex ids;
+	
+	private final TimeIndex times;
+
+	/**
+	 * Construtor do segmento.
+	 * 
+	 * @param data  ({@link MappedSegment}) - arquivo de dados
+	 * @param ids   ({@link ContextIdIndex}) - índice de ids de contexto
+	 * @param times ({@link TimeIndex}) - índice de tempo
+	 */
+	private StoreSegment(MappedSegment data, ContextIdIndex ids, TimeIndex times) {
+		this.data = data;
+		this.ids = ids;
+		this.times = times;
+	}
+	
+	/**
+	 * Abre (ou cria) o segmento para escrita, recuperando os registros válidos.
+	 */
+	static StoreSegment open(Path directory, String prefix, long sequence, int segmentSize, long timeIndexIntervalMs) throws IOException {
+		MappedSegment data = MappedSegment.open(SegmentFiles.path(directory, prefix, sequence, DATA_SUFFIX), segmentSize);
+		ContextIdIndex ids = null;
+		
+		try {
+			ids = ContextIdIndex.open(SegmentFiles.path(directory, prefix, sequence, ID_INDEX_SUFFIX), segmentSize / BYTES_PER_ID_SLOT, false);
+			TimeIndex times = TimeIndex.open(SegmentFiles.path(directory, prefix, sequence, TIME_INDEX_SUFFIX), TIME_INDEX_CAPACITY, timeIndexIntervalMs, false);
+			times.truncate(data.getPosition());
+			
+			return new StoreSegment(data, ids, times);
+		}
+		catch (IOException | RuntimeException e) {
+			data.close();
+			
+			if(ids != null) {
+				ids.close();
+			}
+			
+			throw e;
+		}
+	}
+	
+	/**
+	 * Escreve o registro e o indexa.
+	 * 
+	 * @return {@code int} - posição do registro ou <b>-1</b> caso o segmento ou
+	 *         o índice estejam cheios
+	 */
+	int append(long timestamp, String contextId, byte[] payload) {
+		if(contextId != null && ids.isFull()) {
+			return -1;
+		}
+		
+		byte[] content = new byte[RECORD_HEADER_SIZE + payload.length];
+		ByteBuffer header = ByteBuffer.wrap(content);
+		header.putLong(timestamp);
+		
+		if(contextId != null) {
+			UUID id = ContextIdIndex.toUuid(contextId);
+			header.putLong(id.getMostSignificantBits());
+			header.putLong(id.getLeastSignificantBits());
+		}
+		
+		System.arraycopy(payload, 0, content, RECORD_HEADER_SIZE, payload.length);
+		
+		int offset = data.append(content);
+		
+		if(offset < 0) {
+			return -1;
+		}
+		
+		if(contextId != null) {
+			ids.put(contextId, offset);
+		}
+		
+		times.record(timestamp, offset);
+		
+		return offset;
+	}
+	
+	/**
+	 * Retorna o arquivo de dados do segmento.
+	 * 
+	 * @return {@link MappedSegment} - arquivo de dados
+	 */
+	MappedSegment getData() {
+		return data;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			data.close();
+		}
+		finally {
+			ids.close();
+			times.close();
+		}
+	}
+}
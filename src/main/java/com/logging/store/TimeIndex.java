@@ -0,0 +1,187 @@
+package com.logging.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Índice esparso de tempo de um segmento, mapeado em memória.
+ * <p>
+ * Uma entrada de {@value #ENTRY_SIZE} bytes (timestamp em epoch ms e posição
+ * somada de 1) é escrita para o primeiro registro de cada intervalo de
+ * {@code intervalMs}. A consulta parte da última entrada anterior ao início
+ * do intervalo buscado, evitando a leitura do segmento desde o início. Com o
+ * índice cheio, novas entradas são ignoradas e a consulta apenas percorre mais
+ * registros.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class TimeIndex implements Closeable {
+	
+	/**
+	 * Tamanho de cada entrada do índice.
+	 */
+	public static final int ENTRY_SIZE = 12;
+	
+	private final FileChannel channel;
+	
+	private final MappedByteBuffer buffer;
+	
+	private final int capacity;
+	
+	private final long intervalMs;
+	
+	private int entries;
+	
+	private long lastBucket = Long.MIN_VALUE;
+	
+	/**
+	 * Construtor privado. Utilizar {@link #open(Path, int, long, boolean)}.
+	 */
+	private TimeIndex(FileChannel channel, MappedByteBuffer buffer, long intervalMs) {
+		this.channel = channel;
+		this.buffer = buffer;
+		this.capacity = buffer.capacity() / ENTRY_SIZE;
+		this.intervalMs = intervalMs;
+	}
+	
+	/**
+	 * Abre (ou cria) o índice indicado.
+	 * 
+	 * @param path       ({@link Path}) - arquivo do índice
+	 * @param capacity   ({@code int}) - quantidade de entradas. Ignorada caso o
+	 *                   arquivo já exista.
+	 * @param intervalMs ({@code long}) - intervalo entre entradas
+	 * @param readOnly   ({@code boolean}) - abre o índice apenas para leitura
+	 * @return {@code TimeIndex} - índice aberto
+	 * @throws IOException lançada em caso de falha ao abrir ou mapear o arquivo.
+	 */
+	public static TimeIndex open(Path path, int capacity, long intervalMs, boolean readOnly) throws IOException {
+		FileChannel channel = readOnly
+				? FileChannel.open(path, StandardOpenOption.READ)
+				: FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			long size = channel.size() > 0 ? channel.size() / ENTRY_SIZE * ENTRY_SIZE : (long) capacity * ENTRY_SIZE;
+			MappedByteBuffer buffer = channel.map(readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, 0, size);
+			TimeIndex index = new TimeIndex(channel, buffer, intervalMs);
+			
+			while (index.entries < index.capacity && buffer.getInt(index.entries * ENTRY_SIZE + 8) != 0) {
+				index.lastBucket = buffer.getLong(index.entries * ENTRY_SIZE) / intervalMs;
+				index.entries++;
+			}
+			
+			return index;
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Registra a escrita de um registro, criando uma entrada caso o timestamp
+	 * inicie um novo intervalo.
+	 * 
+	 * @param timestamp ({@code long}) - timestamp do registro (epoch ms)
+	 * @param offset    ({@code int}) - posição do registro no segmento
+	 */
+	public synchronized void record(long timestamp, int offset) {
+		long bucket = timestamp / intervalMs;
+		
+		if(bucket <= lastBucket || entries >= capacity) {
+			return;
+		}
+		
+		int position = entries * ENTRY_SIZE;
+		buffer.putLong(position, timestamp);
+		buffer.putInt(position + 8, offset + 1);
+		
+		lastBucket = bucket;
+		entries++;
+	}
+	
+	/**
+	 * Descarta as entradas que apontam para a posição indicada ou posteriores,
+	 * após a recuperação do segmento.
+	 * 
+	 * @param end ({@code int}) - posição seguinte ao último registro válido
+	 */
+	public synchronized void truncate(int end) {
+		for (int entry = 0; entry < entries; entry++) {
+			if(buffer.getInt(entry * ENTRY_SIZE + 8) - 1 >= end) {
+				for (int position = entry * ENTRY_SIZE; position < entries * ENTRY_SIZE; position++) {
+					buffer.put(position, (byte) 0);
+				}
+				
+				entries = entry;
+				lastBucket = entry > 0 ? buffer.getLong((entry - 1) * ENTRY_SIZE) / intervalMs : Long.MIN_VALUE;
+				return;
+			}
+		}
+	}
+	
+	/**
+	 * Retorna a posição a partir da qual os registros com timestamp igual ou
+	 * posterior ao indicado devem ser procurados.
+	 * 
+	 * @param timestamp ({@code long}) - início da consulta (epoch ms)
+	 * @return {@code int} - posição inicial no segmento
+	 */
+	public int seek(long timestamp) {
+		int low = 0;
+		int high = countEntries() - 1;
+		int offset = 0;
+		
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			
+			if(buffer.getLong(middle * ENTRY_SIZE) < timestamp) {
+				offset = buffer.getInt(middle * ENTRY_SIZE + 8) - 1;
+				low = middle + 1;
+			}
+			else {
+				high = middle - 1;
+			}
+		}
+		
+		return offset;
+	}
+	
+	/**
+	 * Retorna o timestamp da primeira entrada ou <b>-1</b> caso o índice esteja
+	 * vazio.
+	 * 
+	 * @return {@code long} - menor timestamp indexado
+	 */
+	public long firstTimestamp() {
+		return countEntries() > 0 ? buffer.getLong(0) : -1L;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+	
+	/**
+	 * Conta as entradas escritas, incluindo as escritas por outro processo
+	 * após a abertura do índice.
+	 * 
+	 * @return {@code int} - quantidade de entradas
+	 */
+	private int countEntries() {
+		int count = entries;
+		
+		while (count < capacity && buffer.getInt(count * ENTRY_SIZE + 8) != 0) {
+			count++;
+		}
+		
+		return count;
+	}
+}
@@ -0,0 +1,116 @@
+package com.logging.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.logging.appender.CompressedBlockAppender;
+import com.logging.appender.CompressedBlockFormat.BlockInfo;
+import com.logging.appender.CompressedBlockReader;
+
+/**
+ * Utilitário de linha de comando para leitura dos arquivos escritos pelo
+ * {@link CompressedBlockAppender}.
+ * <p>
+ * Uso: {@code CompressedBlockTool [--inicio <t>] [--fim <t>] [--blocos] <arquivo.blk>...}.
+ * Os instantes são informados em epoch ms ou como data e hora local
+ * ({@code 2026-10-18T10:15:30}). Os registros do intervalo são escritos na
+ * saída padrão como foram codificados. Com {@code --blocos}, apenas o índice
+ * de blocos e a taxa de compressão são exibidos.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class CompressedBlockTool {
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private CompressedBlockTool() {
+	}
+	
+	public static void main(String[] args) throws IOException {
+		long from = Long.MIN_VALUE;
+		long to = Long.MAX_VALUE;
+		boolean listBlocks = false;
+		List<Path> files = new ArrayList<>();
+		
+		for (int i = 0; i < args.length; i++) {
+			if("--inicio".equals(args[i]) && i + 1 < args.length) {
+				from = parseInstant(args[++i]);
+			}
+			else if("--fim".equals(args[i]) && i + 1 < args.length) {
+				to = parseInstant(args[++i]);
+			}
+			else if("--blocos".equals(args[i])) {
+				listBlocks = true;
+			}
+			else {
+				files.add(Paths.get(args[i]));
+			}
+		}
+		
+		if(files.isEmpty()) {
+			System.err.println("Uso: CompressedBlockTool [--inicio <t>] [--fim <t>] [--blocos] <arquivo.blk>...");
+			return;
+		}
+		
+		OutputStream out = new BufferedOutputStream(System.out);
+		
+		for (Path file : files) {
+			if(listBlocks) {
+				printBlocks(file);
+				continue;
+			}
+			
+			long count = CompressedBlockReader.read(file, from, to, (timestamp, buffer, offset, length) -> out.write(buffer, offset, length));
+			out.flush();
+			System.err.println(file + ": " + count + " registro(s)");
+		}
+	}
+	
+	/**
+	 * Imprime os blocos do arquivo e a taxa de compressão total.
+	 * 
+	 * @param file ({@link Path}) - arquivo {@code .blk}
+	 * @throws IOException lançada em caso de falha na leitura.
+	 */
+	private static void printBlocks(Path file) throws IOException {
+		long compressed = 0;
+		long uncompressed = 0;
+		
+		for (BlockInfo block : CompressedBlockReader.blocks(file)) {
+			System.out.printf("%d\t%s\t%s\t%d registro(s)\t%d -> %d bytes%n", block.getOffset(),
+					Instant.ofEpochMilli(block.getFirstTimestamp()), Instant.ofEpochMilli(block.getLastTimestamp()),
+					block.getRecords(), block.getUncompressedLength(), block.getCompressedLength());
+			
+			compressed += block.getCompressedLength();
+			uncompressed += block.getUncompressedLength();
+		}
+		
+		System.out.printf("%s: %d -> %d bytes (%.1fx)%n", file, uncompressed, compressed, compressed == 0 ? 0d : (double) uncompressed / compressed);
+	}
+	
+	/**
+	 * Converte o instante informado em epoch millis ou em data e hora ISO-8601
+	 * no fuso local.
+	 * 
+	 * @param value ({@link String}) - instante informado
+	 * @return {@code long} - instante em epoch millis
+	 */
+	static long parseInstant(String value) {
+		if(value.chars().allMatch(Character::isDigit)) {
+			return Long.parseLong(value);
+		}
+		
+		return LocalDateTime.parse(value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+}
@@ -0,0 +1,124 @@
+package com.logging.tools;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.encoder.SmilePayloadLogEncoder;
+
+/**
+ * Utilitário de linha de comando que converte arquivos escritos pelo
+ * {@link SmilePayloadLogEncoder} de volta para JSON, um payload por linha.
+ * <p>
+ * Uso: {@code PayloadLogDecoder [--pretty] <arquivo>...}. Sem arquivos (ou com
+ * {@code -}), os frames são lidos da entrada padrão. Um frame incompleto ao
+ * final do arquivo (escrita interrompida) é ignorado com um aviso.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class PayloadLogDecoder {
+
+	private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private PayloadLogDecoder() {
+	}
+	
+	public static void main(String[] args) throws IOException {
+		boolean pretty = false;
+		List<String> files = new ArrayList<>();
+		
+		for (String arg : args) {
+			if("--pretty".equals(arg)) {
+				pretty = true;
+			}
+			else if("-h".equals(arg) || "--help".equals(arg)) {
+				System.err.println("Uso: PayloadLogDecoder [--pretty] <arquivo>...");
+				return;
+			}
+			else {
+				files.add(arg);
+			}
+		}
+		
+		ObjectMapper jsonMapper = new ObjectMapper();
+		ObjectWriter writer = pretty ? jsonMapper.writerWithDefaultPrettyPrinter() : jsonMapper.writer();
+		OutputStream out = new BufferedOutputStream(System.out);
+		
+		if(files.isEmpty()) {
+			files.add("-");
+		}
+		
+		for (String file : files) {
+			try (InputStream in = "-".equals(file) ? System.in : new FileInputStream(file)) {
+				long count = decode(in, out, writer);
+				out.flush();
+				System.err.println(file + ": " + count + " payload(s)");
+			}
+		}
+	}
+	
+	/**
+	 * Decodifica os frames do fluxo indicado, escrevendo cada payload como JSON
+	 * na saída.
+	 * 
+	 * @param in     ({@link InputStream}) - fluxo de frames Smile
+	 * @param out    ({@link OutputStream}) - saída JSON
+	 * @param writer ({@link ObjectWriter}) - writer JSON da saída
+	 * @return {@code long} - quantidade de payloads decodificados
+	 * @throws IOException lançada em caso de falha de leitura ou escrita.
+	 */
+	public static long decode(InputStream in, OutputStream out, ObjectWriter writer) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		byte[] frame = new byte[8 * 1024];
+		long count = 0;
+		
+		while (true) {
+			int length;
+			
+			try {
+				length = data.readInt();
+			}
+			catch (EOFException e) {
+				return count;
+			}
+			
+			if(length < 0) {
+				throw new IOException("Frame inválido após " + count + " payload(s): tamanho " + length);
+			}
+			
+			if(frame.length < length) {
+				frame = new byte[Math.max(length, frame.length * 2)];
+			}
+			
+			try {
+				data.readFully(frame, 0, length);
+			}
+			catch (EOFException e) {
+				System.err.println("Frame incompleto ignorado após " + count + " payload(s).");
+				return count;
+			}
+			
+			JsonNode node = LoggingObjectWriters.smileReader().readTree(frame, 0, length);
+			out.write(writer.writeValueAsBytes(node));
+			out.write(LINE_SEPARATOR);
+			count++;
+		}
+	}
+}
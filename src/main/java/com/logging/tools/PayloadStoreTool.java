@@ -0,0 +1,121 @@
+package com.logging.tools;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logging.store.PayloadStore;
+import com.logging.store.PayloadStoreAppender;
+
+/**
+ * Utilitário de linha de comando para consulta ao repositório local escrito
+ * pelo {@link PayloadStoreAppender}.
+ * <p>
+ * Uso:
+ * {@code PayloadStoreTool [--diretorio <dir>] [--prefixo <p>] [--intervalo-indice <ms>] (--id <context_id> | --inicio <t> --fim <t>)}.
+ * Os instantes são informados em epoch ms ou como data e hora local
+ * ({@code 2026-10-18T10:15:30}). Payloads no formato Smile são convertidos para
+ * JSON.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class PayloadStoreTool {
+	
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private PayloadStoreTool() {
+	}
+	
+	public static void main(String[] args) throws IOException {
+		String directory = "logs/store";
+		String prefix = "payload";
+		long interval = PayloadStore.DEFAULT_TIME_INDEX_INTERVAL_MS;
+		String contextId = null;
+		Long from = null;
+		Long to = null;
+		
+		for (int i = 0; i + 1 < args.length; i += 2) {
+			switch (args[i]) {
+				case "--diretorio":
+					directory = args[i + 1];
+					break;
+				case "--prefixo":
+					prefix = args[i + 1];
+					break;
+				case "--intervalo-indice":
+					interval = Long.parseLong(args[i + 1]);
+					break;
+				case "--id":
+					contextId = args[i + 1];
+					break;
+				case "--inicio":
+					from = CompressedBlockTool.parseInstant(args[i + 1]);
+					break;
+				case "--fim":
+					to = CompressedBlockTool.parseInstant(args[i + 1]);
+					break;
+				default:
+					System.err.println("Opção desconhecida: " + args[i]);
+					return;
+			}
+		}
+		
+		if(contextId == null && from == null && to == null) {
+			System.err.println("Uso: PayloadStoreTool [--diretorio <dir>] [--prefixo <p>] [--intervalo-indice <ms>] (--id <context_id> | --inicio <t> --fim <t>)");
+			return;
+		}
+		
+		PayloadStore store = new PayloadStore(Paths.get(directory), prefix, interval);
+		OutputStream out = new BufferedOutputStream(System.out);
+		
+		if(contextId != null) {
+			ByteBuffer payload = store.findByContextId(contextId);
+			
+			if(payload == null) {
+				System.err.println("Contexto " + contextId + " não encontrado.");
+			}
+			else {
+				write(payload, out);
+			}
+		}
+		else {
+			long count = store.scan(from == null ? Long.MIN_VALUE : from, to == null ? Long.MAX_VALUE : to, (timestamp, payload) -> write(payload, out));
+			System.err.println(count + " payload(s)");
+		}
+		
+		out.flush();
+	}
+	
+	/**
+	 * Escreve o payload na saída, convertendo frames Smile para JSON.
+	 */
+	private static void write(ByteBuffer payload, OutputStream out) throws IOException {
+		byte[] bytes = new byte[payload.remaining()];
+		payload.duplicate().get(bytes);
+		
+		if(isSmileFrame(bytes)) {
+			PayloadLogDecoder.decode(new ByteArrayInputStream(bytes), out, new ObjectMapper().writer());
+		}
+		else {
+			out.write(bytes);
+		}
+	}
+	
+	/**
+	 * Verifica se o payload é um frame Smile, cujo cabeçalho {@code :)\n}
+	 * sucede o tamanho do frame.
+	 * 
+	 * @param bytes ({@code byte[]}) - payload
+	 * @return {@code boolean} - <b>true</b> caso o payload seja um frame Smile
+	 */
+	private static boolean isSmileFrame(byte[] bytes) {
+		return bytes.length > 7 && bytes[4] == ':' && bytes[5] == ')' && bytes[6] == '\n';
+	}
+}
@@ -0,0 +1,62 @@
+package com.logging.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Classe contendo operações estáticas relacionadas à medição de tempo.
+ * <p>
+ * As medições utilizam {@link System#nanoTime()}, monotônico e armazenado em
+ * {@code long}. O relógio de parede é lido uma única vez por requisição e as
+ * datas são derivadas somente na serialização.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+public final class ClockUtils {
+	
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+	
+	private static final double NANOS_PER_MILLI_DOUBLE = 1_000_000d;
+
+	/**
+	 * Construtor privado para evitar instanciação.
+	 */
+	private ClockUtils() {}
+	
+	/**
+	 * Retorna o relógio de parede em nanossegundos desde a epoch.
+	 * 
+	 * @return {@code long} - nanossegundos desde a epoch
+	 */
+	public static long epochNanos() {
+		return System.currentTimeMillis() * NANOS_PER_MILLI;
+	}
+	
+	/**
+	 * Converte um instante monotônico em data, com base em uma âncora de relógio
+	 * de parede capturada no mesmo processo.
+	 * 
+	 * @param nanos            ({@code long}) - instante de {@link System#nanoTime()}
+	 * @param anchorNanos      ({@code long}) - {@link System#nanoTime()} da âncora
+	 * @param anchorEpochNanos ({@code long}) - relógio de parede da âncora
+	 * @return {@code LocalDateTime} - data no fuso padrão da JVM
+	 */
+	public static LocalDateTime toLocalDateTime(long nanos, long anchorNanos, long anchorEpochNanos) {
+		long epochNanos = anchorEpochNanos + (nanos - anchorNanos);
+		
+		return LocalDateTime.ofInstant(Instant.ofEpochSecond(0L, epochNanos), ZoneId.systemDefault());
+	}
+	
+	/**
+	 * Converte nanossegundos em milissegundos fracionários.
+	 * 
+	 * @param nanos ({@code long}) - duração em nanossegundos
+	 * @return {@code double} - duração em milissegundos
+	 */
+	public static double toMillis(long nanos) {
+		return nanos / NANOS_PER_MILLI_DOUBLE;
+	}
+}
@@ -1,17 +1,23 @@
 package com.logging.utils;
 
-import org.apache.commons.lang3.RegExUtils;
-
 import com.logging.enumerator.MaskingStrategy;
+import com.logging.metrics.LoggingMetrics;
 
 /**
  * Classe contendo operações estáticas relacionadas ao mascaramento de dados.
+ * <p>
+ * O mascaramento é realizado diretamente sobre arrays de {@code char}, sem uso
+ * de expressões regulares.
  * 
  * @author Mauricio Souza Couto
  * @since 2021-06-12
  *
  */
 public final class MaskingUtils {
+	
+	public static final char MASK_CHARACTER = '*';
+	
+	public static final int DEFAULT_VISIBLE_CHARACTERS = 4;
 
 	/**
 	 * Construtor privado para evitar instanciação.
@@ -19,25 +25,81 @@ public final class MaskingUtils {
 	private MaskingUtils() {}
 	
 	/**
-	 * Realiza o mascaramento do valor indicado com base na estratégia indicada.
+	 * Realiza o mascaramento do valor indicado com base na estratégia indicada,
+	 * mantendo {@link #DEFAULT_VISIBLE_CHARACTERS} caracteres visíveis nas
+	 * estratégias parciais.
 	 * 
 	 * @param value    ({@link String})- valor a ser mascarado.
 	 * @param strategy ({@link MaskingStrategy})- estratégia de mascaramento.
 	 * @return {@code String} - valor mascarado com <b>*</b>.
 	 */
 	public static String maskValue(String value, MaskingStrategy strategy) {
-		String maskedValue;
+		return maskValue(value, strategy, DEFAULT_VISIBLE_CHARACTERS);
+	}
+	
+	/**
+	 * Realiza o mascaramento do valor indicado com base na estratégia indicada.
+	 * 
+	 * @param value             ({@link String})- valor a ser mascarado.
+	 * @param strategy          ({@link MaskingStrategy})- estratégia de
+	 *                          mascaramento.
+	 * @param visibleCharacters ({@code int}) - quantidade de caracteres mantidos
+	 *                          visíveis nas estratégias parciais.
+	 * @return {@code String} - valor mascarado com <b>*</b>.
+	 */
+	public static String maskValue(String value, MaskingStrategy strategy, int visibleCharacters) {
+		if(value == null || value.isEmpty()) {
+			return value;
+		}
+		
+		char[] chars = value.toCharArray();
+		mask(chars, 0, chars.length, strategy, visibleCharacters);
+		
+		return new String(chars);
+	}
+	
+	/**
+	 * Realiza o mascaramento, no próprio array, do trecho indicado.
+	 * <ul>
+	 * <li>{@link MaskingStrategy#FULL} - mascara todos os caracteres;</li>
+	 * <li>{@link MaskingStrategy#PREFIX} - mascara o início do valor, mantendo os
+	 * últimos caracteres visíveis;</li>
+	 * <li>{@link MaskingStrategy#SUFFIX} - mascara o final do valor, mantendo os
+	 * primeiros caracteres visíveis.</li>
+	 * </ul>
+	 * Valores com tamanho menor ou igual à quantidade de caracteres visíveis são
+	 * mascarados por completo.
+	 * 
+	 * @param chars             ({@code char[]}) - array contendo o valor
+	 * @param offset            ({@code int}) - posição inicial do valor
+	 * @param length            ({@code int}) - tamanho do valor
+	 * @param strategy          ({@link MaskingStrategy}) - estratégia de
+	 *                          mascaramento
+	 * @param visibleCharacters ({@code int}) - quantidade de caracteres mantidos
+	 *                          visíveis nas estratégias parciais.
+	 */
+	public static void mask(char[] chars, int offset, int length, MaskingStrategy strategy, int visibleCharacters) {
+		LoggingMetrics.maskingOperation();
+		
+		int visible = visibleCharacters < length ? Math.max(0, visibleCharacters) : 0;
+		int from = offset;
+		int to = offset + length;
 		
 		switch (strategy) {
-		case FULL:
-			maskedValue = RegExUtils.replaceAll(value, ".", "*");
+		case PREFIX:
+			to -= visible;
+			break;
+			
+		case SUFFIX:
+			from += visible;
 			break;
 
 		default:
-			maskedValue = value;
 			break;
 		}
 		
-		return maskedValue;
+		for (int i = from; i < to; i++) {
+			chars[i] = MASK_CHARACTER;
+		}
 	}
 }
@@ -0,0 +1,87 @@
+package com.logging.component;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextHolder;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Testes da captura de headers pelo {@link LoggingComponent}, verificando que
+ * headers de múltiplos valores são mantidos como lista e que valores nulos são
+ * ignorados.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@SpringJUnitConfig(classes = LoggingComponent.class)
+@TestPropertySource(properties = "app.logging.headers-sensiveis=authorization")
+class LoggingComponentHeadersTest {
+	
+	private static final String FIRST_COOKIE = "sessao=abc; Path=/; Expires=Wed, 21 Oct 2026 07:28:00 GMT";
+	
+	private static final String SECOND_COOKIE = "tema=escuro; Expires=Thu, 22 Oct 2026 07:28:00 GMT";
+	
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	@Autowired
+	private LoggingComponent loggingComponent;
+	
+	@Test
+	void multiValueHeadersAreKeptAsListFromHttpHeaders() throws Exception {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add(HttpHeaders.SET_COOKIE, FIRST_COOKIE);
+		headers.add(HttpHeaders.SET_COOKIE, SECOND_COOKIE);
+		headers.add(HttpHeaders.CONTENT_TYPE, "application/json");
+		headers.put("X-Nulo", Collections.singletonList(null));
+		headers.add(HttpHeaders.AUTHORIZATION, "Bearer token");
+		
+		PayloadLogModel payloadLogModel = new PayloadLogModel();
+		loggingComponent.addResponse(payloadLogModel, 200, headers);
+		
+		assertHeaders(MAPPER.readTree(payloadLogModel.toString()).path("response").path("headers"));
+	}
+	
+	@Test
+	void multiValueHeadersAreKeptAsListFromServletResponse() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		response.addHeader(HttpHeaders.SET_COOKIE, FIRST_COOKIE);
+		response.addHeader(HttpHeaders.SET_COOKIE, SECOND_COOKIE);
+		response.addHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+		response.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+		
+		LoggingContext loggingContext = new LoggingContext("ctx");
+		LoggingContextHolder.vincularContexto(loggingContext);
+		
+		try {
+			loggingComponent.addResponse(response);
+		}
+		finally {
+			LoggingContextHolder.desvincularContexto();
+		}
+		
+		assertHeaders(MAPPER.readTree(loggingContext.getPayloadLogModel().toString()).path("response").path("headers"));
+	}
+	
+	private static void assertHeaders(JsonNode headers) {
+		assertThat(headers.path(HttpHeaders.SET_COOKIE).isArray()).isTrue();
+		assertThat(headers.path(HttpHeaders.SET_COOKIE)).hasSize(2);
+		assertThat(headers.path(HttpHeaders.SET_COOKIE).get(0).asText()).isEqualTo(FIRST_COOKIE);
+		assertThat(headers.path(HttpHeaders.SET_COOKIE).get(1).asText()).isEqualTo(SECOND_COOKIE);
+		assertThat(headers.path(HttpHeaders.CONTENT_TYPE).asText()).startsWith("application/json");
+		assertThat(headers.has("X-Nulo")).isFalse();
+		assertThat(headers.path(HttpHeaders.AUTHORIZATION).asText()).isNotEqualTo("Bearer token").hasSize("Bearer token".length());
+	}
+}
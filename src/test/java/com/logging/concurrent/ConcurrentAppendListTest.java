@@ -0,0 +1,230 @@
+package com.logging.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes de inserção concorrente na {@link ConcurrentAppendList}, verificando
+ * que nenhum item é perdido ou duplicado, que a ordem de inserção de cada
+ * thread é mantida e que o limite de itens é respeitado.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class ConcurrentAppendListTest {
+	
+	private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+	
+	private static final int ITEMS_PER_THREAD = 20_000;
+	
+	private ExecutorService executor;
+	
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newFixedThreadPool(THREADS + 1);
+	}
+	
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		executor.shutdownNow();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+	
+	@Test
+	void concurrentAppendsAreNeitherLostNorDuplicated() throws Exception {
+		ConcurrentAppendList<Item> list = new ConcurrentAppendList<>();
+		
+		await(appendConcurrently(list, ITEMS_PER_THREAD));
+		
+		List<Item> items = list.toList();
+		
+		assertThat(list.size()).isEqualTo(THREADS * ITEMS_PER_THREAD);
+		assertThat(items).hasSize(THREADS * ITEMS_PER_THREAD);
+		assertCompleteAndOrdered(items, ITEMS_PER_THREAD);
+	}
+	
+	@Test
+	void snapshotsDuringAppendsAreConsistent() throws Exception {
+		ConcurrentAppendList<Item> list = new ConcurrentAppendList<>();
+		AtomicBoolean writing = new AtomicBoolean(true);
+		
+		Future<Integer> reader = executor.submit(() -> {
+			int snapshots = 0;
+			
+			while (writing.get()) {
+				assertNoDuplicatesAndOrdered(list.toList());
+				snapshots++;
+			}
+			
+			return snapshots;
+		});
+		
+		List<Future<?>> writers = appendConcurrently(list, ITEMS_PER_THREAD);
+		
+		try {
+			await(writers);
+		}
+		finally {
+			writing.set(false);
+		}
+		
+		assertThat(reader.get(30, TimeUnit.SECONDS)).isPositive();
+		assertCompleteAndOrdered(list.toList(), ITEMS_PER_THREAD);
+	}
+	
+	@Test
+	void limitIsEnforcedUnderContention() throws Exception {
+		int limit = THREADS * ITEMS_PER_THREAD / 3;
+		ConcurrentAppendList<Item> list = new ConcurrentAppendList<>(limit);
+		
+		await(appendConcurrently(list, ITEMS_PER_THREAD));
+		
+		List<Item> items = list.toList();
+		
+		assertThat(list.size()).isEqualTo(limit);
+		assertThat(items).hasSize(limit);
+		assertNoDuplicatesAndOrdered(items);
+		assertThat(list.add(new Item(-1, 0))).isFalse();
+	}
+	
+	@Test
+	void clearAllowsReuse() throws Exception {
+		ConcurrentAppendList<Item> list = new ConcurrentAppendList<>();
+		
+		await(appendConcurrently(list, 1_000));
+		list.clear();
+		
+		assertThat(list.isEmpty()).isTrue();
+		assertThat(list.toList()).isEmpty();
+		
+		await(appendConcurrently(list, 1_000));
+		
+		assertCompleteAndOrdered(list.toList(), 1_000);
+	}
+	
+	/**
+	 * Inicia as threads de inserção simultaneamente. Cada thread insere itens
+	 * identificados pelo seu índice e por um sequencial crescente.
+	 */
+	private List<Future<?>> appendConcurrently(ConcurrentAppendList<Item> list, int itemsPerThread) {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> writers = new ArrayList<>();
+		
+		for (int thread = 0; thread < THREADS; thread++) {
+			int writer = thread;
+			
+			writers.add(executor.submit(() -> {
+				start.await();
+				
+				for (int sequence = 0; sequence < itemsPerThread; sequence++) {
+					list.add(new Item(writer, sequence));
+				}
+				
+				return null;
+			}));
+		}
+		
+		start.countDown();
+		return writers;
+	}
+	
+	/**
+	 * Valida que todos os itens de todas as threads estão presentes, sem
+	 * duplicidades e na ordem de inserção de cada thread.
+	 */
+	private static void assertCompleteAndOrdered(List<Item> items, int itemsPerThread) {
+		assertThat(items).hasSize(THREADS * itemsPerThread);
+		
+		int[] counts = assertNoDuplicatesAndOrdered(items);
+		
+		for (int count : counts) {
+			assertThat(count).isEqualTo(itemsPerThread);
+		}
+	}
+	
+	/**
+	 * Valida que não existem itens duplicados e que os itens de cada thread
+	 * aparecem na ordem em que foram inseridos.
+	 * 
+	 * @return {@code int[]} - quantidade de itens por thread
+	 */
+	private static int[] assertNoDuplicatesAndOrdered(List<Item> items) {
+		Set<Item> unique = new HashSet<>(items);
+		assertThat(unique).hasSameSizeAs(items);
+		
+		int[] next = new int[THREADS];
+		
+		for (Item item : items) {
+			assertThat(item.sequence).isGreaterThanOrEqualTo(next[item.writer]);
+			next[item.writer] = item.sequence + 1;
+		}
+		
+		int[] counts = new int[THREADS];
+		
+		for (Item item : items) {
+			counts[item.writer]++;
+		}
+		
+		return counts;
+	}
+	
+	private static void await(List<Future<?>> futures) {
+		for (Future<?> future : futures) {
+			try {
+				future.get(60, TimeUnit.SECONDS);
+			}
+			catch (ExecutionException e) {
+				throw new AssertionError(e.getCause());
+			}
+			catch (Exception e) {
+				throw new AssertionError(e);
+			}
+		}
+	}
+	
+	/**
+	 * Item identificado pela thread de inserção e pela ordem de inserção.
+	 */
+	private static final class Item {
+		
+		private final int writer;
+		
+		private final int sequence;
+		
+		Item(int writer, int sequence) {
+			this.writer = writer;
+			this.sequence = sequence;
+		}
+		
+		@Override
+		public boolean equals(Object other) {
+			if(!(other instanceof Item)) {
+				return false;
+			}
+			
+			Item item = (Item) other;
+			return writer == item.writer && sequence == item.sequence;
+		}
+		
+		@Override
+		public int hashCode() {
+			return writer * 31 + sequence;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package com.logging.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes da remoção de contextos vazados do {@link LoggingContextMap},
+ * verificando que contextos em processamento assíncrono são mantidos.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LoggingContextMapTest {
+	
+	private static final long EXPIRED = -1L;
+	
+	@AfterEach
+	void clear() {
+		LoggingContextMap.removerContexto("sync");
+		LoggingContextMap.removerContexto("async");
+	}
+	
+	@Test
+	void expiredContextsAreRemovedExceptAsyncInProgress() {
+		LoggingContext sync = new LoggingContext("sync");
+		LoggingContext async = new LoggingContext("async");
+		async.setAsyncInProgress(true);
+		LoggingContextMap.adicionarContexto("sync", sync);
+		LoggingContextMap.adicionarContexto("async", async);
+		
+		assertThat(LoggingContextMap.removerContextosExpirados(EXPIRED)).isEqualTo(1);
+		assertThat(LoggingContextMap.recuperarContexto("sync")).isNull();
+		assertThat(LoggingContextMap.recuperarContexto("async")).isSameAs(async);
+		
+		async.setAsyncInProgress(false);
+		
+		assertThat(LoggingContextMap.removerContextosExpirados(EXPIRED)).isEqualTo(1);
+		assertThat(LoggingContextMap.recuperarContexto("async")).isNull();
+	}
+	
+	@Test
+	void contextsWithinThresholdAreKept() {
+		LoggingContext sync = new LoggingContext("sync");
+		LoggingContextMap.adicionarContexto("sync", sync);
+		
+		assertThat(LoggingContextMap.removerContextosExpirados(Long.MAX_VALUE)).isZero();
+		assertThat(LoggingContextMap.recuperarContexto("sync")).isSameAs(sync);
+	}
+}
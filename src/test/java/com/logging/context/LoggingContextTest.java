@@ -0,0 +1,57 @@
+package com.logging.context;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+/**
+ * Testes da emissão do payload pelo {@link LoggingContext}, verificando que
+ * appenders sem o encoder de payload recebem o JSON na mensagem formatada.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LoggingContextTest {
+	
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	private final Logger logger = (Logger) LoggerFactory.getLogger("logger");
+	
+	private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+	
+	@BeforeEach
+	void attach() {
+		appender.start();
+		logger.addAppender(appender);
+	}
+	
+	@AfterEach
+	void detach() {
+		logger.detachAppender(appender);
+		appender.stop();
+	}
+	
+	@Test
+	void formattedMessageCarriesPayloadJson() throws Exception {
+		LoggingContext loggingContext = new LoggingContext("ctx-message");
+		
+		loggingContext.logPayloadLogModel();
+		
+		assertThat(appender.list).hasSize(1);
+		
+		JsonNode payload = MAPPER.readTree(appender.list.get(0).getFormattedMessage());
+		
+		assertThat(payload.path("context_id").asText()).isEqualTo("ctx-message");
+	}
+}
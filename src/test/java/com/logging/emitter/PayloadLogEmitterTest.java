@@ -0,0 +1,153 @@
+package com.logging.emitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.logging.context.LoggingContext;
+import com.logging.encoder.PayloadLogEncoder;
+import com.logging.enumerator.BackpressurePolicy;
+import com.logging.model.PayloadLogModel;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+
+/**
+ * Testes do encerramento do {@link PayloadLogEmitter} no modo assíncrono,
+ * verificando que nenhum payload é perdido e que threads de requisição
+ * bloqueadas pelo buffer cheio são liberadas.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class PayloadLogEmitterTest {
+	
+	private static final String SLOW_CONTEXT = "slow";
+	
+	private final CountDownLatch slowWriteStarted = new CountDownLatch(1);
+	
+	private final CountDownLatch slowWriteReleased = new CountDownLatch(1);
+	
+	private CapturingAppender appender;
+	
+	private PayloadLogEmitter emitter;
+	
+	@BeforeEach
+	void setUp() {
+		LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		appender = new CapturingAppender();
+		appender.setContext(loggerContext);
+		appender.start();
+		loggerContext.getLogger("logger").addAppender(appender);
+		
+		emitter = new PayloadLogEmitter();
+		ReflectionTestUtils.setField(emitter, "asyncEnabled", true);
+		ReflectionTestUtils.setField(emitter, "capacity", 1);
+		ReflectionTestUtils.setField(emitter, "policy", BackpressurePolicy.BLOCK);
+		ReflectionTestUtils.setField(emitter, "consumers", 1);
+		ReflectionTestUtils.setField(emitter, "sampleRate", 10);
+		ReflectionTestUtils.setField(emitter, "shutdownTimeout", 100L);
+		emitter.start();
+	}
+	
+	@AfterEach
+	void tearDown() {
+		slowWriteReleased.countDown();
+		emitter.shutdown();
+		
+		Logger logger = ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger("logger");
+		logger.detachAppender(appender);
+		appender.stop();
+	}
+	
+	@Test
+	void shutdownReleasesBlockedEmittersAndDrainsPendingPayloads() throws Exception {
+		emitter.emit(new LoggingContext(SLOW_CONTEXT));
+		assertThat(slowWriteStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		
+		emitter.emit(new LoggingContext("queued"));
+		
+		Thread blocked = new Thread(() -> emitter.emit(new LoggingContext("blocked")));
+		blocked.start();
+		awaitWaiting(blocked);
+		
+		emitter.shutdown();
+		blocked.join(TimeUnit.SECONDS.toMillis(5));
+		
+		assertThat(blocked.isAlive()).isFalse();
+		assertThat(appender.contextIds).containsExactlyInAnyOrder("queued", "blocked");
+		assertThat(emitter.getPendingCount()).isZero();
+		
+		emitter.emit(new LoggingContext("after-shutdown"));
+		
+		assertThat(appender.contextIds).contains("after-shutdown");
+		assertThat(emitter.getDroppedCount()).isZero();
+	}
+	
+	@Test
+	void emissionsAfterShutdownAreWrittenSynchronously() {
+		emitter.shutdown();
+		
+		emitter.emit(new LoggingContext("late"));
+		
+		assertThat(emitter.tryEmit(new LoggingContext("late-event-loop"))).isFalse();
+		assertThat(appender.contextIds).containsExactly("late");
+	}
+	
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		
+		while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		
+		assertThat(thread.getState()).isEqualTo(Thread.State.WAITING);
+	}
+	
+	/**
+	 * Appender que registra os ids dos payloads escritos, bloqueando a escrita
+	 * do contexto {@link #SLOW_CONTEXT} para simular uma thread consumidora lenta.
+	 */
+	private final class CapturingAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+		
+		private final Queue<String> contextIds = new ConcurrentLinkedQueue<>();
+		
+		@Override
+		protected void append(ILoggingEvent event) {
+			PayloadLogModel payloadLogModel = PayloadLogEncoder.findPayloadLogModel(event);
+			
+			if(payloadLogModel == null) {
+				return;
+			}
+			
+			if(SLOW_CONTEXT.equals(payloadLogModel.getContextId())) {
+				slowWriteStarted.countDown();
+				awaitRelease();
+				return;
+			}
+			
+			contextIds.add(payloadLogModel.getContextId());
+		}
+		
+		private void awaitRelease() {
+			try {
+				slowWriteReleased.await(10, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,297 @@
+package com.logging.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logging.component.LoggingComponent;
+import com.logging.component.LoggingSamplingComponent;
+import com.logging.concurrent.LoggingContextPropagation;
+import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextConstants;
+import com.logging.context.LoggingContextHolder;
+import com.logging.context.LoggingContextMap;
+import com.logging.emitter.PayloadLogEmitter;
+import com.logging.encoder.PayloadLogEncoder;
+import com.logging.metrics.LatencyHistogramRegistry;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+
+/**
+ * Teste de estresse do {@link LoggingFilter}, executando requisições
+ * concorrentes e verificando que cada requisição enxerga apenas o próprio
+ * contexto, inclusive nas tarefas repassadas a outras threads através do
+ * {@link LoggingContextPropagation}.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@SpringJUnitConfig(classes = { LoggingFilter.class, LoggingComponent.class, LoggingSamplingComponent.class,
+		PayloadLogEmitter.class, LatencyHistogramRegistry.class })
+@TestPropertySource(properties = "app.logging.headers-sensiveis=authorization")
+class LoggingFilterConcurrencyTest {
+	
+	private static final int REQUEST_THREADS = 16;
+	
+	private static final int REQUESTS_PER_THREAD = 250;
+	
+	private static final int STEPS_PER_REQUEST = 4;
+	
+	private static final int HAND_OFF_STEPS = 3;
+	
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	@Autowired
+	private LoggingFilter loggingFilter;
+	
+	@Autowired
+	private LoggingComponent loggingComponent;
+	
+	private ExecutorService requestExecutor;
+	
+	private ExecutorService handOffExecutor;
+	
+	private PayloadCaptureAppender appender;
+	
+	@BeforeEach
+	void setUp() {
+		requestExecutor = Executors.newFixedThreadPool(REQUEST_THREADS);
+		handOffExecutor = Executors.newFixedThreadPool(4);
+		
+		LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+		appender = new PayloadCaptureAppender();
+		appender.setContext(loggerContext);
+		appender.start();
+		loggerContext.getLogger("logger").addAppender(appender);
+	}
+	
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		requestExecutor.shutdownNow();
+		handOffExecutor.shutdownNow();
+		requestExecutor.awaitTermination(10, TimeUnit.SECONDS);
+		handOffExecutor.awaitTermination(10, TimeUnit.SECONDS);
+		
+		Logger logger = ((LoggerContext) LoggerFactory.getILoggerFactory()).getLogger("logger");
+		logger.detachAppender(appender);
+		appender.stop();
+		
+		ReflectionTestUtils.setField(loggingFilter, "poolEnabled", false);
+		loggingFilter.init();
+	}
+	
+	@Test
+	void contextsNeverCrossBetweenConcurrentRequests() throws Exception {
+		runConcurrentRequests();
+	}
+	
+	@Test
+	void pooledContextsNeverCrossBetweenConcurrentRequests() throws Exception {
+		ReflectionTestUtils.setField(loggingFilter, "poolEnabled", true);
+		loggingFilter.init();
+		
+		runConcurrentRequests();
+	}
+	
+	/**
+	 * Executa as requisições concorrentemente e valida os payloads emitidos.
+	 */
+	private void runConcurrentRequests() throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> workers = new ArrayList<>();
+		
+		for (int thread = 0; thread < REQUEST_THREADS; thread++) {
+			String prefix = "t" + thread + "-r";
+			
+			workers.add(requestExecutor.submit(() -> {
+				start.await();
+				
+				for (int request = 0; request < REQUESTS_PER_THREAD; request++) {
+					runRequest(prefix + request);
+				}
+				
+				return null;
+			}));
+		}
+		
+		start.countDown();
+		
+		for (Future<?> worker : workers) {
+			await(worker);
+		}
+		
+		assertEmittedPayloads();
+		assertThat(LoggingContextMap.quantidadeContextos()).isZero();
+	}
+	
+	/**
+	 * Executa uma requisição pelo filter. A cadeia valida o contexto vinculado à
+	 * thread, adiciona steps identificados pela requisição e os repassa a outras
+	 * threads como {@link Runnable}, {@link Callable} e {@link CompletableFuture}.
+	 * 
+	 * @param requestKey ({@link String}) - identificador da requisição
+	 */
+	private void runRequest(String requestKey) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stress/" + requestKey);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		
+		FilterChain chain = (chainRequest, chainResponse) -> {
+			LoggingContext loggingContext = assertBoundContext(chainRequest);
+			
+			for (int step = 0; step < STEPS_PER_REQUEST; step++) {
+				addStep(requestKey, "step-" + step);
+			}
+			
+			Future<?> runnable = handOffExecutor.submit(LoggingContextPropagation.wrap((Runnable) () -> {
+				assertThat(LoggingContextHolder.recuperarContexto()).isSameAs(loggingContext);
+				addStep(requestKey, "runnable");
+			}));
+			
+			Future<String> callable = handOffExecutor.submit(LoggingContextPropagation.wrap((Callable<String>) () -> {
+				addStep(requestKey, "callable");
+				return LoggingContextHolder.recuperarContexto().getContextId();
+			}));
+			
+			CompletableFuture<String> supplier = CompletableFuture.supplyAsync(LoggingContextPropagation.wrap((Supplier<String>) () -> {
+				addStep(requestKey, "supplier");
+				return MDC.get(LoggingContextConstants.CONTEXT_ID);
+			}), handOffExecutor);
+			
+			Future<LoggingContext> unwrapped = handOffExecutor.submit(LoggingContextHolder::recuperarContexto);
+			
+			await(runnable);
+			assertThat(await(callable)).isEqualTo(loggingContext.getContextId());
+			assertThat(await(supplier)).isEqualTo(loggingContext.getContextId());
+			assertThat(await(unwrapped)).isNull();
+			assertThat(LoggingContextHolder.recuperarContexto()).isSameAs(loggingContext);
+		};
+		
+		loggingFilter.doFilter(request, response, chain);
+		
+		assertThat(LoggingContextHolder.recuperarContexto()).isNull();
+		assertThat(MDC.get(LoggingContextConstants.CONTEXT_ID)).isNull();
+	}
+	
+	/**
+	 * Valida que o contexto vinculado à thread é o contexto da requisição.
+	 */
+	private static LoggingContext assertBoundContext(ServletRequest request) {
+		LoggingContext loggingContext = LoggingContextHolder.recuperarContexto();
+		
+		assertThat(loggingContext).isNotNull();
+		assertThat(request.getAttribute(LoggingContextConstants.CONTEXT_ATTRIBUTE)).isSameAs(loggingContext);
+		assertThat(MDC.get(LoggingContextConstants.CONTEXT_ID)).isEqualTo(loggingContext.getContextId());
+		assertThat(LoggingContextMap.recuperarContexto(loggingContext.getContextId())).isSameAs(loggingContext);
+		
+		return loggingContext;
+	}
+	
+	/**
+	 * Adiciona um internal step identificado pela requisição.
+	 */
+	private void addStep(String requestKey, String step) {
+		loggingComponent.addInternalStepLog(requestKey + ":" + step, Level.INFO, LoggingFilterConcurrencyTest.class);
+	}
+	
+	/**
+	 * Valida que cada requisição emitiu um único payload, com id de contexto
+	 * exclusivo e contendo apenas os próprios steps.
+	 */
+	private void assertEmittedPayloads() throws Exception {
+		assertThat(appender.records).hasSize(REQUEST_THREADS * REQUESTS_PER_THREAD);
+		
+		Set<String> contextIds = new HashSet<>();
+		Set<String> requestKeys = new HashSet<>();
+		
+		for (byte[] record : appender.records) {
+			JsonNode payload = MAPPER.readTree(record);
+			String requestKey = payload.path("request").path("uri").asText().substring("/stress/".length());
+			
+			assertThat(contextIds.add(payload.path("context_id").asText())).isTrue();
+			assertThat(requestKeys.add(requestKey)).isTrue();
+			
+			JsonNode steps = payload.path("internalSteps");
+			assertThat(steps).hasSize(STEPS_PER_REQUEST + HAND_OFF_STEPS);
+			
+			for (JsonNode step : steps) {
+				assertThat(step.path("message").asText()).startsWith(requestKey + ":");
+			}
+		}
+	}
+	
+	/**
+	 * Aguarda a tarefa, relançando falhas de asserção ocorridas em outra thread.
+	 */
+	private static <T> T await(Future<T> future) {
+		try {
+			return future.get(30, TimeUnit.SECONDS);
+		}
+		catch (ExecutionException e) {
+			throw new AssertionError(e.getCause());
+		}
+		catch (Exception e) {
+			throw new AssertionError(e);
+		}
+	}
+	
+	/**
+	 * Appender que serializa os payloads na thread da emissão, antes da
+	 * liberação do contexto.
+	 */
+	private static final class PayloadCaptureAppender extends AppenderBase<ILoggingEvent> {
+		
+		private final PayloadLogEncoder encoder = new PayloadLogEncoder();
+		
+		private final Queue<byte[]> records = new ConcurrentLinkedQueue<>();
+		
+		@Override
+		public void start() {
+			encoder.setContext(getContext());
+			encoder.start();
+			super.start();
+		}
+		
+		@Override
+		protected void append(ILoggingEvent event) {
+			if(PayloadLogEncoder.findPayloadLogModel(event) != null) {
+				records.add(encoder.encode(event));
+			}
+		}
+	}
+}
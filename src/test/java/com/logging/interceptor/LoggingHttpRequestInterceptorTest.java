@@ -0,0 +1,73 @@
+package com.logging.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.SocketTimeoutException;
+import java.net.URI;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.logging.component.LoggingComponent;
+import com.logging.component.LoggingSamplingComponent;
+import com.logging.context.LoggingContext;
+import com.logging.context.LoggingContextHolder;
+import com.logging.metrics.LatencyHistogramRegistry;
+import com.logging.model.ExternalStepLogModel;
+import com.logging.model.PayloadLogModel;
+
+/**
+ * Testes do {@link LoggingHttpRequestInterceptor}, verificando que chamadas
+ * interrompidas por exceção são registradas como steps com falha e mantidas
+ * pela amostragem de cauda.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+@SpringJUnitConfig(classes = { LoggingHttpRequestInterceptor.class, LoggingComponent.class,
+		LoggingSamplingComponent.class, LatencyHistogramRegistry.class })
+@TestPropertySource(properties = { "app.logging.headers-sensiveis=authorization", "app.logging.amostragem.cauda.taxa=0" })
+class LoggingHttpRequestInterceptorTest {
+	
+	@Autowired
+	private LoggingHttpRequestInterceptor interceptor;
+	
+	@Autowired
+	private LoggingSamplingComponent loggingSamplingComponent;
+	
+	@AfterEach
+	void unbind() {
+		LoggingContextHolder.desvincularContexto();
+	}
+	
+	@Test
+	void failedCallIsRecordedAsFailedStepBeforeRethrow() {
+		LoggingContext loggingContext = new LoggingContext("ctx");
+		LoggingContextHolder.vincularContexto(loggingContext);
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://downstream/recurso"));
+		SocketTimeoutException timeout = new SocketTimeoutException("Read timed out");
+		
+		assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], (httpRequest, body) -> {
+			throw timeout;
+		})).isSameAs(timeout);
+		
+		PayloadLogModel payloadLogModel = loggingContext.getPayloadLogModel();
+		
+		assertThat(payloadLogModel.getExternalSteps()).hasSize(1);
+		
+		ExternalStepLogModel externalStepLogModel = payloadLogModel.getExternalSteps().get(0);
+		
+		assertThat(externalStepLogModel.isFailed()).isTrue();
+		assertThat(externalStepLogModel.getStatus()).isEqualTo("0 SocketTimeoutException");
+		assertThat(externalStepLogModel.getStepId()).isEqualTo("http://downstream/recurso");
+		assertThat(externalStepLogModel.getDurationNanos()).isGreaterThanOrEqualTo(0L);
+		assertThat(loggingSamplingComponent.sampleTail(payloadLogModel)).isTrue();
+	}
+}
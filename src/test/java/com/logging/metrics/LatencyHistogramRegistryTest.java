@@ -0,0 +1,50 @@
+package com.logging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Testes do registro JMX do {@link LatencyHistogramRegistry}, verificando que
+ * cada instância remove apenas os MBeans que registrou.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LatencyHistogramRegistryTest {
+	
+	private static final String ROUTE = "/registro-compartilhado";
+	
+	@Test
+	void shutdownKeepsMBeansRegisteredByOtherInstances() throws Exception {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = new ObjectName("com.logging:type=RouteLatency,name=" + ObjectName.quote(ROUTE));
+		LatencyHistogramRegistry first = newRegistry();
+		LatencyHistogramRegistry second = newRegistry();
+		
+		first.recordRoute(ROUTE, 1_000L, false);
+		second.recordRoute(ROUTE, 1_000L, false);
+		
+		second.shutdown();
+		
+		assertThat(mBeanServer.isRegistered(objectName)).isTrue();
+		
+		first.shutdown();
+		
+		assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+	}
+	
+	private static LatencyHistogramRegistry newRegistry() {
+		LatencyHistogramRegistry registry = new LatencyHistogramRegistry();
+		ReflectionTestUtils.setField(registry, "enabled", true);
+		ReflectionTestUtils.setField(registry, "maxKeys", 500);
+		return registry;
+	}
+}
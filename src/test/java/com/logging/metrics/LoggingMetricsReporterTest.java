@@ -0,0 +1,39 @@
+package com.logging.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Testes do registro JMX do {@link LoggingMetricsReporter}, verificando que o
+ * MBean é removido apenas pela instância que o registrou.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class LoggingMetricsReporterTest {
+	
+	@Test
+	void shutdownKeepsMBeanRegisteredByOtherInstance() throws Exception {
+		MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objectName = new ObjectName("com.logging:type=LoggingMetrics");
+		LoggingMetricsReporter first = new LoggingMetricsReporter();
+		LoggingMetricsReporter second = new LoggingMetricsReporter();
+		
+		first.start();
+		second.start();
+		second.shutdown();
+		
+		assertThat(mBeanServer.isRegistered(objectName)).isTrue();
+		
+		first.shutdown();
+		
+		assertThat(mBeanServer.isRegistered(objectName)).isFalse();
+	}
+}
@@ -0,0 +1,81 @@
+package com.logging.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logging.component.LoggingBodyPolicy;
+import com.logging.component.LoggingObjectWriters;
+
+/**
+ * Testes da serialização do {@link BodyCapture}, verificando o mascaramento em
+ * uma única leitura, os marcadores de capturas truncadas e inválidas e as
+ * formas entre aspas do trecho embutido.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class BodyCaptureTest {
+	
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	private static final LoggingBodyPolicy MASKING_POLICY = new LoggingBodyPolicy(8192, Collections.singleton("senha"));
+	
+	@Test
+	void sensitiveFieldsAreMaskedInByteAndCharGenerators() throws Exception {
+		BodyCapture capture = BodyCapture.forContent("{\"usuario\":\"ana\",\"senha\":\"segredo\",\"itens\":[1,2.5,null]}".getBytes(StandardCharsets.UTF_8), MASKING_POLICY);
+		
+		JsonNode fromBytes = MAPPER.readTree(LoggingObjectWriters.compactWriter().writeValueAsBytes(capture));
+		JsonNode fromChars = MAPPER.readTree(LoggingObjectWriters.compactWriter().writeValueAsString(capture));
+		
+		assertThat(fromBytes).isEqualTo(fromChars);
+		assertThat(fromBytes.path("usuario").asText()).isEqualTo("ana");
+		assertThat(fromBytes.path("senha").asText()).isNotEqualTo("segredo").hasSize("segredo".length());
+		assertThat(fromBytes.path("itens")).hasSize(3);
+	}
+	
+	@Test
+	void invalidJsonIsReplacedByMarkerWhenMasking() throws Exception {
+		assertInvalid("{\"senha\":\"segredo\",");
+		assertInvalid("{\"senha\":1} {\"senha\":2}");
+		assertInvalid(" ");
+	}
+	
+	@Test
+	void truncatedCaptureUsesSharedMarkerWithLimit() throws Exception {
+		BodyCapture capture = BodyCapture.forStream(new LoggingBodyPolicy(8, Collections.emptySet()));
+		byte[] content = "{\"usuario\":\"ana\"}".getBytes(StandardCharsets.UTF_8);
+		capture.write(content, 0, content.length);
+		
+		JsonNode body = MAPPER.readTree(LoggingObjectWriters.compactWriter().writeValueAsBytes(capture));
+		
+		assertThat(body.path("truncated").asText()).isEqualTo("> 8 bytes");
+	}
+	
+	@Test
+	void quotedFormsMatchSerializedString() {
+		byte[] content = "{\"a\":\"ação\"}".getBytes(StandardCharsets.UTF_8);
+		BodyCapture.RawJson rawJson = new BodyCapture.RawJson(content);
+		SerializedString expected = new SerializedString(new String(content, StandardCharsets.UTF_8));
+		
+		assertThat(rawJson.asQuotedUTF8()).isEqualTo(expected.asQuotedUTF8());
+		assertThat(rawJson.asQuotedChars()).isEqualTo(expected.asQuotedChars());
+		assertThat(rawJson.appendQuotedUTF8(new byte[2], 0)).isEqualTo(-1);
+	}
+	
+	private static void assertInvalid(String json) throws Exception {
+		byte[] content = json.getBytes(StandardCharsets.UTF_8);
+		BodyCapture capture = BodyCapture.forContent(content, MASKING_POLICY);
+		
+		JsonNode body = MAPPER.readTree(LoggingObjectWriters.compactWriter().writeValueAsBytes(capture));
+		
+		assertThat(body.path("invalid").asText()).isEqualTo(content.length + " bytes");
+	}
+}
@@ -0,0 +1,122 @@
+package com.logging.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.logging.component.LoggingObjectWriters;
+import com.logging.context.LoggingContextLimits;
+
+/**
+ * Testes da serialização limitada do {@link BodyLogModel}, verificando que o
+ * body é serializado uma única vez por emissão e que a escrita é interrompida
+ * ao exceder o limite de bytes.
+ * 
+ * @author Mauricio Souza Couto
+ * @since 2026-10-18
+ *
+ */
+class BodyLogModelTest {
+	
+	private static final int MAX_BODY_BYTES = 1024;
+	
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	
+	@Test
+	void bodyWithinLimitIsSerializedOncePerEmission() throws Exception {
+		AtomicInteger reads = new AtomicInteger();
+		PayloadLogModel payloadLogModel = new PayloadLogModel("ctx", new LoggingContextLimits(0, 0, 0, MAX_BODY_BYTES));
+		payloadLogModel.addRequestBody(new CountingItem("item", reads));
+		
+		JsonNode first = MAPPER.readTree(payloadLogModel.toString());
+		
+		assertThat(first.path("request").path("body").path("name").asText()).isEqualTo("item");
+		assertThat(reads).hasValue(1);
+		
+		JsonNode second = MAPPER.readTree(payloadLogModel.toString());
+		
+		assertThat(second.path("request").path("body")).isEqualTo(first.path("request").path("body"));
+		assertThat(reads).hasValue(2);
+		assertThat(payloadLogModel.getTruncated()).isNull();
+	}
+	
+	@Test
+	void bodyOverLimitIsAbortedAndReplacedByMarker() throws Exception {
+		AtomicInteger reads = new AtomicInteger();
+		List<CountingItem> items = new ArrayList<>();
+		
+		for (int i = 0; i < 10_000; i++) {
+			items.add(new CountingItem("item-" + i, reads));
+		}
+		
+		PayloadLogModel payloadLogModel = new PayloadLogModel("ctx", new LoggingContextLimits(0, 0, 0, MAX_BODY_BYTES));
+		payloadLogModel.addResponseBody(items);
+		
+		JsonNode payload = MAPPER.readTree(payloadLogModel.toString());
+		
+		assertThat(payload.path("response").path("body").path("truncated").asText()).isEqualTo("> " + MAX_BODY_BYTES + " bytes");
+		assertThat(payloadLogModel.getTruncated().getBodyBytes()).isGreaterThan(MAX_BODY_BYTES);
+		assertThat(reads.get()).isLessThan(items.size());
+		
+		int readsAfterFirstSerialization = reads.get();
+		MAPPER.readTree(payloadLogModel.toString());
+		
+		assertThat(reads).hasValue(readsAfterFirstSerialization);
+	}
+	
+	@Test
+	void bodyWithoutLimitIsWrittenDirectly() throws Exception {
+		AtomicInteger reads = new AtomicInteger();
+		PayloadLogModel payloadLogModel = new PayloadLogModel("ctx", LoggingContextLimits.UNLIMITED);
+		payloadLogModel.addRequestBody(new CountingItem("item", reads));
+		
+		JsonNode payload = MAPPER.readTree(payloadLogModel.toString());
+		
+		assertThat(payload.path("request").path("body").path("name").asText()).isEqualTo("item");
+		assertThat(reads).hasValue(1);
+	}
+	
+	@Test
+	void multibyteBodyIsEmbeddedIntactInByteAndCharGenerators() throws Exception {
+		StringBuilder name = new StringBuilder();
+		
+		for (int i = 0; i < 10_000; i++) {
+			name.append("ação-");
+		}
+		
+		PayloadLogModel payloadLogModel = new PayloadLogModel("ctx", new LoggingContextLimits(0, 0, 0, 256 * 1024));
+		payloadLogModel.addRequestBody(new CountingItem(name.toString(), new AtomicInteger()));
+		
+		JsonNode fromChars = MAPPER.readTree(payloadLogModel.toString());
+		JsonNode fromBytes = MAPPER.readTree(LoggingObjectWriters.compactWriter().writeValueAsBytes(payloadLogModel));
+		
+		assertThat(fromChars.path("request").path("body").path("name").asText()).isEqualTo(name.toString());
+		assertThat(fromBytes.path("request").path("body").path("name").asText()).isEqualTo(name.toString());
+	}
+	
+	/**
+	 * Item que contabiliza as leituras realizadas pela serialização.
+	 */
+	public static final class CountingItem {
+		
+		private final String name;
+		
+		private final AtomicInteger reads;
+		
+		CountingItem(String name, AtomicInteger reads) {
+			this.name = name;
+			this.reads = reads;
+		}
+		
+		public String getName() {
+			reads.incrementAndGet();
+			return name;
+		}
+	}
+}